@@ -2,39 +2,96 @@ package com.planit.ai.client;
 
 import com.planit.ai.dto.AiRequest;
 import com.planit.ai.dto.AiResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @Component
 @RequiredArgsConstructor
 public class AiApiClient {
     private static final Logger log = LoggerFactory.getLogger(AiApiClient.class);
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE = new ParameterizedTypeReference<>() {
+    };
+    private static final String STREAM_DONE = "[DONE]";
     private final WebClient aiWebClient;
     @Value("${ai.mock-enabled:false}")
     private boolean mockEnabled;
+    @Value("${ai.chat-stream-path:/api/v1/chatbot/stream}")
+    private String chatStreamPath;
 
-    public String requestAiReply(AiRequest request) {
+    /**
+     * 챗봇 응답을 비동기로 요청한다. 호출 스레드를 막지 않으며,
+     * 시도마다 timeout 을 적용하고 연결 오류/timeout/5xx 는 backoff 후 maxAttempts 까지 재시도한다.
+     */
+    public Mono<String> requestAiReply(AiRequest request, Duration timeout, int maxAttempts, Duration backoff) {
         if (mockEnabled) {
-            String reply = "Mock AI response for tripId=" + request.getTripId();
             log.info("Returning mock AI reply for tripId={}", request.getTripId());
-            return reply;
+            return Mono.just("Mock AI response for tripId=" + request.getTripId());
         }
 
-        AiResponse response = aiWebClient.post()
+        return aiWebClient.post()
                 .uri("/api/v1/chatbot")
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(AiResponse.class)
-                .block();
-        if (response == null) {
-            log.warn("AI response empty for tripId={}", request.getTripId());
-            throw new IllegalStateException("AI service returned empty response");
+                .timeout(timeout)
+                .retryWhen(Retry.backoff(Math.max(0, maxAttempts - 1), backoff)
+                        .filter(AiApiClient::isRetryable)
+                        .doBeforeRetry(signal -> log.warn("AI reply retry tripId={}, attempt={}, reason={}",
+                                request.getTripId(), signal.totalRetries() + 1, signal.failure().toString()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("AI service returned empty response")))
+                .map(AiResponse::getContent);
+    }
+
+    /**
+     * 챗봇 응답을 SSE 로 받아 delta 문자열 Flux 로 돌려준다. 각 event 의 data 가 이어 붙일 텍스트 조각이며 "[DONE]" 은 종료 표시로 버린다.
+     * 첫 조각과 조각 사이 대기는 idleTimeout 으로 제한하고, 아직 아무 조각도 받지 못한 실패만 재시도한다(이미 보낸 delta 중복 방지).
+     */
+    public Flux<String> streamAiReply(AiRequest request, Duration idleTimeout, int maxAttempts, Duration backoff) {
+        if (mockEnabled) {
+            log.info("Returning mock AI stream for tripId={}", request.getTripId());
+            return Flux.fromArray(("Mock AI response for tripId=" + request.getTripId()).split("(?<= )"));
+        }
+
+        AtomicBoolean started = new AtomicBoolean(false);
+        return aiWebClient.post()
+                .uri(chatStreamPath)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .map(event -> event.data() == null ? "" : event.data())
+                .takeWhile(data -> !STREAM_DONE.equals(data))
+                .filter(data -> !data.isEmpty())
+                .timeout(idleTimeout)
+                .doOnNext(data -> started.set(true))
+                .retryWhen(Retry.backoff(Math.max(0, maxAttempts - 1), backoff)
+                        .filter(ex -> !started.get() && isRetryable(ex))
+                        .doBeforeRetry(signal -> log.warn("AI stream retry tripId={}, attempt={}, reason={}",
+                                request.getTripId(), signal.totalRetries() + 1, signal.failure().toString()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private static boolean isRetryable(Throwable ex) {
+        if (ex instanceof TimeoutException || ex instanceof WebClientRequestException) {
+            return true;
         }
-        System.out.println("AI챗봇 응답 객체: "+response);
-        return response.getContent();
+        return ex instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is5xxServerError();
     }
 }
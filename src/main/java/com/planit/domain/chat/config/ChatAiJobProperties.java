@@ -0,0 +1,20 @@
+package com.planit.domain.chat.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.chat.ai")
+public class ChatAiJobProperties {
+    private Duration timeout = Duration.ofSeconds(30);
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofSeconds(1);
+    private int maxInFlight = 32;
+    private boolean streamingEnabled = false;
+    private Duration userTokenTtl = Duration.ofMinutes(5);
+}
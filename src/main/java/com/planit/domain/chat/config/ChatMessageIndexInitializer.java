@@ -0,0 +1,52 @@
+package com.planit.domain.chat.config;
+
+import com.planit.domain.chat.document.ChatMessageDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat_messages 인덱스를 기동 시 명시적으로 보장한다(auto-index-creation 비활성 기본값에 의존하지 않음).
+ * 이미 같은 정의로 있으면 no-op 이다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.chat", name = "ensure-indexes", havingValue = "true", matchIfMissing = true)
+public class ChatMessageIndexInitializer {
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageIndexInitializer.class);
+
+    static final String TRIP_SEQ_INDEX = "tripId_seq_desc";
+    static final String TRIP_CREATED_AT_INDEX = "tripId_createdAt_desc";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ChatMessageIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(ChatMessageDocument.class);
+            // seq 커서 조회/최대 seq 조회용. 방 안에서 seq 는 유일하다.
+            indexOps.ensureIndex(new Index()
+                    .on("tripId", Sort.Direction.ASC)
+                    .on("seq", Sort.Direction.DESC)
+                    .named(TRIP_SEQ_INDEX));
+            // 기존 before(createdAt) 파라미터 호환용.
+            indexOps.ensureIndex(new Index()
+                    .on("tripId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .named(TRIP_CREATED_AT_INDEX));
+            log.info("[CHAT] chat_messages indexes ensured");
+        } catch (Exception ex) {
+            log.warn("[CHAT] chat_messages index creation failed: {}", ex.getMessage());
+        }
+    }
+}
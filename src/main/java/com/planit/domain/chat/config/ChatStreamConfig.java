@@ -1,7 +1,9 @@
 package com.planit.domain.chat.config;
 
+import com.planit.domain.chat.service.ChatAiReplyWorker;
 import com.planit.domain.chat.service.ChatResultListener;
 import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.global.stream.StreamPendingReclaimer;
 import java.time.Duration;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -14,7 +16,6 @@ import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.StreamOffset;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
 import org.springframework.data.redis.stream.Subscription;
 
@@ -28,19 +29,20 @@ public class ChatStreamConfig {
             RedisConnectionFactory connectionFactory,
             RedisStreamProperties streamProperties,
             ChatResultListener listener,
-            StringRedisTemplate redisTemplate
+            StreamPendingReclaimer pendingReclaimer
     ) {
         ensureGroupExists(connectionFactory, streamProperties.getChatResultsKey(), CONSUMER_GROUP);
 
-        StreamMessageListenerContainer.StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
-                StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
-                        .pollTimeout(Duration.ofSeconds(5))
-                        .build();
-
-        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
-                StreamMessageListenerContainer.create(connectionFactory, options);
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = createContainer(connectionFactory);
 
         String consumerName = "chat-worker-" + UUID.randomUUID();
+        pendingReclaimer.register(
+                streamProperties.getChatResultsKey(),
+                CONSUMER_GROUP,
+                consumerName,
+                streamProperties.getChatResultsDeadLetterKey(),
+                listener
+        );
 
         Subscription subscription = container.receive(
                 Consumer.from(CONSUMER_GROUP, consumerName),
@@ -52,6 +54,49 @@ public class ChatStreamConfig {
         return subscription;
     }
 
+    @Bean
+    public Subscription chatJobsSubscription(
+            RedisConnectionFactory connectionFactory,
+            RedisStreamProperties streamProperties,
+            ChatAiReplyWorker worker,
+            StreamPendingReclaimer pendingReclaimer
+    ) {
+        ensureGroupExists(connectionFactory, streamProperties.getChatJobsKey(), streamProperties.getChatJobsGroup());
+
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = createContainer(connectionFactory);
+
+        String consumerName = "chat-ai-worker-" + UUID.randomUUID();
+        log.info("[CHAT] subscribe stream={}, group={}, consumer={}",
+                streamProperties.getChatJobsKey(), streamProperties.getChatJobsGroup(), consumerName);
+        pendingReclaimer.register(
+                streamProperties.getChatJobsKey(),
+                streamProperties.getChatJobsGroup(),
+                consumerName,
+                streamProperties.getChatDeadLetterKey(),
+                worker
+        );
+
+        Subscription subscription = container.receive(
+                Consumer.from(streamProperties.getChatJobsGroup(), consumerName),
+                StreamOffset.create(streamProperties.getChatJobsKey(), ReadOffset.lastConsumed()),
+                worker
+        );
+
+        container.start();
+        return subscription;
+    }
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> createContainer(
+            RedisConnectionFactory connectionFactory
+    ) {
+        StreamMessageListenerContainer.StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(5))
+                        .errorHandler(ex -> log.error("Redis chat stream listener error", ex))
+                        .build();
+        return StreamMessageListenerContainer.create(connectionFactory, options);
+    }
+
     private void ensureGroupExists(RedisConnectionFactory connectionFactory, String streamKey, String group) {
         try (RedisConnection connection = connectionFactory.getConnection()) {
             connection.xGroupCreate(streamKey.getBytes(), group, ReadOffset.latest(), true);
@@ -0,0 +1,121 @@
+package com.planit.domain.chat.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.planit.domain.trip.service.TripAccessService;
+import com.planit.domain.user.entity.User;
+import com.planit.domain.user.repository.UserRepository;
+import com.planit.domain.user.security.JwtProvider;
+import com.planit.domain.user.security.JwtProvider.VerifiedToken;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 인증/인가 캐시.
+ * - token -> 검증된 사용자: 재연결이 몰려도 같은 토큰은 JWT 파싱과 users 조회를 다시 하지 않는다(토큰 만료 시각을 넘지 않음).
+ * - 세션별 읽기 가능 trip id 집합: SUBSCRIBE/SEND 마다 Set 조회로 확인하고 ttl 이 지나면 TripAccessService 로 다시 계산한다.
+ */
+@Component
+public class StompAuthorizationCache {
+
+    private final JwtProvider jwtProvider;
+    private final UserRepository userRepository;
+    private final TripAccessService tripAccessService;
+    private final Cache<String, AuthenticatedUser> principalsByToken;
+    private final Duration tripAccessTtl;
+    private final Duration tripAccessMissRefreshInterval;
+
+    public StompAuthorizationCache(
+            JwtProvider jwtProvider,
+            UserRepository userRepository,
+            TripAccessService tripAccessService,
+            @Value("${app.websocket.auth.principal-ttl:PT5M}") Duration principalTtl,
+            @Value("${app.websocket.auth.principal-max-size:10000}") long principalMaxSize,
+            @Value("${app.websocket.auth.trip-access-ttl:PT1M}") Duration tripAccessTtl,
+            @Value("${app.websocket.auth.trip-access-miss-refresh-interval:PT5S}") Duration tripAccessMissRefreshInterval
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.userRepository = userRepository;
+        this.tripAccessService = tripAccessService;
+        this.tripAccessTtl = tripAccessTtl;
+        this.tripAccessMissRefreshInterval = tripAccessMissRefreshInterval;
+        this.principalsByToken = Caffeine.newBuilder()
+                .maximumSize(principalMaxSize)
+                .expireAfter(new Expiry<String, AuthenticatedUser>() {
+                    @Override
+                    public long expireAfterCreate(String key, AuthenticatedUser value, long currentTime) {
+                        if (value.tokenExpiresAt() == null) {
+                            return principalTtl.toNanos();
+                        }
+                        Duration untilExpiry = Duration.between(Instant.now(), value.tokenExpiresAt());
+                        return Math.max(0L, Math.min(principalTtl.toNanos(), untilExpiry.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, AuthenticatedUser value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, AuthenticatedUser value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /** 유효한 토큰이면 사용자 정보를, 아니면 empty. 결과가 없는 경우(무효 토큰/탈퇴 사용자)는 캐시하지 않는다. */
+    public Optional<AuthenticatedUser> authenticate(String token) {
+        AuthenticatedUser cached = principalsByToken.getIfPresent(token);
+        if (cached != null && (cached.tokenExpiresAt() == null || cached.tokenExpiresAt().isAfter(Instant.now()))) {
+            return Optional.of(cached);
+        }
+        Optional<VerifiedToken> verified = jwtProvider.verify(token);
+        if (verified.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<User> user = userRepository.findByLoginIdAndDeletedFalse(verified.get().subject());
+        if (user.isEmpty()) {
+            return Optional.empty();
+        }
+        AuthenticatedUser authenticated = new AuthenticatedUser(
+                user.get().getId(),
+                user.get().getLoginId(),
+                verified.get().expiresAt()
+        );
+        principalsByToken.put(token, authenticated);
+        return Optional.of(authenticated);
+    }
+
+    public SessionTripAccess loadTripAccess(Long userId) {
+        return new SessionTripAccess(userId, tripAccessService.getReadableTripIds(userId), System.nanoTime());
+    }
+
+    /**
+     * 세션 캐시로 trip 읽기 권한을 확인한다. ttl 이 지났거나, 없는 trip 인데 마지막 갱신 후 miss-refresh-interval 이 지났으면
+     * (방금 그룹에 합류한 경우) 다시 계산한 값을 돌려준다. 호출자는 반환된 값을 세션에 저장한다.
+     */
+    public SessionTripAccess ensureFresh(SessionTripAccess access, Long tripId) {
+        long age = System.nanoTime() - access.loadedAtNanos();
+        boolean expired = age >= tripAccessTtl.toNanos();
+        boolean missWorthRefreshing = !access.tripIds().contains(tripId) && age >= tripAccessMissRefreshInterval.toNanos();
+        return expired || missWorthRefreshing ? loadTripAccess(access.userId()) : access;
+    }
+
+    public record AuthenticatedUser(Long userId, String loginId, Instant tokenExpiresAt) {
+    }
+
+    public record SessionTripAccess(Long userId, Set<Long> tripIds, long loadedAtNanos) {
+
+        public boolean canRead(Long tripId) {
+            return tripIds.contains(tripId);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.planit.domain.chat.config;
 
-import com.planit.domain.user.entity.User;
-import com.planit.domain.user.repository.UserRepository;
-import com.planit.domain.user.security.JwtProvider;
-import java.util.Optional;
+import com.planit.domain.chat.config.StompAuthorizationCache.AuthenticatedUser;
+import com.planit.domain.chat.config.StompAuthorizationCache.SessionTripAccess;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -17,12 +18,20 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+/**
+ * STOMP 인증/인가.
+ * CONNECT 에서 토큰을 한 번 검증해(StompAuthorizationCache) 세션에 사용자와 읽기 가능 trip id 를 남기고,
+ * 이후 trip 범위 destination 의 SUBSCRIBE/SEND 는 DB 조회 없이 세션 값으로 확인한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class WebSocketJwtChannelInterceptor implements ChannelInterceptor {
 
-    private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+    public static final String SESSION_USER_ID = "chat.userId";
+    static final String SESSION_TRIP_ACCESS = "chat.tripAccess";
+    private static final Pattern TRIP_DESTINATION = Pattern.compile("^/(?:topic|app)/trips/(\\d+)(?:/.*)?$");
+
+    private final StompAuthorizationCache authorizationCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -32,38 +41,68 @@ public class WebSocketJwtChannelInterceptor implements ChannelInterceptor {
         }
 
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-            String authorization = accessor.getFirstNativeHeader("Authorization");
-            if (!StringUtils.hasText(authorization) || !authorization.startsWith("Bearer ")) {
-                throw new AccessDeniedException("Unauthorized websocket connect");
-            }
-
-            String token = authorization.substring(7);
-            if (!jwtProvider.validateToken(token)) {
-                throw new AccessDeniedException("Invalid websocket token");
-            }
+            connect(accessor);
+        }
 
-            String loginId = jwtProvider.getSubject(token);
-            Optional<User> optionalUser = userRepository.findByLoginIdAndDeletedFalse(loginId);
-            if (optionalUser.isEmpty()) {
-                throw new AccessDeniedException("User not found");
+        if (StompCommand.SEND.equals(accessor.getCommand()) || StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            if (accessor.getUser() == null) {
+                throw new AccessDeniedException("Authentication is required for websocket messaging");
             }
+            authorizeDestination(accessor);
+        }
 
-            User user = optionalUser.get();
-            UserDetails userDetails = org.springframework.security.core.userdetails.User.withUsername(user.getLoginId())
-                    .password(user.getPassword())
-                    .authorities("ROLE_USER")
-                    .build();
+        return message;
+    }
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities());
-            accessor.setUser(authentication);
+    private void connect(StompHeaderAccessor accessor) {
+        String authorization = accessor.getFirstNativeHeader("Authorization");
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith("Bearer ")) {
+            throw new AccessDeniedException("Unauthorized websocket connect");
         }
 
-        if ((StompCommand.SEND.equals(accessor.getCommand()) || StompCommand.SUBSCRIBE.equals(accessor.getCommand()))
-                && accessor.getUser() == null) {
-            throw new AccessDeniedException("Authentication is required for websocket messaging");
+        String token = authorization.substring(7);
+        AuthenticatedUser user = authorizationCache.authenticate(token)
+                .orElseThrow(() -> new AccessDeniedException("Invalid websocket token"));
+
+        // 비밀번호 해시는 STOMP principal 에 필요 없으므로 users 를 다시 읽지 않고 빈 값으로 둔다.
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.withUsername(user.loginId())
+                .password("")
+                .authorities("ROLE_USER")
+                .build();
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities());
+        accessor.setUser(authentication);
+        // presence/typing 처리에서 사용자 조회 없이 쓰도록 세션에 userId 를 남긴다.
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            sessionAttributes.put(SESSION_USER_ID, user.userId());
+            sessionAttributes.put(SESSION_TRIP_ACCESS, authorizationCache.loadTripAccess(user.userId()));
         }
+    }
 
-        return message;
+    /** /topic/trips/{id}/**, /app/trips/{id}/** 는 해당 여행을 읽을 수 있는 세션만 허용한다. 그 외(/user/queue/** 등)는 통과. */
+    private void authorizeDestination(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+        Matcher matcher = TRIP_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+        Long tripId = Long.valueOf(matcher.group(1));
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null
+                || !(sessionAttributes.get(SESSION_TRIP_ACCESS) instanceof SessionTripAccess access)) {
+            throw new AccessDeniedException("Trip access is not loaded for websocket session");
+        }
+        SessionTripAccess fresh = authorizationCache.ensureFresh(access, tripId);
+        if (fresh != access) {
+            sessionAttributes.put(SESSION_TRIP_ACCESS, fresh);
+        }
+        if (!fresh.canRead(tripId)) {
+            throw new AccessDeniedException("No access to trip " + tripId);
+        }
     }
 }
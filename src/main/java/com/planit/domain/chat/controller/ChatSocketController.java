@@ -1,24 +1,38 @@
 package com.planit.domain.chat.controller;
 
+import com.planit.domain.chat.config.WebSocketJwtChannelInterceptor;
 import com.planit.domain.chat.dto.ChatMessageResponse;
+import com.planit.domain.chat.dto.ChatResumeRequest;
+import com.planit.domain.chat.dto.ChatResumeResponse;
 import com.planit.domain.chat.dto.ChatSendRequest;
+import com.planit.domain.chat.dto.ChatTypingRequest;
+import com.planit.domain.chat.service.ChatPresenceService;
 import com.planit.domain.chat.service.ChatService;
+import com.planit.global.websocket.TopicPublisher;
 import java.security.Principal;
+import java.util.Map;
 import org.springframework.security.core.Authentication;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 @Controller
 public class ChatSocketController {
 
     private final ChatService chatService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final TopicPublisher topicPublisher;
+    private final ChatPresenceService chatPresenceService;
 
-    public ChatSocketController(ChatService chatService, SimpMessagingTemplate messagingTemplate) {
+    public ChatSocketController(
+            ChatService chatService,
+            TopicPublisher topicPublisher,
+            ChatPresenceService chatPresenceService
+    ) {
         this.chatService = chatService;
-        this.messagingTemplate = messagingTemplate;
+        this.topicPublisher = topicPublisher;
+        this.chatPresenceService = chatPresenceService;
     }
 
     @MessageMapping("/trips/{tripId}/chat.send")
@@ -32,7 +46,39 @@ public class ChatSocketController {
         }
         String userJwt = extractUserJwt(principal);
         ChatMessageResponse response = chatService.sendUserMessage(tripId, request.content(), principal.getName(), userJwt);
-        messagingTemplate.convertAndSend("/topic/trips/" + tripId + "/chat", response);
+        topicPublisher.publish("/topic/trips/" + tripId + "/chat", response);
+    }
+
+    /**
+     * 재연결 후 topic 구독을 마친 클라이언트가 마지막으로 받은 seq 를 보내면, 빠진 메시지를 요청한 세션에만 한 번에 보낸다.
+     */
+    @MessageMapping("/trips/{tripId}/chat.resume")
+    @SendToUser(destinations = "/queue/chat.resume", broadcast = false)
+    public ChatResumeResponse resume(
+            @DestinationVariable Long tripId,
+            ChatResumeRequest request,
+            Principal principal
+    ) {
+        if (principal == null) {
+            throw new IllegalStateException("WebSocket principal is required");
+        }
+        long lastSeq = request == null || request.lastSeq() == null ? 0L : Math.max(0L, request.lastSeq());
+        return chatService.resume(tripId, principal.getName(), lastSeq);
+    }
+
+    /** 입력 중 표시. 같은 사용자의 반복 신호는 ChatPresenceService 가 throttle 한다. */
+    @MessageMapping("/trips/{tripId}/chat.typing")
+    public void typing(
+            @DestinationVariable Long tripId,
+            ChatTypingRequest request,
+            SimpMessageHeaderAccessor headerAccessor
+    ) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        Object userId = attributes == null ? null : attributes.get(WebSocketJwtChannelInterceptor.SESSION_USER_ID);
+        if (!(userId instanceof Long id)) {
+            throw new IllegalStateException("WebSocket principal is required");
+        }
+        chatPresenceService.typing(tripId, id, request != null && request.typing());
     }
 
     private String extractUserJwt(Principal principal) {
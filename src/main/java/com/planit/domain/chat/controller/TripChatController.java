@@ -2,6 +2,7 @@ package com.planit.domain.chat.controller;
 
 import com.planit.domain.chat.dto.ChatMessageResponse;
 import com.planit.domain.chat.dto.ChatReadResponse;
+import com.planit.domain.chat.dto.ChatResumeResponse;
 import com.planit.domain.chat.dto.ChatSummaryResponse;
 import com.planit.domain.chat.service.ChatService;
 import com.planit.global.common.exception.UnauthorizedAccessException;
@@ -44,7 +45,9 @@ public class TripChatController {
             @AuthenticationPrincipal UserDetails principal,
             @PathVariable Long tripId,
             @RequestParam(defaultValue = "50") int limit,
-            @RequestParam(required = false) String before
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Long beforeSeq,
+            @RequestParam(required = false) Long afterSeq
     ) {
         if (principal == null) {
             throw new UnauthorizedAccessException();
@@ -59,7 +62,24 @@ public class TripChatController {
             }
         }
 
-        List<ChatMessageResponse> response = chatService.getMessages(tripId, principal.getUsername(), limit, beforeInstant);
+        List<ChatMessageResponse> response = chatService.getMessages(
+                tripId, principal.getUsername(), limit, beforeInstant, beforeSeq, afterSeq);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/trips/{tripId}/chat/resume")
+    public ResponseEntity<ApiResponse<ChatResumeResponse>> resume(
+            @AuthenticationPrincipal UserDetails principal,
+            @PathVariable Long tripId,
+            @RequestParam long lastSeq
+    ) {
+        if (principal == null) {
+            throw new UnauthorizedAccessException();
+        }
+        if (lastSeq < 0) {
+            throw new IllegalArgumentException("Invalid lastSeq parameter");
+        }
+        ChatResumeResponse response = chatService.resume(tripId, principal.getUsername(), lastSeq);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -2,9 +2,15 @@ package com.planit.domain.chat.document;
 
 import java.time.Instant;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "chat_messages")
+@CompoundIndexes({
+        @CompoundIndex(name = "tripId_seq_desc", def = "{ 'tripId': 1, 'seq': -1 }"),
+        @CompoundIndex(name = "tripId_createdAt_desc", def = "{ 'tripId': 1, 'createdAt': -1 }")
+})
 public class ChatMessageDocument {
 
     @Id
@@ -32,6 +38,22 @@ public class ChatMessageDocument {
             Instant createdAt,
             Long seq
     ) {
+        this(null, tripId, senderUserId, senderNickname, senderProfileImageKey, senderType, content, createdAt, seq);
+    }
+
+    /** 저장 전에 id 를 정해야 하는 경우(스트리밍 AI 답변의 delta 와 최종 메시지를 같은 id 로 묶을 때) 사용한다. */
+    public ChatMessageDocument(
+            String id,
+            Long tripId,
+            Long senderUserId,
+            String senderNickname,
+            String senderProfileImageKey,
+            String senderType,
+            String content,
+            Instant createdAt,
+            Long seq
+    ) {
+        this.id = id;
         this.tripId = tripId;
         this.senderUserId = senderUserId;
         this.senderNickname = senderNickname;
@@ -0,0 +1,19 @@
+package com.planit.domain.chat.dto;
+
+/**
+ * 스트리밍 AI 답변의 중간 frame. 같은 messageId 의 delta 를 index 순으로 이어 붙이고,
+ * 완료 후 같은 messageId 의 ChatMessageResponse 가 오면 그 내용으로 교체한다.
+ */
+public record ChatMessageDeltaResponse(
+        String type,
+        String messageId,
+        Long tripId,
+        int index,
+        String delta
+) {
+    public static final String TYPE = "AI_DELTA";
+
+    public static ChatMessageDeltaResponse of(String messageId, Long tripId, int index, String delta) {
+        return new ChatMessageDeltaResponse(TYPE, messageId, tripId, index, delta);
+    }
+}
@@ -0,0 +1,16 @@
+package com.planit.domain.chat.dto;
+
+import java.util.List;
+
+/**
+ * /topic/trips/{tripId}/presence frame. type 은 JOIN/LEAVE 이며 onlineUserIds 는 변경 후 접속 중인 전체 사용자다.
+ */
+public record ChatPresenceResponse(
+        Long tripId,
+        String type,
+        Long userId,
+        List<Long> onlineUserIds
+) {
+    public static final String JOIN = "JOIN";
+    public static final String LEAVE = "LEAVE";
+}
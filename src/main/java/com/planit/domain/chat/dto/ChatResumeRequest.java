@@ -0,0 +1,11 @@
+package com.planit.domain.chat.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record ChatResumeRequest(
+        @NotNull
+        @PositiveOrZero
+        Long lastSeq
+) {
+}
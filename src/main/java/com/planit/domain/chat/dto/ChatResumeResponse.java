@@ -0,0 +1,15 @@
+package com.planit.domain.chat.dto;
+
+import java.util.List;
+
+/**
+ * 재연결 catch-up 응답. messages 는 lastSeq 이후 메시지를 seq 오름차순으로 담는다.
+ * hasMore 면 마지막 메시지의 seq 로 다시 요청하고, 아니면 live topic 수신으로 전환한다(seq 로 중복 제거).
+ */
+public record ChatResumeResponse(
+        Long tripId,
+        List<ChatMessageResponse> messages,
+        Long latestSeq,
+        boolean hasMore
+) {
+}
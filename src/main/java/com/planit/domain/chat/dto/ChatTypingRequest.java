@@ -0,0 +1,6 @@
+package com.planit.domain.chat.dto;
+
+public record ChatTypingRequest(
+        boolean typing
+) {
+}
@@ -0,0 +1,9 @@
+package com.planit.domain.chat.dto;
+
+public record ChatTypingResponse(
+        Long tripId,
+        Long userId,
+        String nickname,
+        boolean typing
+) {
+}
@@ -40,9 +40,4 @@ public class ChatRoom {
     public Long getTotalMessageCount() {
         return totalMessageCount;
     }
-
-    public long incrementAndGet() {
-        this.totalMessageCount = this.totalMessageCount + 1;
-        return this.totalMessageCount;
-    }
 }
@@ -57,8 +57,4 @@ public class ChatRoomParticipant {
     public Long getLastReadCount() {
         return lastReadCount;
     }
-
-    public void markRead(Long totalMessageCount) {
-        this.lastReadCount = totalMessageCount == null ? 0L : totalMessageCount;
-    }
 }
@@ -6,10 +6,28 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 public interface ChatMessageMongoRepository extends MongoRepository<ChatMessageDocument, String> {
 
+    /** 응답에 필요한 필드만 읽는다(_class 등 제외). */
+    String MESSAGE_FIELDS = "{ 'tripId': 1, 'senderUserId': 1, 'senderNickname': 1, 'senderProfileImageKey': 1, "
+            + "'senderType': 1, 'content': 1, 'createdAt': 1, 'seq': 1 }";
+
     List<ChatMessageDocument> findByTripIdOrderByCreatedAtDesc(Long tripId, PageRequest pageable);
 
     List<ChatMessageDocument> findByTripIdAndCreatedAtBeforeOrderByCreatedAtDesc(Long tripId, Instant before, PageRequest pageable);
+
+    Optional<ChatMessageDocument> findTopByTripIdOrderBySeqDesc(Long tripId);
+
+    // seq 커서 조회: {tripId: 1, seq: -1} 인덱스 범위 스캔으로 정렬 없이 끝나고, seq 는 방 안에서 유일해 페이지 경계가 겹치거나 빠지지 않는다.
+
+    @Query(value = "{ 'tripId': ?0 }", fields = MESSAGE_FIELDS, sort = "{ 'seq': -1 }")
+    List<ChatMessageDocument> findLatestBySeq(Long tripId, PageRequest pageable);
+
+    @Query(value = "{ 'tripId': ?0, 'seq': { $lt: ?1 } }", fields = MESSAGE_FIELDS, sort = "{ 'seq': -1 }")
+    List<ChatMessageDocument> findBeforeSeq(Long tripId, Long beforeSeq, PageRequest pageable);
+
+    @Query(value = "{ 'tripId': ?0, 'seq': { $gt: ?1 } }", fields = MESSAGE_FIELDS, sort = "{ 'seq': 1 }")
+    List<ChatMessageDocument> findAfterSeq(Long tripId, Long afterSeq, PageRequest pageable);
 }
@@ -0,0 +1,47 @@
+package com.planit.domain.chat.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 읽음 위치(last_read_count)를 JDBC batch 로 반영한다. 값은 올라가기만 하므로 순서가 뒤바뀐 flush 가 되돌리지 않는다.
+ */
+@Repository
+public class ChatReadReceiptJdbcRepository {
+
+    private static final String RAISE_LAST_READ_COUNT = """
+            update chat_room_participant
+            set last_read_count = greatest(last_read_count, ?)
+            where chat_room_id = ? and user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChatReadReceiptJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void raiseLastReadCounts(Map<ReadReceiptKey, Long> lastReadSeqs) {
+        if (lastReadSeqs.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(lastReadSeqs.size());
+        lastReadSeqs.forEach((key, seq) -> args.add(new Object[]{seq, key.chatRoomId(), key.userId()}));
+        jdbcTemplate.batchUpdate(RAISE_LAST_READ_COUNT, args);
+    }
+
+    public record ReadReceiptKey(Long chatRoomId, Long userId) {
+
+        public String encode() {
+            return chatRoomId + ":" + userId;
+        }
+
+        public static ReadReceiptKey decode(String value) {
+            int separator = value.indexOf(':');
+            return new ReadReceiptKey(Long.parseLong(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        }
+    }
+}
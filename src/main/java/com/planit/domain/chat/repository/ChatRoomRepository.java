@@ -3,17 +3,15 @@ package com.planit.domain.chat.repository;
 import com.planit.domain.chat.entity.ChatRoom;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import jakarta.persistence.LockModeType;
-
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     Optional<ChatRoom> findByTripId(Long tripId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select c from ChatRoom c where c.tripId = :tripId")
-    Optional<ChatRoom> findByTripIdForUpdate(@Param("tripId") Long tripId);
+    @Modifying
+    @Query("update ChatRoom c set c.totalMessageCount = :seq where c.tripId = :tripId and c.totalMessageCount < :seq")
+    int raiseTotalMessageCount(@Param("tripId") Long tripId, @Param("seq") long seq);
 }
@@ -0,0 +1,100 @@
+package com.planit.domain.chat.service;
+
+import com.planit.domain.chat.config.ChatAiJobProperties;
+import com.planit.domain.chat.document.ChatMessageDocument;
+import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.global.stream.StreamAppender;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * @AI 채팅 요청/결과 stream 접근.
+ * 요청은 stream:chat-jobs 에 적재하고, 저장된 AI 메시지 id 는 stream:chat-results 로 발행해 ChatResultListener 가 전달한다.
+ * 챗봇 호출에 쓰는 사용자 토큰은 stream(및 dead-letter)에 남기지 않고 user-token-ttl 짜리 별도 키에만 둔다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatAiJobStreamService {
+    private static final Logger log = LoggerFactory.getLogger(ChatAiJobStreamService.class);
+
+    private static final String USER_TOKEN_KEY_PREFIX = "chat:ai-token:";
+
+    private final StreamAppender streamAppender;
+    private final RedisStreamProperties streamProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final ChatAiJobProperties jobProperties;
+
+    public RecordId enqueueJob(Long tripId, Long requestedBy, String requestMessageId, String question, String userJwt) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("tripId", String.valueOf(tripId));
+        fields.put("requestedBy", String.valueOf(requestedBy));
+        fields.put("requestMessageId", requestMessageId == null ? "" : requestMessageId);
+        fields.put("question", question);
+        fields.put("createdAt", Instant.now().toString());
+        if (StringUtils.hasText(userJwt) && StringUtils.hasText(requestMessageId)) {
+            redisTemplate.opsForValue().set(USER_TOKEN_KEY_PREFIX + requestMessageId, userJwt, jobProperties.getUserTokenTtl());
+        }
+        RecordId id = streamAppender.add(streamProperties.getChatJobsKey(), fields);
+        log.info("[CHAT] jobs XADD tripId={}, recordId={}", tripId, id == null ? "null" : id.getValue());
+        return id;
+    }
+
+    /** 작업 처리 중 챗봇에 넘길 사용자 토큰. ttl 이 지났거나 없으면 null 이다. */
+    public String findUserJwt(String requestMessageId) {
+        if (!StringUtils.hasText(requestMessageId)) {
+            return null;
+        }
+        return redisTemplate.opsForValue().get(USER_TOKEN_KEY_PREFIX + requestMessageId);
+    }
+
+    /** 작업이 ack 되면 토큰을 ttl 전에 지운다. */
+    public void discardUserJwt(String requestMessageId) {
+        if (!StringUtils.hasText(requestMessageId)) {
+            return;
+        }
+        try {
+            redisTemplate.delete(USER_TOKEN_KEY_PREFIX + requestMessageId);
+        } catch (Exception ex) {
+            log.warn("[CHAT] user token cleanup failed requestMessageId={}", requestMessageId, ex);
+        }
+    }
+
+    /** 렌더링에 필요한 필드를 함께 실어, 리스너가 Mongo 를 다시 읽지 않고 바로 푸시하게 한다. */
+    public RecordId publishResult(ChatMessageDocument message) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("tripId", String.valueOf(message.getTripId()));
+        fields.put("chatMessageId", message.getId());
+        fields.put("senderType", message.getSenderType());
+        fields.put("senderNickname", message.getSenderNickname() == null ? "" : message.getSenderNickname());
+        fields.put("content", message.getContent());
+        fields.put("createdAt", message.getCreatedAt().toString());
+        fields.put("seq", String.valueOf(message.getSeq()));
+        fields.put("finishedAt", Instant.now().toString());
+        RecordId id = streamAppender.add(streamProperties.getChatResultsKey(), fields);
+        log.info("[CHAT] results XADD tripId={}, chatMessageId={}, recordId={}",
+                message.getTripId(), message.getId(), id == null ? "null" : id.getValue());
+        return id;
+    }
+
+    /** 재시도를 모두 소진한 요청을 원본 필드와 실패 사유와 함께 보관한다. 이전 버전이 적재한 토큰 필드도 남기지 않는다. */
+    public RecordId deadLetter(MapRecord<String, String, String> job, String errorMessage) {
+        Map<String, String> fields = new HashMap<>(job.getValue());
+        fields.remove("userJwt");
+        fields.put("sourceId", job.getId().getValue());
+        fields.put("errorMessage", errorMessage == null ? "" : errorMessage);
+        fields.put("failedAt", Instant.now().toString());
+        RecordId id = streamAppender.add(streamProperties.getChatDeadLetterKey(), fields);
+        log.warn("[CHAT] dead-letter XADD sourceId={}, recordId={}, reason={}",
+                job.getId().getValue(), id == null ? "null" : id.getValue(), errorMessage);
+        return id;
+    }
+}
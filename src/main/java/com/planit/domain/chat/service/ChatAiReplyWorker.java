@@ -0,0 +1,241 @@
+package com.planit.domain.chat.service;
+
+import com.planit.ai.client.AiApiClient;
+import com.planit.ai.dto.AiRequest;
+import com.planit.domain.chat.config.ChatAiJobProperties;
+import com.planit.domain.chat.document.ChatMessageDocument;
+import com.planit.domain.chat.dto.ChatMessageDeltaResponse;
+import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.global.stream.StreamInFlightRecords;
+import com.planit.global.websocket.TopicPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * stream:chat-jobs 소비자.
+ * 챗봇 호출은 WebClient 로 비동기 처리해 poll 스레드와 DB 커넥션을 붙잡지 않고, 인스턴스당 동시 처리 수는 max-in-flight 로 제한한다.
+ * 응답(또는 최종 실패 안내)은 AI 메시지로 저장한 뒤 chat-results 로 발행하고, 최종 실패한 요청은 dead-letter stream 에 남긴다.
+ * 답변 id 는 요청 메시지 id 에서 유도하므로 재전달된 작업은 챗봇을 다시 부르지 않고 이미 저장된 답변을 다시 발행한다.
+ * streaming-enabled 면 답변 조각을 받는 대로 ChatMessageDeltaResponse 로 방 topic 에 중계하고, 첫 조각까지의 시간을 chat.ai.first_token 으로 기록한다.
+ * 한도 뒤에서 기다리거나 처리 중인 작업 id 는 StreamInFlightRecords 로 알려 다른 인스턴스가 reclaim 하지 않게 한다.
+ */
+@Component
+public class ChatAiReplyWorker implements StreamListener<String, MapRecord<String, String, String>>, StreamInFlightRecords {
+    private static final Logger log = LoggerFactory.getLogger(ChatAiReplyWorker.class);
+    static final String FAILURE_REPLY = "AI 응답을 가져오지 못했어요. 잠시 후 다시 시도해 주세요.";
+
+    private final AiApiClient aiApiClient;
+    private final ChatService chatService;
+    private final ChatAiJobStreamService jobStreamService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisStreamProperties streamProperties;
+    private final ChatAiJobProperties jobProperties;
+    private final TopicPublisher topicPublisher;
+    private final Semaphore inFlight;
+    private final Set<RecordId> inFlightIds = ConcurrentHashMap.newKeySet();
+    private final Timer streamingFirstTokenTimer;
+    private final Timer blockingFirstTokenTimer;
+
+    public ChatAiReplyWorker(
+            AiApiClient aiApiClient,
+            ChatService chatService,
+            ChatAiJobStreamService jobStreamService,
+            StringRedisTemplate redisTemplate,
+            RedisStreamProperties streamProperties,
+            ChatAiJobProperties jobProperties,
+            TopicPublisher topicPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.aiApiClient = aiApiClient;
+        this.chatService = chatService;
+        this.jobStreamService = jobStreamService;
+        this.redisTemplate = redisTemplate;
+        this.streamProperties = streamProperties;
+        this.jobProperties = jobProperties;
+        this.topicPublisher = topicPublisher;
+        this.inFlight = new Semaphore(Math.max(1, jobProperties.getMaxInFlight()));
+        this.streamingFirstTokenTimer = firstTokenTimer(meterRegistry, "streaming");
+        this.blockingFirstTokenTimer = firstTokenTimer(meterRegistry, "blocking");
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> message) {
+        Map<String, String> fields = message.getValue();
+        String tripIdRaw = fields.get("tripId");
+        String question = fields.get("question");
+        if (!StringUtils.hasText(tripIdRaw) || question == null) {
+            log.warn("Invalid chat job message: {}", message.getId());
+            jobStreamService.deadLetter(message, "INVALID_JOB");
+            ack(message);
+            return;
+        }
+        Long tripId = Long.parseLong(tripIdRaw);
+        String requestMessageId = fields.get("requestMessageId");
+        String replyId = replyId(message);
+
+        // 저장 후 발행/ack 전에 실패했거나 reclaim 으로 다시 전달된 작업은 챗봇을 다시 부르지 않고 저장된 답변을 다시 발행한다.
+        Optional<ChatMessageDocument> existing = chatService.findAiReply(replyId);
+        if (existing.isPresent()) {
+            log.info("[CHAT] AI reply already saved, republishing tripId={}, jobId={}", tripId, message.getId());
+            redeliver(message, requestMessageId, existing.get());
+            return;
+        }
+
+        // 동시 처리 한도에 닿으면 poll 스레드가 여기서 대기해 다음 XREADGROUP 이 늦춰진다(backpressure).
+        // 기다리는 동안에도 pending idle 시간이 쌓이므로 먼저 처리 중 목록에 올려 reclaim 대상에서 빠지게 한다.
+        inFlightIds.add(message.getId());
+        inFlight.acquireUninterruptibly();
+        try {
+            AiRequest request = new AiRequest(tripIdRaw, question, jobStreamService.findUserJwt(requestMessageId));
+            if (jobProperties.isStreamingEnabled()) {
+                stream(message, tripId, replyId, request);
+            } else {
+                reply(message, tripId, replyId, request);
+            }
+        } catch (RuntimeException ex) {
+            release(message);
+            fail(message, tripId, replyId, ex);
+        }
+    }
+
+    @Override
+    public Collection<RecordId> inFlightIds() {
+        return Set.copyOf(inFlightIds);
+    }
+
+    /**
+     * 같은 요청의 재전달이 같은 답변 문서를 가리키도록 요청 메시지 id(없으면 stream record id)에서 ObjectId 형식 id 를 만든다.
+     */
+    static String replyId(MapRecord<String, String, String> message) {
+        String requestMessageId = message.getValue().get("requestMessageId");
+        String source = StringUtils.hasText(requestMessageId) ? requestMessageId : message.getId().getValue();
+        return DigestUtils.md5DigestAsHex(("ai-reply:" + source).getBytes(StandardCharsets.UTF_8)).substring(0, 24);
+    }
+
+    private void reply(MapRecord<String, String, String> message, Long tripId, String replyId, AiRequest request) {
+        long startedAt = System.nanoTime();
+        aiApiClient.requestAiReply(
+                        request,
+                        jobProperties.getTimeout(),
+                        jobProperties.getMaxAttempts(),
+                        jobProperties.getRetryBackoff())
+                .doOnNext(reply -> blockingFirstTokenTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                .doFinally(signal -> release(message))
+                .subscribe(
+                        reply -> complete(message, tripId, replyId, reply),
+                        ex -> fail(message, tripId, replyId, ex)
+                );
+    }
+
+    /**
+     * delta 를 받는 즉시 방 topic 으로 중계하고, 끝나면 모은 전체 텍스트를 같은 messageId 로 저장한다.
+     * messageId 는 요청에서 유도한 답변 id 라서 재전달된 작업의 delta 도 클라이언트에서 같은 말풍선으로 합쳐진다.
+     */
+    private void stream(MapRecord<String, String, String> message, Long tripId, String messageId, AiRequest request) {
+        String topic = "/topic/trips/" + tripId + "/chat";
+        long startedAt = System.nanoTime();
+        AtomicInteger index = new AtomicInteger();
+        StringBuilder text = new StringBuilder();
+
+        aiApiClient.streamAiReply(
+                        request,
+                        jobProperties.getTimeout(),
+                        jobProperties.getMaxAttempts(),
+                        jobProperties.getRetryBackoff())
+                .doOnNext(delta -> {
+                    int i = index.getAndIncrement();
+                    if (i == 0) {
+                        streamingFirstTokenTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                    text.append(delta);
+                    topicPublisher.publish(topic, ChatMessageDeltaResponse.of(messageId, tripId, i, delta));
+                })
+                .then(Mono.fromCallable(text::toString))
+                .filter(StringUtils::hasText)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("AI service returned empty stream")))
+                .doFinally(signal -> release(message))
+                .subscribe(
+                        reply -> complete(message, tripId, messageId, reply),
+                        ex -> fail(message, tripId, messageId, ex)
+                );
+    }
+
+    private void complete(MapRecord<String, String, String> message, Long tripId, String messageId, String reply) {
+        try {
+            publish(tripId, messageId, reply);
+            ack(message);
+            jobStreamService.discardUserJwt(message.getValue().get("requestMessageId"));
+        } catch (Exception ex) {
+            // 저장/발행 실패는 ack 하지 않아 pending 으로 남긴다.
+            log.error("[CHAT] AI reply delivery failed tripId={}, jobId={}", tripId, message.getId(), ex);
+        }
+    }
+
+    /** 스트리밍 중 실패하면 안내 문구를 같은 messageId 로 저장해, 이미 보낸 delta 를 대체하게 한다. */
+    private void fail(MapRecord<String, String, String> message, Long tripId, String messageId, Throwable ex) {
+        log.warn("[CHAT] AI reply failed tripId={}, jobId={}, reason={}", tripId, message.getId(), ex.toString());
+        try {
+            jobStreamService.deadLetter(message, ex.toString());
+            publish(tripId, messageId, FAILURE_REPLY);
+            ack(message);
+            jobStreamService.discardUserJwt(message.getValue().get("requestMessageId"));
+        } catch (Exception deliveryEx) {
+            log.error("[CHAT] AI failure delivery failed tripId={}, jobId={}", tripId, message.getId(), deliveryEx);
+        }
+    }
+
+    private void redeliver(MapRecord<String, String, String> message, String requestMessageId, ChatMessageDocument saved) {
+        try {
+            jobStreamService.publishResult(saved);
+            ack(message);
+            jobStreamService.discardUserJwt(requestMessageId);
+        } catch (Exception ex) {
+            log.error("[CHAT] AI reply redelivery failed tripId={}, jobId={}", saved.getTripId(), message.getId(), ex);
+        }
+    }
+
+    private void publish(Long tripId, String messageId, String content) {
+        ChatMessageDocument saved = chatService.saveAiReply(tripId, messageId, content);
+        jobStreamService.publishResult(saved);
+    }
+
+    private void release(MapRecord<String, String, String> message) {
+        inFlight.release();
+        inFlightIds.remove(message.getId());
+    }
+
+    private static Timer firstTokenTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("chat.ai.first_token")
+                .description("@AI 요청 처리 시작부터 첫 응답 텍스트까지 걸린 시간")
+                .tag("mode", mode)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private void ack(MapRecord<String, String, String> message) {
+        try {
+            redisTemplate.opsForStream().acknowledge(streamProperties.getChatJobsKey(), streamProperties.getChatJobsGroup(), message.getId());
+        } catch (Exception ex) {
+            log.warn("Failed to ack chat job message: {}", message.getId(), ex);
+        }
+    }
+}
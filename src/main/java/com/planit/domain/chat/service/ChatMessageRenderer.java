@@ -0,0 +1,83 @@
+package com.planit.domain.chat.service;
+
+import com.planit.domain.chat.document.ChatMessageDocument;
+import com.planit.domain.chat.dto.ChatMessageResponse;
+import com.planit.domain.chat.entity.ChatSenderType;
+import com.planit.domain.user.cache.UserProfileSnapshotCache;
+import com.planit.domain.user.cache.UserProfileSnapshotCache.UserProfileSnapshot;
+import com.planit.infrastructure.storage.S3ImageUrlResolver;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * ChatMessageDocument -> ChatMessageResponse 변환 (목록 조회, catch-up, STOMP 푸시 공용).
+ * 사용자 발신자는 UserProfileSnapshotCache 의 현재 닉네임/프로필 URL 을 쓰고, 탈퇴 등으로 없으면 메시지에 저장된 값을 쓴다.
+ */
+@Component
+public class ChatMessageRenderer {
+
+    static final String AI_PROFILE_IMAGE_URL = "https://dgs44b7nvvjo3.cloudfront.net/ai.png";
+
+    private final UserProfileSnapshotCache userProfileSnapshotCache;
+    private final S3ImageUrlResolver imageUrlResolver;
+
+    public ChatMessageRenderer(UserProfileSnapshotCache userProfileSnapshotCache, S3ImageUrlResolver imageUrlResolver) {
+        this.userProfileSnapshotCache = userProfileSnapshotCache;
+        this.imageUrlResolver = imageUrlResolver;
+    }
+
+    public List<ChatMessageResponse> renderAll(List<ChatMessageDocument> messages) {
+        Set<Long> senderIds = messages.stream()
+                .filter(this::isUserMessage)
+                .map(ChatMessageDocument::getSenderUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, UserProfileSnapshot> senders = userProfileSnapshotCache.getAll(senderIds);
+        return messages.stream()
+                .map(message -> render(message, senders.get(message.getSenderUserId())))
+                .toList();
+    }
+
+    public ChatMessageResponse render(ChatMessageDocument message) {
+        UserProfileSnapshot sender = isUserMessage(message)
+                ? userProfileSnapshotCache.get(message.getSenderUserId())
+                : null;
+        return render(message, sender);
+    }
+
+    public ChatMessageResponse render(ChatMessageDocument message, UserProfileSnapshot sender) {
+        String senderNickname = sender != null ? sender.nickname() : message.getSenderNickname();
+
+        String senderProfileImageUrl;
+        if (sender != null) {
+            senderProfileImageUrl = sender.profileImageUrl();
+        } else if (!isUserMessage(message)) {
+            senderProfileImageUrl = AI_PROFILE_IMAGE_URL;
+        } else if (StringUtils.hasText(message.getSenderProfileImageKey())) {
+            senderProfileImageUrl = imageUrlResolver.resolve(message.getSenderProfileImageKey());
+        } else {
+            senderProfileImageUrl = null;
+        }
+
+        return new ChatMessageResponse(
+                message.getId(),
+                message.getTripId(),
+                message.getSenderUserId(),
+                senderNickname,
+                senderProfileImageUrl,
+                message.getSenderType(),
+                message.getContent(),
+                message.getCreatedAt(),
+                message.getSeq()
+        );
+    }
+
+    private boolean isUserMessage(ChatMessageDocument message) {
+        return ChatSenderType.USER.name().equalsIgnoreCase(message.getSenderType());
+    }
+}
@@ -0,0 +1,253 @@
+package com.planit.domain.chat.service;
+
+import com.planit.domain.chat.config.WebSocketJwtChannelInterceptor;
+import com.planit.domain.chat.dto.ChatPresenceResponse;
+import com.planit.domain.chat.dto.ChatTypingResponse;
+import com.planit.domain.user.cache.UserProfileSnapshotCache;
+import com.planit.domain.user.cache.UserProfileSnapshotCache.UserProfileSnapshot;
+import com.planit.global.websocket.TopicPublisher;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 채팅방 접속자/입력 중 표시.
+ * 방 topic 구독을 presence 로 보고 Redis ZSET(chat:presence:{tripId}, member=userId:instanceId, score=만료 시각)에 기록한다.
+ * 멤버를 인스턴스별로 나눠, 같은 사용자가 다른 인스턴스에 세션이 남아 있으면 이 인스턴스에서 나가도 LEAVE 를 보내지 않는다.
+ * 이 인스턴스의 세션은 주기적으로 만료 시각을 연장하므로, 인스턴스가 죽으면 ttl 후 자연히 빠진다.
+ * 접속/이탈은 /topic/trips/{tripId}/presence 로, 입력 중 표시는 사용자별 throttle 을 거쳐 /topic/trips/{tripId}/typing 으로 보낸다.
+ */
+@Service
+public class ChatPresenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatPresenceService.class);
+    private static final String PRESENCE_KEY_PREFIX = "chat:presence:";
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^/topic/trips/(\\d+)/chat$");
+
+    private final StringRedisTemplate redisTemplate;
+    private final TopicPublisher topicPublisher;
+    private final UserProfileSnapshotCache userProfileSnapshotCache;
+    private final Duration ttl;
+    private final Duration typingThrottle;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /** sessionId -> (subscriptionId -> 방 구독) */
+    private final Map<String, Map<String, RoomMember>> subscriptionsBySession = new ConcurrentHashMap<>();
+    /** 이 인스턴스에서 같은 사용자가 같은 방을 구독한 세션 수 (여러 탭) */
+    private final Map<RoomMember, Integer> localSessionCounts = new ConcurrentHashMap<>();
+    private final Map<RoomMember, Long> lastTypingSentAt = new ConcurrentHashMap<>();
+
+    public ChatPresenceService(
+            StringRedisTemplate redisTemplate,
+            TopicPublisher topicPublisher,
+            UserProfileSnapshotCache userProfileSnapshotCache,
+            @Value("${app.chat.presence.ttl:PT60S}") Duration ttl,
+            @Value("${app.chat.presence.typing-throttle:PT2S}") Duration typingThrottle
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.topicPublisher = topicPublisher;
+        this.userProfileSnapshotCache = userProfileSnapshotCache;
+        this.ttl = ttl;
+        this.typingThrottle = typingThrottle;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Long tripId = roomOf(accessor.getDestination());
+        Long userId = userIdOf(event.getMessage());
+        if (tripId == null || userId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        RoomMember member = new RoomMember(tripId, userId);
+        subscriptionsBySession.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), member);
+        localSessionCounts.merge(member, 1, Integer::sum);
+        join(member);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, RoomMember> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        RoomMember member = subscriptions.remove(accessor.getSubscriptionId());
+        if (member != null) {
+            release(member);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, RoomMember> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    /** 같은 사용자의 입력 중 신호는 typing-throttle 에 한 번만 전달한다. 입력 종료는 바로 전달한다. */
+    public void typing(Long tripId, Long userId, boolean typing) {
+        RoomMember member = new RoomMember(tripId, userId);
+        if (typing) {
+            long now = System.currentTimeMillis();
+            Long previous = lastTypingSentAt.get(member);
+            if (previous != null && now - previous < typingThrottle.toMillis()) {
+                return;
+            }
+            lastTypingSentAt.put(member, now);
+        } else {
+            lastTypingSentAt.remove(member);
+        }
+        UserProfileSnapshot profile = userProfileSnapshotCache.get(userId);
+        topicPublisher.publish("/topic/trips/" + tripId + "/typing", new ChatTypingResponse(
+                tripId,
+                userId,
+                profile == null ? null : profile.nickname(),
+                typing
+        ));
+    }
+
+    public List<Long> onlineUserIds(Long tripId) {
+        String key = PRESENCE_KEY_PREFIX + tripId;
+        long now = System.currentTimeMillis();
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(key, now, Double.POSITIVE_INFINITY);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(ChatPresenceService::presenceUserId).distinct().sorted().toList();
+    }
+
+    /** 이 인스턴스 세션의 만료 시각을 연장하고, 만료된(다른 인스턴스 종료 등) 사용자는 이탈로 알린다. */
+    @Scheduled(fixedDelayString = "${app.chat.presence.refresh-interval-ms:20000}")
+    public void refresh() {
+        Set<Long> tripIds = ConcurrentHashMap.newKeySet();
+        localSessionCounts.keySet().forEach(member -> {
+            tripIds.add(member.tripId());
+            touch(member);
+        });
+        for (Long tripId : tripIds) {
+            evictExpired(tripId);
+        }
+        long cutoff = System.currentTimeMillis() - typingThrottle.toMillis();
+        lastTypingSentAt.values().removeIf(sentAt -> sentAt < cutoff);
+    }
+
+    private void join(RoomMember member) {
+        try {
+            touch(member);
+            // 이미 접속 중이던 사용자라도 보내, 새로 들어온 세션이 현재 접속자 목록을 받게 한다.
+            publish(member, ChatPresenceResponse.JOIN);
+        } catch (Exception ex) {
+            log.warn("[CHAT] presence join failed tripId={}, userId={}: {}", member.tripId(), member.userId(), ex.getMessage());
+        }
+    }
+
+    private void release(RoomMember member) {
+        Integer remaining = localSessionCounts.computeIfPresent(member, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining != null) {
+            return;
+        }
+        lastTypingSentAt.remove(member);
+        try {
+            Long removed = redisTemplate.opsForZSet().remove(PRESENCE_KEY_PREFIX + member.tripId(), presenceMember(member));
+            // 다른 인스턴스에 같은 사용자의 세션이 남아 있으면 아직 접속 중이다.
+            if (removed != null && removed > 0 && !onlineUserIds(member.tripId()).contains(member.userId())) {
+                publish(member, ChatPresenceResponse.LEAVE);
+            }
+        } catch (Exception ex) {
+            log.warn("[CHAT] presence leave failed tripId={}, userId={}: {}", member.tripId(), member.userId(), ex.getMessage());
+        }
+    }
+
+    private void touch(RoomMember member) {
+        String key = PRESENCE_KEY_PREFIX + member.tripId();
+        try {
+            redisTemplate.opsForZSet().add(key, presenceMember(member), System.currentTimeMillis() + ttl.toMillis());
+            redisTemplate.expire(key, ttl.multipliedBy(2));
+        } catch (Exception ex) {
+            log.warn("[CHAT] presence refresh failed tripId={}: {}", member.tripId(), ex.getMessage());
+        }
+    }
+
+    private void evictExpired(Long tripId) {
+        String key = PRESENCE_KEY_PREFIX + tripId;
+        try {
+            long now = System.currentTimeMillis();
+            Set<String> expired = redisTemplate.opsForZSet().rangeByScore(key, Double.NEGATIVE_INFINITY, now);
+            if (expired == null || expired.isEmpty()) {
+                return;
+            }
+            Set<Long> leftUserIds = new TreeSet<>();
+            for (String expiredMember : expired) {
+                Long removed = redisTemplate.opsForZSet().remove(key, expiredMember);
+                if (removed != null && removed > 0) {
+                    leftUserIds.add(presenceUserId(expiredMember));
+                }
+            }
+            if (leftUserIds.isEmpty()) {
+                return;
+            }
+            leftUserIds.removeAll(onlineUserIds(tripId));
+            for (Long userId : leftUserIds) {
+                publish(new RoomMember(tripId, userId), ChatPresenceResponse.LEAVE);
+            }
+        } catch (Exception ex) {
+            log.warn("[CHAT] presence evict failed tripId={}: {}", tripId, ex.getMessage());
+        }
+    }
+
+    private void publish(RoomMember member, String type) {
+        topicPublisher.publish("/topic/trips/" + member.tripId() + "/presence",
+                new ChatPresenceResponse(member.tripId(), type, member.userId(), onlineUserIds(member.tripId())));
+    }
+
+    private String presenceMember(RoomMember member) {
+        return member.userId() + ":" + instanceId;
+    }
+
+    /** userId:instanceId 에서 userId 만 꺼낸다. 배포 전 형식(userId 만 있는 멤버)도 그대로 읽는다. */
+    private static Long presenceUserId(String presenceMember) {
+        int separator = presenceMember.indexOf(':');
+        return Long.valueOf(separator < 0 ? presenceMember : presenceMember.substring(0, separator));
+    }
+
+    private static Long roomOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_TOPIC.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private static Long userIdOf(Message<?> message) {
+        Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders());
+        if (attributes == null) {
+            return null;
+        }
+        Object userId = attributes.get(WebSocketJwtChannelInterceptor.SESSION_USER_ID);
+        return userId instanceof Long id ? id : null;
+    }
+
+    private record RoomMember(Long tripId, Long userId) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.planit.domain.chat.service;
+
+import com.planit.domain.chat.repository.ChatReadReceiptJdbcRepository;
+import com.planit.domain.chat.repository.ChatReadReceiptJdbcRepository.ReadReceiptKey;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 읽음 위치 hot store.
+ * (chatRoomId, userId) 별로 가장 큰 seq 만 Redis hash 에 남기고(dirty set 으로 변경 추적) 주기적으로 chat_room_participant 에 batch 반영한다.
+ * 조회는 DB 값과 hot store 값 중 큰 값을 쓴다. Redis 를 쓸 수 없으면 인스턴스 메모리에 같은 방식으로 모은다.
+ */
+@Component
+public class ChatReadReceiptStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatReadReceiptStore.class);
+    private static final String READ_KEY_PREFIX = "chat:read:";
+    private static final String DIRTY_KEY = "chat:read:dirty";
+
+    /** HSET 은 기존 값보다 클 때만, 이후 TTL 갱신과 dirty 등록. */
+    private static final RedisScript<Long> RAISE_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if tonumber(ARGV[2]) > current then
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final Map<ReadReceiptKey, Long> localReceipts = new ConcurrentHashMap<>();
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ChatReadReceiptJdbcRepository readReceiptJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+    private final int batchSize;
+
+    public ChatReadReceiptStore(
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ChatReadReceiptJdbcRepository readReceiptJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.chat.read-receipt.redis-enabled:true}") boolean redisEnabled,
+            @Value("${app.chat.read-receipt.ttl:PT168H}") Duration ttl,
+            @Value("${app.chat.read-receipt.flush-batch-size:500}") int batchSize
+    ) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.readReceiptJdbcRepository = readReceiptJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.redisEnabled = redisEnabled;
+        this.ttl = ttl;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void record(Long chatRoomId, Long userId, long seq) {
+        ReadReceiptKey key = new ReadReceiptKey(chatRoomId, userId);
+        if (redisEnabled) {
+            try {
+                redisTemplateProvider.getObject().execute(
+                        RAISE_SCRIPT,
+                        List.of(READ_KEY_PREFIX + chatRoomId, DIRTY_KEY),
+                        String.valueOf(userId),
+                        String.valueOf(seq),
+                        String.valueOf(ttl.toSeconds()),
+                        key.encode()
+                );
+                return;
+            } catch (Exception ex) {
+                log.warn("[CHAT] read receipt redis write failed, buffering locally key={}: {}", key.encode(), ex.getMessage());
+            }
+        }
+        localReceipts.merge(key, seq, Math::max);
+    }
+
+    /** 아직 flush 되지 않은 읽음 위치까지 반영한 값. */
+    public long lastRead(Long chatRoomId, Long userId, long persistedLastRead) {
+        long lastRead = Math.max(persistedLastRead,
+                localReceipts.getOrDefault(new ReadReceiptKey(chatRoomId, userId), 0L));
+        if (!redisEnabled) {
+            return lastRead;
+        }
+        try {
+            Object value = redisTemplateProvider.getObject().opsForHash()
+                    .get(READ_KEY_PREFIX + chatRoomId, String.valueOf(userId));
+            return value == null ? lastRead : Math.max(lastRead, Long.parseLong(value.toString()));
+        } catch (Exception ex) {
+            return lastRead;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.read-receipt.flush-interval-ms:2000}")
+    public void flush() {
+        Map<ReadReceiptKey, Long> pending = drainLocal();
+        List<String> dirtyMembers = List.of();
+        if (redisEnabled) {
+            try {
+                dirtyMembers = popDirtyMembers();
+                pending = mergeMax(pending, readPositions(dirtyMembers));
+            } catch (Exception ex) {
+                log.warn("[CHAT] read receipt redis drain failed: {}", ex.getMessage());
+                restoreDirty(dirtyMembers);
+                dirtyMembers = List.of();
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<ReadReceiptKey, Long> batch = pending;
+        try {
+            transactionTemplate.executeWithoutResult(status -> readReceiptJdbcRepository.raiseLastReadCounts(batch));
+        } catch (Exception ex) {
+            // 꺼낸 dirty 멤버는 set 으로 되돌려 어느 인스턴스든 다시 반영하게 하고, 메모리에도 남겨 다음 주기에 재시도한다.
+            restoreDirty(dirtyMembers);
+            batch.forEach((key, seq) -> localReceipts.merge(key, seq, Math::max));
+            log.warn("[CHAT] read receipt flush failed size={}: {}", batch.size(), ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<ReadReceiptKey, Long> drainLocal() {
+        Map<ReadReceiptKey, Long> drained = new HashMap<>();
+        for (ReadReceiptKey key : localReceipts.keySet()) {
+            Long seq = localReceipts.remove(key);
+            if (seq != null) {
+                drained.put(key, seq);
+            }
+        }
+        return drained;
+    }
+
+    private List<String> popDirtyMembers() {
+        List<String> members = redisTemplateProvider.getObject().opsForSet().pop(DIRTY_KEY, batchSize);
+        return members == null ? List.of() : members;
+    }
+
+    /** dirty 멤버의 현재 hash 값을 읽는다. hash 값은 조회용으로 남겨 둔다. */
+    private Map<ReadReceiptKey, Long> readPositions(List<String> members) {
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getObject();
+        Map<ReadReceiptKey, Long> drained = new HashMap<>();
+        for (String member : members) {
+            ReadReceiptKey key = ReadReceiptKey.decode(member);
+            Object value = redisTemplate.opsForHash().get(READ_KEY_PREFIX + key.chatRoomId(), String.valueOf(key.userId()));
+            if (value != null) {
+                drained.put(key, Long.parseLong(value.toString()));
+            }
+        }
+        return drained;
+    }
+
+    private void restoreDirty(List<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplateProvider.getObject().opsForSet().add(DIRTY_KEY, members.toArray(String[]::new));
+        } catch (Exception ex) {
+            log.warn("[CHAT] read receipt dirty restore failed size={}: {}", members.size(), ex.getMessage());
+        }
+    }
+
+    private static Map<ReadReceiptKey, Long> mergeMax(Map<ReadReceiptKey, Long> left, Map<ReadReceiptKey, Long> right) {
+        right.forEach((key, seq) -> left.merge(key, seq, Math::max));
+        return left;
+    }
+}
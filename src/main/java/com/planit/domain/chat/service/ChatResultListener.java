@@ -2,9 +2,11 @@ package com.planit.domain.chat.service;
 
 import com.planit.domain.chat.document.ChatMessageDocument;
 import com.planit.domain.chat.dto.ChatMessageResponse;
+import com.planit.domain.chat.entity.ChatSenderType;
 import com.planit.domain.chat.repository.ChatMessageMongoRepository;
 import com.planit.domain.trip.config.RedisStreamProperties;
-import com.planit.infrastructure.storage.S3ImageUrlResolver;
+import com.planit.global.websocket.TopicPublisher;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +15,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -23,11 +24,11 @@ public class ChatResultListener implements StreamListener<String, MapRecord<Stri
     private static final Logger log = LoggerFactory.getLogger(ChatResultListener.class);
     private static final String CONSUMER_GROUP = "chat-workers";
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final TopicPublisher topicPublisher;
     private final StringRedisTemplate redisTemplate;
     private final RedisStreamProperties streamProperties;
     private final ChatMessageMongoRepository messageRepository;
-    private final S3ImageUrlResolver imageUrlResolver;
+    private final ChatMessageRenderer chatMessageRenderer;
 
     @Override
     public void onMessage(MapRecord<String, String, String> message) {
@@ -38,13 +39,13 @@ public class ChatResultListener implements StreamListener<String, MapRecord<Stri
             ack(message);
             return;
         }
-        ChatMessageResponse response = buildChatMessageResponse(chatMessageId);
+        ChatMessageResponse response = buildChatMessageResponse(chatMessageId, fields);
         if (response == null) {
             log.warn("AI chat message not found for id={}", chatMessageId);
             ack(message);
             return;
         }
-        messagingTemplate.convertAndSend("/topic/chat/" + response.tripId(), response);
+        topicPublisher.publish("/topic/trips/" + response.tripId() + "/chat", response);
         ack(message);
     }
 
@@ -57,30 +58,33 @@ public class ChatResultListener implements StreamListener<String, MapRecord<Stri
         }
     }
 
-    private ChatMessageResponse buildChatMessageResponse(String chatMessageId) {
-        Optional<ChatMessageDocument> aiMessage = messageRepository.findById(chatMessageId);
-        if (aiMessage.isEmpty()) {
-            return null;
+    /** 결과 레코드에 메시지 필드가 실려 있으면 그대로 쓰고, 이전 형식(id 만 있음)이면 Mongo 에서 읽는다. */
+    private ChatMessageResponse buildChatMessageResponse(String chatMessageId, Map<String, String> fields) {
+        ChatMessageDocument document = fromFields(chatMessageId, fields)
+                .or(() -> messageRepository.findById(chatMessageId))
+                .orElse(null);
+        return document == null ? null : chatMessageRenderer.render(document);
+    }
+
+    private Optional<ChatMessageDocument> fromFields(String chatMessageId, Map<String, String> fields) {
+        if (!StringUtils.hasText(fields.get("seq")) || fields.get("content") == null || !StringUtils.hasText(fields.get("tripId"))) {
+            return Optional.empty();
         }
-        ChatMessageDocument document = aiMessage.get();
-        String profileImageUrl;
-        if ("AI".equalsIgnoreCase(document.getSenderType())) {
-            profileImageUrl = "https://dgs44b7nvvjo3.cloudfront.net/ai.png";
-        } else if (StringUtils.hasText(document.getSenderProfileImageKey())) {
-            profileImageUrl = imageUrlResolver.resolve(document.getSenderProfileImageKey());
-        } else {
-            profileImageUrl = null;
+        try {
+            return Optional.of(new ChatMessageDocument(
+                    chatMessageId,
+                    Long.parseLong(fields.get("tripId")),
+                    null,
+                    StringUtils.hasText(fields.get("senderNickname")) ? fields.get("senderNickname") : null,
+                    null,
+                    fields.getOrDefault("senderType", ChatSenderType.BOT.name()),
+                    fields.get("content"),
+                    Instant.parse(fields.get("createdAt")),
+                    Long.parseLong(fields.get("seq"))
+            ));
+        } catch (RuntimeException ex) {
+            log.warn("Malformed chat result fields for id={}: {}", chatMessageId, ex.getMessage());
+            return Optional.empty();
         }
-        return new ChatMessageResponse(
-                document.getId(),
-                document.getTripId(),
-                document.getSenderUserId(),
-                document.getSenderNickname(),
-                profileImageUrl,
-                document.getSenderType(),
-                document.getContent(),
-                document.getCreatedAt(),
-                document.getSeq()
-        );
     }
 }
@@ -0,0 +1,56 @@
+package com.planit.domain.chat.service;
+
+import com.planit.domain.chat.repository.ChatRoomRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * chat_room.total_message_count 비동기 동기화.
+ * 발급된 최신 seq 를 방별로 모아 두었다가 주기적으로 greatest() 갱신해, 메시지 전송 경로가 chat_room 행을 잠그지 않게 한다.
+ */
+@Component
+public class ChatRoomCountSyncer {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatRoomCountSyncer.class);
+
+    private final Map<Long, Long> latestSeqByTripId = new ConcurrentHashMap<>();
+    private final ChatRoomRepository chatRoomRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChatRoomCountSyncer(ChatRoomRepository chatRoomRepository, TransactionTemplate transactionTemplate) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void record(Long tripId, long seq) {
+        latestSeqByTripId.merge(tripId, seq, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.count-sync-interval-ms:1000}")
+    public void flush() {
+        for (Long tripId : latestSeqByTripId.keySet()) {
+            Long seq = latestSeqByTripId.remove(tripId);
+            if (seq == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> chatRoomRepository.raiseTotalMessageCount(tripId, seq));
+            } catch (Exception ex) {
+                record(tripId, seq);
+                log.warn("[CHAT] total_message_count sync failed tripId={}, seq={}: {}", tripId, seq, ex.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
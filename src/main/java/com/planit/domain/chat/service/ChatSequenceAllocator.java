@@ -0,0 +1,57 @@
+package com.planit.domain.chat.service;
+
+import com.planit.domain.chat.document.ChatMessageDocument;
+import com.planit.domain.chat.repository.ChatMessageMongoRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 메시지 seq 발급기.
+ * chat_room 행 잠금 대신 Redis INCR 로 방마다 단조 증가하는 seq 를 발급한다.
+ * 키가 없으면(최초 사용, Redis 유실) chat_room 카운트와 Mongo 의 최대 seq 중 큰 값으로 SETNX 시드 후 증가시킨다.
+ */
+@Component
+public class ChatSequenceAllocator {
+
+    private static final String SEQ_KEY_PREFIX = "chat:seq:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatMessageMongoRepository chatMessageMongoRepository;
+
+    public ChatSequenceAllocator(
+            StringRedisTemplate redisTemplate,
+            ChatMessageMongoRepository chatMessageMongoRepository
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.chatMessageMongoRepository = chatMessageMongoRepository;
+    }
+
+    public long next(Long tripId, long persistedCount) {
+        String key = SEQ_KEY_PREFIX + tripId;
+        if (Boolean.FALSE.equals(redisTemplate.hasKey(key))) {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(seed(tripId, persistedCount)));
+        }
+        Long seq = redisTemplate.opsForValue().increment(key);
+        if (seq == null) {
+            throw new IllegalStateException("chat seq allocation failed for tripId=" + tripId);
+        }
+        return seq;
+    }
+
+    /** 현재까지 발급된 마지막 seq. Redis 조회 실패 시 DB 카운트를 그대로 쓴다. */
+    public long current(Long tripId, long persistedCount) {
+        try {
+            String value = redisTemplate.opsForValue().get(SEQ_KEY_PREFIX + tripId);
+            return value == null ? persistedCount : Math.max(persistedCount, Long.parseLong(value));
+        } catch (Exception ex) {
+            return persistedCount;
+        }
+    }
+
+    private long seed(Long tripId, long persistedCount) {
+        long maxSeq = chatMessageMongoRepository.findTopByTripIdOrderBySeqDesc(tripId)
+                .map(ChatMessageDocument::getSeq)
+                .orElse(0L);
+        return Math.max(persistedCount, maxSeq);
+    }
+}
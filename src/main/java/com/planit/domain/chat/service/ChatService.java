@@ -1,10 +1,9 @@
 package com.planit.domain.chat.service;
 
-import com.planit.ai.client.AiApiClient;
-import com.planit.ai.dto.AiRequest;
 import com.planit.domain.chat.document.ChatMessageDocument;
 import com.planit.domain.chat.dto.ChatMessageResponse;
 import com.planit.domain.chat.dto.ChatReadResponse;
+import com.planit.domain.chat.dto.ChatResumeResponse;
 import com.planit.domain.chat.dto.ChatSummaryResponse;
 import com.planit.domain.chat.entity.ChatRoom;
 import com.planit.domain.chat.entity.ChatRoomParticipant;
@@ -15,40 +14,38 @@ import com.planit.domain.chat.repository.ChatRoomRepository;
 import com.planit.domain.trip.entity.Trip;
 import com.planit.domain.trip.service.TripAccessService;
 import com.planit.domain.trip.repository.TripRepository;
+import com.planit.domain.user.cache.UserProfileSnapshotCache.UserProfileSnapshot;
 import com.planit.domain.user.entity.User;
-import com.planit.domain.user.repository.UserRepository;
 import com.planit.global.common.exception.BusinessException;
 import com.planit.global.common.exception.ErrorCode;
 import com.planit.infrastructure.storage.S3ImageUrlResolver;
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
     private static final int MAX_LIMIT = 100;
+    private static final int RESUME_BATCH_SIZE = 200;
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomParticipantRepository participantRepository;
     private final ChatMessageMongoRepository chatMessageMongoRepository;
     private final TripRepository tripRepository;
     private final TripAccessService tripAccessService;
-    private final UserRepository userRepository;
+    private final ChatMessageRenderer chatMessageRenderer;
     private final S3ImageUrlResolver imageUrlResolver;
-    private final AiApiClient aiApiClient;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatSequenceAllocator chatSequenceAllocator;
+    private final ChatRoomCountSyncer chatRoomCountSyncer;
+    private final ChatAiJobStreamService chatAiJobStreamService;
+    private final ChatReadReceiptStore chatReadReceiptStore;
 
     @Transactional
     public ChatMessageResponse sendUserMessage(Long tripId, String content, String loginId, String userJwt) {
@@ -56,8 +53,8 @@ public class ChatService {
             throw new BusinessException(ErrorCode.COMMON_001);
         }
 
-        ChatContext context = getContext(tripId, loginId, true);
-        long seq = context.chatRoom().incrementAndGet();
+        ChatContext context = getContext(tripId, loginId);
+        long seq = allocateSeq(context.chatRoom());
 
         ChatMessageDocument saved = chatMessageMongoRepository.save(new ChatMessageDocument(
                 tripId,
@@ -71,91 +68,154 @@ public class ChatService {
         ));
 
         if (content.startsWith("@AI")) {
+            // 답변은 ChatAiReplyWorker 가 만들어 chat-results 로 전달하므로 요청 스레드는 기다리지 않는다.
             String cleaned = content.substring(3).trim();
-            String aiReply = aiApiClient.requestAiReply(new AiRequest(String.valueOf(tripId), cleaned, userJwt));
+            chatAiJobStreamService.enqueueJob(tripId, context.user().getId(), saved.getId(), cleaned, userJwt);
+        }
+
+        markRead(context, seq);
 
-            long aiSeq = context.chatRoom().incrementAndGet();
-            ChatMessageDocument savedAiReply = chatMessageMongoRepository.save(new ChatMessageDocument(
+        return chatMessageRenderer.render(saved, toSnapshot(context.user()));
+    }
+
+    /** 요청 메시지에서 유도한 답변 id 로 이미 저장된 AI 답변을 찾는다(재전달된 작업 판별용). */
+    public Optional<ChatMessageDocument> findAiReply(String messageId) {
+        return chatMessageMongoRepository.findById(messageId);
+    }
+
+    /**
+     * AI 답변을 messageId 로 한 번만 저장한다. 같은 id 가 이미 있으면 새 seq 를 발급하지 않고 기존 메시지를 돌려주므로,
+     * 재전달된 작업이나 동시에 처리된 같은 작업이 두 번째 BOT 메시지를 만들지 않는다.
+     * 스트리밍이면 먼저 전달된 delta 와 같은 메시지로 이어진다.
+     */
+    public ChatMessageDocument saveAiReply(Long tripId, String messageId, String content) {
+        Optional<ChatMessageDocument> existing = chatMessageMongoRepository.findById(messageId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        long persistedCount = chatRoomRepository.findByTripId(tripId)
+                .map(ChatRoom::getTotalMessageCount)
+                .orElse(0L);
+        long seq = chatSequenceAllocator.next(tripId, persistedCount);
+        chatRoomCountSyncer.record(tripId, seq);
+        try {
+            return chatMessageMongoRepository.insert(new ChatMessageDocument(
+                    messageId,
                     tripId,
                     null,
                     "AI",
                     null,
                     ChatSenderType.BOT.name(),
-                    aiReply,
+                    content,
                     Instant.now(),
-                    aiSeq
+                    seq
             ));
-
-            context.participant().markRead(aiSeq);
-            participantRepository.save(context.participant());
-
-            ChatMessageResponse aiResponse = new ChatMessageResponse(
-                    savedAiReply.getId(),
-                    savedAiReply.getTripId(),
-                    null,
-                    "AI",
-                    null,
-                    ChatSenderType.BOT.name(),
-                    savedAiReply.getContent(),
-                    savedAiReply.getCreatedAt(),
-                    savedAiReply.getSeq()
-            );
-            messagingTemplate.convertAndSend("/topic/trips/" + tripId + "/chat", aiResponse);
-            return toResponse(saved, Map.of(context.user().getId(), context.user()));
+        } catch (DuplicateKeyException ex) {
+            // 다른 consumer 가 같은 작업을 먼저 저장했다. 발급한 seq 는 비워 둔다.
+            return chatMessageMongoRepository.findById(messageId).orElseThrow(() -> ex);
         }
-
-        context.participant().markRead(seq);
-        participantRepository.save(context.participant());
-
-        return toResponse(saved, Map.of(context.user().getId(), context.user()));
     }
 
     @Transactional
     public ChatSummaryResponse getSummary(Long tripId, String loginId) {
-        ChatContext context = getContext(tripId, loginId, false);
-        long unread = Math.max(0L, context.chatRoom().getTotalMessageCount() - context.participant().getLastReadCount());
-        return new ChatSummaryResponse(unread, context.chatRoom().getTotalMessageCount());
+        ChatContext context = getContext(tripId, loginId);
+        long total = currentTotal(context.chatRoom());
+        long lastRead = chatReadReceiptStore.lastRead(
+                context.chatRoom().getId(), context.user().getId(), context.participant().getLastReadCount());
+        long unread = Math.max(0L, total - lastRead);
+        return new ChatSummaryResponse(unread, total);
     }
 
+    /**
+     * 메시지 목록 조회.
+     * afterSeq 가 있으면 그 이후 메시지를 seq 오름차순으로, beforeSeq 가 있으면 그 이전 메시지를 seq 내림차순으로 돌려준다.
+     * 커서가 없으면 최신 메시지부터 seq 내림차순이며, before(createdAt) 는 기존 클라이언트 호환용으로만 남긴다.
+     */
     @Transactional
-    public List<ChatMessageResponse> getMessages(Long tripId, String loginId, int limit, Instant before) {
-        getContext(tripId, loginId, false);
+    public List<ChatMessageResponse> getMessages(
+            Long tripId,
+            String loginId,
+            int limit,
+            Instant before,
+            Long beforeSeq,
+            Long afterSeq
+    ) {
+        if (beforeSeq != null && afterSeq != null) {
+            throw new BusinessException(ErrorCode.COMMON_001);
+        }
+        getContext(tripId, loginId);
 
         int normalizedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
         PageRequest pageable = PageRequest.of(0, normalizedLimit);
 
         List<ChatMessageDocument> messages;
-        if (before == null) {
-            messages = chatMessageMongoRepository.findByTripIdOrderByCreatedAtDesc(tripId, pageable);
-        } else {
+        if (afterSeq != null) {
+            messages = chatMessageMongoRepository.findAfterSeq(tripId, afterSeq, pageable);
+        } else if (beforeSeq != null) {
+            messages = chatMessageMongoRepository.findBeforeSeq(tripId, beforeSeq, pageable);
+        } else if (before != null) {
             messages = chatMessageMongoRepository.findByTripIdAndCreatedAtBeforeOrderByCreatedAtDesc(tripId, before, pageable);
+        } else {
+            messages = chatMessageMongoRepository.findLatestBySeq(tripId, pageable);
         }
 
-        Map<Long, User> senderUsersById = getSenderUsersById(messages);
-        return messages.stream()
-                .map(message -> toResponse(message, senderUsersById))
-                .toList();
+        return chatMessageRenderer.renderAll(messages);
+    }
+
+    /**
+     * 재연결 catch-up. lastSeq 이후 빠진 메시지만 seq 순으로 한 번에 돌려준다.
+     * 이미 최신이면 Mongo 를 조회하지 않는다.
+     */
+    @Transactional
+    public ChatResumeResponse resume(Long tripId, String loginId, long lastSeq) {
+        ChatContext context = getContext(tripId, loginId);
+        long latestSeq = currentTotal(context.chatRoom());
+        if (lastSeq >= latestSeq) {
+            return new ChatResumeResponse(tripId, List.of(), latestSeq, false);
+        }
+
+        List<ChatMessageDocument> missed = chatMessageMongoRepository.findAfterSeq(
+                tripId, lastSeq, PageRequest.of(0, RESUME_BATCH_SIZE));
+        List<ChatMessageResponse> messages = chatMessageRenderer.renderAll(missed);
+
+        long lastReturnedSeq = missed.isEmpty() ? lastSeq : missed.get(missed.size() - 1).getSeq();
+        boolean hasMore = missed.size() == RESUME_BATCH_SIZE && lastReturnedSeq < latestSeq;
+        return new ChatResumeResponse(tripId, messages, latestSeq, hasMore);
     }
 
     @Transactional
     public ChatReadResponse readAll(Long tripId, String loginId) {
-        ChatContext context = getContext(tripId, loginId, true);
-        long total = context.chatRoom().getTotalMessageCount();
-        context.participant().markRead(total);
-        participantRepository.save(context.participant());
+        ChatContext context = getContext(tripId, loginId);
+        long total = currentTotal(context.chatRoom());
+        markRead(context, total);
         return new ChatReadResponse(0L, total);
     }
 
-    private ChatContext getContext(Long tripId, String loginId, boolean forUpdate) {
+    /** chat_room 행 잠금 없이 seq 를 발급하고, total_message_count 는 ChatRoomCountSyncer 가 뒤따라 맞춘다. */
+    private long allocateSeq(ChatRoom chatRoom) {
+        long seq = chatSequenceAllocator.next(chatRoom.getTripId(), chatRoom.getTotalMessageCount());
+        chatRoomCountSyncer.record(chatRoom.getTripId(), seq);
+        return seq;
+    }
+
+    /** 읽음 위치는 hot store 에 모아 두고 ChatReadReceiptStore 가 batch 로 chat_room_participant 에 반영한다. */
+    private void markRead(ChatContext context, long seq) {
+        chatReadReceiptStore.record(context.chatRoom().getId(), context.user().getId(), seq);
+    }
+
+    private long currentTotal(ChatRoom chatRoom) {
+        return chatSequenceAllocator.current(chatRoom.getTripId(), chatRoom.getTotalMessageCount());
+    }
+
+    private ChatContext getContext(Long tripId, String loginId) {
         Trip trip = tripRepository.findById(tripId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TRIP_001));
 
         TripAccessService.AccessInfo accessInfo = tripAccessService.requireReadable(trip, loginId);
         User user = accessInfo.user();
 
-        ChatRoom chatRoom = forUpdate
-                ? chatRoomRepository.findByTripIdForUpdate(tripId).orElseGet(() -> chatRoomRepository.save(new ChatRoom(tripId)))
-                : chatRoomRepository.findByTripId(tripId).orElseGet(() -> chatRoomRepository.save(new ChatRoom(tripId)));
+        ChatRoom chatRoom = chatRoomRepository.findByTripId(tripId)
+                .orElseGet(() -> chatRoomRepository.save(new ChatRoom(tripId)));
 
         ChatRoomParticipant participant = participantRepository.findByChatRoomIdAndUserId(chatRoom.getId(), user.getId())
                 .orElseGet(() -> participantRepository.save(new ChatRoomParticipant(chatRoom, user)));
@@ -163,43 +223,9 @@ public class ChatService {
         return new ChatContext(user, chatRoom, participant);
     }
 
-    private Map<Long, User> getSenderUsersById(List<ChatMessageDocument> messages) {
-        Set<Long> senderIds = messages.stream()
-                .filter(message -> ChatSenderType.USER.name().equalsIgnoreCase(message.getSenderType()))
-                .map(ChatMessageDocument::getSenderUserId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (senderIds.isEmpty()) {
-            return Map.of();
-        }
-        return userRepository.findAllById(senderIds).stream()
-                .collect(Collectors.toMap(User::getId, Function.identity()));
-    }
-
-    private ChatMessageResponse toResponse(ChatMessageDocument document, Map<Long, User> senderUsersById) {
-        User sender = senderUsersById.get(document.getSenderUserId());
-        String senderNickname = StringUtils.hasText(document.getSenderNickname())
-                ? document.getSenderNickname()
-                : (sender != null ? sender.getNickname() : null);
-
-        String senderProfileImageUrl = null;
-        if (StringUtils.hasText(document.getSenderProfileImageKey())) {
-            senderProfileImageUrl = imageUrlResolver.resolve(document.getSenderProfileImageKey());
-        } else if (sender != null) {
-            senderProfileImageUrl = imageUrlResolver.resolve(sender.getProfileImageKey());
-        }
-
-        return new ChatMessageResponse(
-                document.getId(),
-                document.getTripId(),
-                document.getSenderUserId(),
-                senderNickname,
-                senderProfileImageUrl,
-                document.getSenderType(),
-                document.getContent(),
-                document.getCreatedAt(),
-                document.getSeq()
-        );
+    /** 발신자 본인은 이미 조회한 엔티티로 스냅샷을 만들어 캐시 조회 없이 응답한다. */
+    private UserProfileSnapshot toSnapshot(User user) {
+        return new UserProfileSnapshot(user.getId(), user.getNickname(), imageUrlResolver.resolve(user.getProfileImageKey()));
     }
 
     private record ChatContext(User user, ChatRoom chatRoom, ChatRoomParticipant participant) {
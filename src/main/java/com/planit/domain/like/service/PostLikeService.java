@@ -39,6 +39,7 @@ public class PostLikeService {
         }
         long likeCount = postLikeCountRepository.findById(postId)
                 .map(count -> count.getLikeCount())
+                .map(count -> postStatsAggregationService.getPendingDelta(postId).applyToLikes(count))
                 .orElseGet(() -> postLikeRepository.countByPostId(postId));
         return PostLikeResponse.of(postId, likeCount, likedByMe);
     }
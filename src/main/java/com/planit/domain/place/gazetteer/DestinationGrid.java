@@ -0,0 +1,55 @@
+package com.planit.domain.place.gazetteer;
+
+import com.planit.domain.place.model.DestinationCode;
+import com.planit.domain.place.model.GeoPoint;
+import com.planit.domain.place.model.GeoRectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌표 -> DestinationCode 조회용 격자 색인.
+ * 1도 격자 셀마다 겹치는 목적지 사각형만 들고 있어, 좌표 하나당 셀 한 칸의 후보만 contains 검사한다.
+ */
+final class DestinationGrid {
+
+    private final Map<Long, List<DestinationCode>> cells = new HashMap<>();
+
+    DestinationGrid() {
+        for (DestinationCode code : DestinationCode.values()) {
+            GeoRectangle rectangle = code.getRectangle();
+            int minLat = cell(rectangle.low().latitude());
+            int maxLat = cell(rectangle.high().latitude());
+            int minLng = cell(rectangle.low().longitude());
+            int maxLng = cell(rectangle.high().longitude());
+            for (int lat = minLat; lat <= maxLat; lat++) {
+                for (int lng = minLng; lng <= maxLng; lng++) {
+                    cells.computeIfAbsent(key(lat, lng), k -> new ArrayList<>()).add(code);
+                }
+            }
+        }
+    }
+
+    List<DestinationCode> locate(GeoPoint point) {
+        List<DestinationCode> candidates = cells.get(key(cell(point.latitude()), cell(point.longitude())));
+        if (candidates == null) {
+            return List.of();
+        }
+        List<DestinationCode> matched = new ArrayList<>(1);
+        for (DestinationCode code : candidates) {
+            if (code.getRectangle().contains(point)) {
+                matched.add(code);
+            }
+        }
+        return matched;
+    }
+
+    private static int cell(double degree) {
+        return (int) Math.floor(degree);
+    }
+
+    private static long key(int lat, int lng) {
+        return ((long) lat << 32) | (lng & 0xffffffffL);
+    }
+}
@@ -0,0 +1,101 @@
+package com.planit.domain.place.gazetteer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 목적지 하나의 장소 이름 prefix trie.
+ * 정규화된 전체 이름과 이름의 각 단어를 trie 에 넣어 "스시" 로 "긴자 스시 오노" 도 찾을 수 있게 한다.
+ */
+final class DestinationPlaceIndex {
+
+    private final Node root = new Node();
+    private final Map<String, GazetteerEntry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxEntries;
+
+    DestinationPlaceIndex(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /** 이미 있는 googlePlaceId 는 무시한다. 최대 개수를 넘으면 추가하지 않는다. */
+    boolean add(GazetteerEntry entry, String normalizedName) {
+        lock.writeLock().lock();
+        try {
+            if (entries.containsKey(entry.googlePlaceId()) || entries.size() >= maxEntries) {
+                return false;
+            }
+            entries.put(entry.googlePlaceId(), entry);
+            insert(normalizedName, entry);
+            for (String token : normalizedName.split(" ")) {
+                if (!token.isEmpty() && !token.equals(normalizedName)) {
+                    insert(token, entry);
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<GazetteerEntry> search(String normalizedPrefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalizedPrefix.length() && node != null; i++) {
+                node = node.children.get(normalizedPrefix.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            Map<String, GazetteerEntry> found = new LinkedHashMap<>();
+            collect(node, found, limit);
+            return new ArrayList<>(found.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String key, GazetteerEntry entry) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.entries.add(entry);
+    }
+
+    private void collect(Node node, Map<String, GazetteerEntry> found, int limit) {
+        // 검색어와 정확히 같은 이름/단어를 하위 노드보다 먼저 채운다.
+        for (GazetteerEntry entry : node.entries) {
+            if (found.size() >= limit) {
+                return;
+            }
+            found.putIfAbsent(entry.googlePlaceId(), entry);
+        }
+        for (Node child : node.children.values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            collect(child, found, limit);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<GazetteerEntry> entries = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.planit.domain.place.gazetteer;
+
+import com.planit.domain.place.dto.PlaceSearchItem;
+import com.planit.domain.place.model.GeoPoint;
+
+/**
+ * 로컬 장소 색인 항목. places 테이블 또는 Google 검색 결과에서 만들어진다.
+ */
+public record GazetteerEntry(
+        String googlePlaceId,
+        String name,
+        String address,
+        String googleMapUrl,
+        GeoPoint point
+) {
+    private static final String MAPS_PLACE_URL_PREFIX = "https://www.google.com/maps/place/?q=place_id:";
+
+    public static String defaultMapUrl(String googlePlaceId) {
+        return MAPS_PLACE_URL_PREFIX + googlePlaceId;
+    }
+
+    public PlaceSearchItem toItem() {
+        return new PlaceSearchItem(
+                googlePlaceId,
+                googleMapUrl,
+                name,
+                address,
+                new PlaceSearchItem.Marker(point.latitude(), point.longitude())
+        );
+    }
+}
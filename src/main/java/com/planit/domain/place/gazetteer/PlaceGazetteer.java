@@ -0,0 +1,146 @@
+package com.planit.domain.place.gazetteer;
+
+import com.planit.domain.place.dto.PlaceSearchItem;
+import com.planit.domain.place.entity.Place;
+import com.planit.domain.place.model.DestinationCode;
+import com.planit.domain.place.model.GeoPoint;
+import com.planit.domain.place.repository.PlaceRepository;
+import com.planit.domain.place.service.PlaceSearchCache;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 목적지별 로컬 장소 색인.
+ * places 테이블의 좌표 있는 장소를 DestinationGrid 로 목적지에 배정하고, 목적지마다 이름 prefix trie 를 만든다.
+ * 주기적으로 전체를 다시 읽어 교체하며, 그 사이 Google 검색 결과로 받은 장소도 색인에 추가한다.
+ */
+@Component
+public class PlaceGazetteer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceGazetteer.class);
+
+    private final PlaceRepository placeRepository;
+    private final DestinationGrid grid = new DestinationGrid();
+    private final boolean enabled;
+    private final int maxEntriesPerDestination;
+    private volatile Map<DestinationCode, DestinationPlaceIndex> indexes;
+    private volatile boolean loaded = false;
+
+    public PlaceGazetteer(
+            PlaceRepository placeRepository,
+            @Value("${app.place-gazetteer.enabled:true}") boolean enabled,
+            @Value("${app.place-gazetteer.max-entries-per-destination:20000}") int maxEntriesPerDestination
+    ) {
+        this.placeRepository = placeRepository;
+        this.enabled = enabled;
+        this.maxEntriesPerDestination = maxEntriesPerDestination;
+        this.indexes = emptyIndexes();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.place-gazetteer.refresh-interval-ms:600000}",
+            initialDelayString = "${app.place-gazetteer.refresh-interval-ms:600000}"
+    )
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<DestinationCode, DestinationPlaceIndex> rebuilt = emptyIndexes();
+            int indexed = 0;
+            for (Place place : placeRepository.findAllWithCoordinates()) {
+                GazetteerEntry entry = new GazetteerEntry(
+                        place.getGooglePlaceId(),
+                        place.getName(),
+                        toAddress(place),
+                        GazetteerEntry.defaultMapUrl(place.getGooglePlaceId()),
+                        new GeoPoint(place.getLatitude(), place.getLongitude())
+                );
+                indexed += add(rebuilt, entry);
+            }
+            this.indexes = rebuilt;
+            this.loaded = true;
+            logger.info("Place gazetteer loaded: entries={}", indexed);
+        } catch (Exception ex) {
+            logger.warn("Place gazetteer load failed, keeping previous index: {}", ex.getMessage());
+        }
+    }
+
+    /** 로컬 색인 검색. 색인이 아직 없거나 비활성화되어 있으면 빈 결과. */
+    public List<PlaceSearchItem> search(DestinationCode destinationCode, String normalizedQuery, int limit) {
+        if (!enabled || !loaded || !StringUtils.hasText(normalizedQuery)) {
+            return List.of();
+        }
+        return indexes.get(destinationCode)
+                .search(normalizedQuery, limit)
+                .stream()
+                .map(GazetteerEntry::toItem)
+                .toList();
+    }
+
+    /** Google 검색 결과를 색인에 추가해 같은 장소의 다음 검색은 로컬에서 응답한다. */
+    public void learn(List<PlaceSearchItem> items) {
+        if (!enabled || items == null) {
+            return;
+        }
+        Map<DestinationCode, DestinationPlaceIndex> current = indexes;
+        for (PlaceSearchItem item : items) {
+            if (!StringUtils.hasText(item.googlePlaceId()) || !StringUtils.hasText(item.name()) || item.marker() == null) {
+                continue;
+            }
+            add(current, new GazetteerEntry(
+                    item.googlePlaceId(),
+                    item.name(),
+                    item.address(),
+                    StringUtils.hasText(item.googleMapUrl())
+                            ? item.googleMapUrl()
+                            : GazetteerEntry.defaultMapUrl(item.googlePlaceId()),
+                    new GeoPoint(item.marker().lat(), item.marker().lng())
+            ));
+        }
+    }
+
+    private int add(Map<DestinationCode, DestinationPlaceIndex> target, GazetteerEntry entry) {
+        String normalizedName = PlaceSearchCache.normalize(entry.name());
+        if (normalizedName.isEmpty()) {
+            return 0;
+        }
+        int added = 0;
+        for (DestinationCode code : grid.locate(entry.point())) {
+            if (target.get(code).add(entry, normalizedName)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private Map<DestinationCode, DestinationPlaceIndex> emptyIndexes() {
+        Map<DestinationCode, DestinationPlaceIndex> map = new EnumMap<>(DestinationCode.class);
+        for (DestinationCode code : DestinationCode.values()) {
+            map.put(code, new DestinationPlaceIndex(maxEntriesPerDestination));
+        }
+        return map;
+    }
+
+    private String toAddress(Place place) {
+        return Stream.of(place.getCity(), place.getCountry())
+                .filter(StringUtils::hasText)
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -2,4 +2,10 @@ package com.planit.domain.place.model;
 
 public record GeoRectangle(GeoPoint low, GeoPoint high) {
 
+    public boolean contains(GeoPoint point) {
+        return point.latitude() >= low.latitude()
+                && point.latitude() <= high.latitude()
+                && point.longitude() >= low.longitude()
+                && point.longitude() <= high.longitude();
+    }
 }
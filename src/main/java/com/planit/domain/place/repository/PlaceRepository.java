@@ -1,10 +1,15 @@
 package com.planit.domain.place.repository;
 
 import com.planit.domain.place.entity.Place;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
     Optional<Place> findByName(String name);
     Optional<Place> findByGooglePlaceId(String googlePlaceId);
+
+    @Query("select p from Place p where p.googlePlaceId is not null and p.latitude is not null and p.longitude is not null")
+    List<Place> findAllWithCoordinates();
 }
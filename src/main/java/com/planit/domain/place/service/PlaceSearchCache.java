@@ -0,0 +1,92 @@
+package com.planit.domain.place.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.planit.domain.place.dto.PlaceSearchResponse;
+import com.planit.domain.place.model.DestinationCode;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * (DestinationCode, 정규화된 검색어) 단위 장소 검색 결과 캐시.
+ * - 검색어는 NFKC 정규화 + 소문자 + 공백 축약으로 키를 만든다.
+ * - TTL(expireAfterWrite)과 최대 크기(LRU 성격의 size 기반 eviction)를 둔다.
+ * - 자동완성 중 입력처럼 "스시 맛" 이 이미 캐시된 "스시 맛집" 의 접두어이면 그 결과를 재사용한다.
+ */
+@Component
+public class PlaceSearchCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Cache<Key, PlaceSearchResponse> cache;
+    private final Map<DestinationCode, NavigableSet<String>> queryIndex = new EnumMap<>(DestinationCode.class);
+    private final int prefixReuseMinLength;
+
+    public PlaceSearchCache(
+            @Value("${app.place-search-cache.ttl:PT10M}") Duration ttl,
+            @Value("${app.place-search-cache.max-size:5000}") long maxSize,
+            @Value("${app.place-search-cache.prefix-reuse-min-length:2}") int prefixReuseMinLength
+    ) {
+        this.prefixReuseMinLength = prefixReuseMinLength;
+        for (DestinationCode code : DestinationCode.values()) {
+            queryIndex.put(code, new ConcurrentSkipListSet<>());
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .removalListener((Key key, PlaceSearchResponse value, RemovalCause cause) -> {
+                    if (key != null && cause != RemovalCause.REPLACED) {
+                        queryIndex.get(key.destinationCode()).remove(key.query());
+                    }
+                })
+                .build();
+    }
+
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /** 정확히 일치하는 항목, 없으면 이 검색어로 시작하는 더 긴 검색어의 결과를 찾는다. */
+    public Optional<PlaceSearchResponse> find(DestinationCode destinationCode, String normalizedQuery) {
+        PlaceSearchResponse exact = cache.getIfPresent(new Key(destinationCode, normalizedQuery));
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+        if (normalizedQuery.length() < prefixReuseMinLength) {
+            return Optional.empty();
+        }
+        NavigableSet<String> queries = queryIndex.get(destinationCode);
+        for (String candidate : queries.tailSet(normalizedQuery, false)) {
+            if (!candidate.startsWith(normalizedQuery)) {
+                break;
+            }
+            PlaceSearchResponse extended = cache.getIfPresent(new Key(destinationCode, candidate));
+            if (extended != null && extended.items() != null && !extended.items().isEmpty()) {
+                return Optional.of(extended);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void put(DestinationCode destinationCode, String normalizedQuery, PlaceSearchResponse response) {
+        queryIndex.get(destinationCode).add(normalizedQuery);
+        cache.put(new Key(destinationCode, normalizedQuery), response);
+    }
+
+    private record Key(DestinationCode destinationCode, String query) {
+    }
+}
@@ -5,14 +5,19 @@ import com.planit.domain.place.client.GooglePlacesRequest;
 import com.planit.domain.place.client.GooglePlacesResponse;
 import com.planit.domain.place.dto.PlaceSearchRequest;
 import com.planit.domain.place.dto.PlaceSearchResponse;
+import com.planit.domain.place.dto.PlaceSearchItem;
 import com.planit.domain.place.exception.PlaceSearchException;
+import com.planit.domain.place.gazetteer.PlaceGazetteer;
 import com.planit.domain.place.mapper.PlaceSearchMapper;
 import com.planit.domain.place.model.DestinationCode;
 import com.planit.domain.place.model.GeoRectangle;
 import com.planit.global.common.exception.ErrorCode;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -24,9 +29,23 @@ public class PlaceSearchService {
     private static final Logger logger = LoggerFactory.getLogger(PlaceSearchService.class);
 
     private final GooglePlacesClient googlePlacesClient;
+    private final PlaceSearchCache placeSearchCache;
+    private final PlaceGazetteer placeGazetteer;
+    private final int localMinResults;
+    private final int localMaxResults;
 
-    public PlaceSearchService(GooglePlacesClient googlePlacesClient) {
+    public PlaceSearchService(
+            GooglePlacesClient googlePlacesClient,
+            PlaceSearchCache placeSearchCache,
+            PlaceGazetteer placeGazetteer,
+            @Value("${app.place-gazetteer.min-results:5}") int localMinResults,
+            @Value("${app.place-gazetteer.max-results:20}") int localMaxResults
+    ) {
         this.googlePlacesClient = googlePlacesClient;
+        this.placeSearchCache = placeSearchCache;
+        this.placeGazetteer = placeGazetteer;
+        this.localMinResults = localMinResults;
+        this.localMaxResults = localMaxResults;
     }
 
     public PlaceSearchResponse search(PlaceSearchRequest request) {
@@ -41,6 +60,21 @@ public class PlaceSearchService {
         DestinationCode destinationCode = request.destinationCode();
         GeoRectangle rectangle = destinationCode.getRectangle();
 
+        String cacheQuery = PlaceSearchCache.normalize(trimmedQuery);
+        Optional<PlaceSearchResponse> cached = placeSearchCache.find(destinationCode, cacheQuery);
+        if (cached.isPresent()) {
+            logger.debug("Place search cache hit: destinationCode={}, query={}", destinationCode.name(), cacheQuery);
+            return cached.get();
+        }
+
+        // 로컬 색인에서 충분히 찾으면 Google 을 호출하지 않는다.
+        List<PlaceSearchItem> localItems = placeGazetteer.search(destinationCode, cacheQuery, localMaxResults);
+        if (localItems.size() >= localMinResults) {
+            PlaceSearchResponse local = new PlaceSearchResponse(localItems);
+            placeSearchCache.put(destinationCode, cacheQuery, local);
+            return local;
+        }
+
         logger.info("Place search request: destinationCode={}, query={}", destinationCode.name(), trimmedQuery);
 
         GooglePlacesRequest placesRequest = new GooglePlacesRequest(
@@ -54,7 +88,10 @@ public class PlaceSearchService {
         );
 
         GooglePlacesResponse response = googlePlacesClient.searchText(placesRequest);
-        return PlaceSearchMapper.toResponse(response);
+        PlaceSearchResponse result = PlaceSearchMapper.toResponse(response);
+        placeSearchCache.put(destinationCode, cacheQuery, result);
+        placeGazetteer.learn(result.items());
+        return result;
     }
 
     private String normalizeQuery(String query) {
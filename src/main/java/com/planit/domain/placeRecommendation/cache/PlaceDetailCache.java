@@ -0,0 +1,265 @@
+package com.planit.domain.placeRecommendation.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.planit.domain.place.exception.PlaceSearchException;
+import com.planit.domain.placeRecommendation.dto.PlaceRecommendationDetailResponse;
+import com.planit.global.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Google Place Details 2단 캐시 (Caffeine -> Redis -> Google).
+ * - 같은 placeId 의 동시 miss 는 in-flight future 로 한 번의 로드로 합친다(single-flight).
+ *   Caffeine get(key, loader) 는 로드 동안 해시 bin lock 을 잡으므로 Google 호출은 compute 밖에서 한다.
+ * - 존재하지 않는 placeId 는 negative entry 로 짧게 캐시한다.
+ * - Redis 장애 시 해당 tier 를 miss 로 취급하고 Google 로 바로 간다.
+ * 메트릭: place.detail.cache{tier=local|redis, result=hit|miss}, place.detail.load{result=found|not_found}
+ */
+@Component
+public class PlaceDetailCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceDetailCache.class);
+    private static final String REDIS_KEY_PREFIX = "place:detail:";
+
+    private final Cache<String, CachedPlaceDetail> localCache;
+    private final ConcurrentHashMap<String, CompletableFuture<CachedPlaceDetail>> inFlight = new ConcurrentHashMap<>();
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final Duration negativeTtl;
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+    private final Counter loadFound;
+    private final Counter loadNotFound;
+
+    public PlaceDetailCache(
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.place-detail-cache.local-max-size:10000}") long localMaxSize,
+            @Value("${app.place-detail-cache.local-ttl:PT30M}") Duration localTtl,
+            @Value("${app.place-detail-cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${app.place-detail-cache.redis-ttl:PT24H}") Duration redisTtl,
+            @Value("${app.place-detail-cache.negative-ttl:PT10M}") Duration negativeTtl
+    ) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+        this.negativeTtl = negativeTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new Expiry<String, CachedPlaceDetail>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedPlaceDetail value, long currentTime) {
+                        return (value.notFound() ? negativeTtl : localTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedPlaceDetail value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedPlaceDetail value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.localHit = cacheCounter(meterRegistry, "local", "hit");
+        this.localMiss = cacheCounter(meterRegistry, "local", "miss");
+        this.redisHit = cacheCounter(meterRegistry, "redis", "hit");
+        this.redisMiss = cacheCounter(meterRegistry, "redis", "miss");
+        this.loadFound = Counter.builder("place.detail.load").tag("result", "found").register(meterRegistry);
+        this.loadNotFound = Counter.builder("place.detail.load").tag("result", "not_found").register(meterRegistry);
+    }
+
+    /**
+     * placeId 의 상세 정보를 캐시에서 찾고, 없으면 loader(Google 호출)로 채운다.
+     * 캐시된 not-found 는 loader 와 동일하게 PLACE_003 예외로 돌려준다.
+     */
+    public PlaceRecommendationDetailResponse get(String placeId, Supplier<PlaceRecommendationDetailResponse> loader) {
+        CachedPlaceDetail cached = localCache.getIfPresent(placeId);
+        if (cached != null) {
+            localHit.increment();
+        } else {
+            localMiss.increment();
+            cached = loadShared(placeId, loader);
+        }
+        if (cached.notFound()) {
+            throw new PlaceSearchException(ErrorCode.PLACE_003, HttpStatus.NOT_FOUND, "place not found");
+        }
+        return cached.toResponse();
+    }
+
+    public void evict(String placeId) {
+        localCache.invalidate(placeId);
+        StringRedisTemplate redisTemplate = redisTemplate();
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(REDIS_KEY_PREFIX + placeId);
+        } catch (Exception ex) {
+            log.warn("place detail redis evict failed placeId={}: {}", placeId, ex.getMessage());
+        }
+    }
+
+    /** 먼저 등록한 호출만 로드하고, 나머지는 그 결과(예외 포함)를 기다린다. */
+    private CachedPlaceDetail loadShared(String placeId, Supplier<PlaceRecommendationDetailResponse> loader) {
+        CompletableFuture<CachedPlaceDetail> created = new CompletableFuture<>();
+        CompletableFuture<CachedPlaceDetail> existing = inFlight.putIfAbsent(placeId, created);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            // 캐시 확인과 등록 사이에 다른 호출이 로드를 끝냈을 수 있다.
+            CachedPlaceDetail loaded = localCache.getIfPresent(placeId);
+            if (loaded == null) {
+                loaded = loadFromRedisOrOrigin(placeId, loader);
+                localCache.put(placeId, loaded);
+            }
+            created.complete(loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(placeId, created);
+        }
+    }
+
+    private static CachedPlaceDetail await(CompletableFuture<CachedPlaceDetail> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private CachedPlaceDetail loadFromRedisOrOrigin(String placeId, Supplier<PlaceRecommendationDetailResponse> loader) {
+        CachedPlaceDetail shared = readRedis(placeId);
+        if (shared != null) {
+            redisHit.increment();
+            return shared;
+        }
+        redisMiss.increment();
+        CachedPlaceDetail loaded;
+        try {
+            loaded = CachedPlaceDetail.of(loader.get());
+            loadFound.increment();
+        } catch (PlaceSearchException ex) {
+            if (ex.getHttpStatus() != HttpStatus.NOT_FOUND) {
+                throw ex;
+            }
+            loaded = CachedPlaceDetail.NOT_FOUND;
+            loadNotFound.increment();
+        }
+        writeRedis(placeId, loaded);
+        return loaded;
+    }
+
+    private CachedPlaceDetail readRedis(String placeId) {
+        StringRedisTemplate redisTemplate = redisTemplate();
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + placeId);
+            return json == null ? null : objectMapper.readValue(json, CachedPlaceDetail.class);
+        } catch (Exception ex) {
+            log.warn("place detail redis read failed placeId={}: {}", placeId, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String placeId, CachedPlaceDetail value) {
+        StringRedisTemplate redisTemplate = redisTemplate();
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(
+                    REDIS_KEY_PREFIX + placeId,
+                    objectMapper.writeValueAsString(value),
+                    value.notFound() ? negativeTtl : redisTtl
+            );
+        } catch (JsonProcessingException ex) {
+            log.warn("place detail serialize failed placeId={}: {}", placeId, ex.getMessage());
+        } catch (Exception ex) {
+            log.warn("place detail redis write failed placeId={}: {}", placeId, ex.getMessage());
+        }
+    }
+
+    private StringRedisTemplate redisTemplate() {
+        return redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("place.detail.cache")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    record CachedPlaceDetail(
+            boolean notFound,
+            String placeId,
+            String name,
+            String city,
+            String country,
+            Double latitude,
+            Double longitude,
+            String photoUrl,
+            String googleMapsUrl,
+            String photoName
+    ) {
+        static final CachedPlaceDetail NOT_FOUND =
+                new CachedPlaceDetail(true, null, null, null, null, null, null, null, null, null);
+
+        static CachedPlaceDetail of(PlaceRecommendationDetailResponse response) {
+            return new CachedPlaceDetail(
+                    false,
+                    response.getPlaceId(),
+                    response.getName(),
+                    response.getCity(),
+                    response.getCountry(),
+                    response.getLatitude(),
+                    response.getLongitude(),
+                    response.getPhotoUrl(),
+                    response.getGoogleMapsUrl(),
+                    response.getPhotoName()
+            );
+        }
+
+        PlaceRecommendationDetailResponse toResponse() {
+            return new PlaceRecommendationDetailResponse(
+                    placeId, name, city, country, latitude, longitude, photoUrl, googleMapsUrl, photoName);
+        }
+    }
+}
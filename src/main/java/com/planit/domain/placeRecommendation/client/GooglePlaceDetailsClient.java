@@ -4,18 +4,12 @@ import com.planit.domain.place.exception.PlaceSearchException;
 import com.planit.global.common.exception.ErrorCode;
 import java.net.SocketTimeoutException;
 import java.util.List;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
@@ -26,10 +20,6 @@ public class GooglePlaceDetailsClient {
     private static final Logger logger = LoggerFactory.getLogger(GooglePlaceDetailsClient.class);
     private static final String FIELD_MASK =
             "id,displayName,formattedAddress,addressComponents,photos,location";
-    private static final HttpClient PHOTO_HTTP_CLIENT = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(3))
-            .followRedirects(HttpClient.Redirect.NEVER)
-            .build();
 
     private final RestClient restClient;
     private final String apiKey;
@@ -55,13 +45,11 @@ public class GooglePlaceDetailsClient {
                     .retrieve()
                     .body(PlaceDetailsResponse.class);
         } catch (RestClientResponseException ex) {
-            HttpStatus status = HttpStatus.resolve(ex.getRawStatusCode());
             logger.warn("Google Places details error: status={}, body={}", ex.getRawStatusCode(), ex.getResponseBodyAsString());
-            throw new PlaceSearchException(
-                    ErrorCode.PLACE_003,
-                    status == null ? HttpStatus.BAD_GATEWAY : HttpStatus.BAD_GATEWAY,
-                    "Google Places details error"
-            );
+            if (isUnknownPlace(ex)) {
+                throw new PlaceSearchException(ErrorCode.PLACE_003, HttpStatus.NOT_FOUND, "place not found");
+            }
+            throw new PlaceSearchException(ErrorCode.PLACE_003, HttpStatus.BAD_GATEWAY, "Google Places details error");
         } catch (ResourceAccessException ex) {
             Throwable cause = ex.getCause();
             if (cause instanceof SocketTimeoutException) {
@@ -76,28 +64,20 @@ public class GooglePlaceDetailsClient {
         }
     }
 
-    public String fetchPhotoMediaUrl(String photoName) {
-        if (!StringUtils.hasText(photoName)) {
-            return null;
+    /**
+     * 존재하지 않는 placeId: 404, 또는 형식이 잘못된 id 에 대한 400 INVALID_ARGUMENT(레거시 API 는 INVALID_REQUEST).
+     * 이 경우만 NOT_FOUND 로 돌려 상세 캐시가 negative entry 로 남기게 하고, 나머지 오류는 BAD_GATEWAY 로 둔다.
+     */
+    private static boolean isUnknownPlace(RestClientResponseException ex) {
+        int status = ex.getRawStatusCode();
+        if (status == HttpStatus.NOT_FOUND.value()) {
+            return true;
         }
-        try {
-            String path = "/v1/" + photoName + "/media";
-            URI uri = new URI("https", "places.googleapis.com", path, "maxWidthPx=400", null);
-            HttpRequest request = HttpRequest.newBuilder(uri)
-                    .GET()
-                    .header("X-Goog-Api-Key", apiKey)
-                    .build();
-            HttpResponse<Void> response = PHOTO_HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.discarding());
-            if (response.statusCode() == 301 || response.statusCode() == 302) {
-                return response.headers().firstValue("Location").orElse(null);
-            }
-            if (response.statusCode() == 200) {
-                return uri.toString();
-            }
-        } catch (Exception ex) {
-            logger.warn("Google Places photo fetch error for {}: {}", photoName, ex.getMessage());
+        if (status != HttpStatus.BAD_REQUEST.value()) {
+            return false;
         }
-        return null;
+        String body = ex.getResponseBodyAsString();
+        return body.contains("INVALID_ARGUMENT") || body.contains("INVALID_REQUEST");
     }
 
     public record PlaceDetailsResponse(
@@ -0,0 +1,208 @@
+package com.planit.domain.placeRecommendation.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Google Places 사진 media URL(302 Location) 조회기.
+ * - photoName -> redirect URL 을 expiry 가 있는 캐시에 보관한다.
+ * - HttpClient.sendAsync 로 조회하고, 동시 요청 수는 max-concurrency 로 제한한다(초과분은 큐에서 대기).
+ * - 같은 photoName 의 동시 조회는 하나의 future 를 공유한다.
+ * 요청 스레드는 await 한도까지만 기다리고, 이후 끝난 조회 결과는 캐시에 남아 다음 요청에서 사용된다.
+ */
+@Component
+public class GooglePlacePhotoResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(GooglePlacePhotoResolver.class);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(3);
+
+    private final HttpClient httpClient;
+    private final Cache<String, String> redirectCache;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final Semaphore permits;
+    private final String apiKey;
+    private final long awaitMillis;
+
+    @Autowired
+    public GooglePlacePhotoResolver(
+            @Value("${google.maps.api-key}") String apiKey,
+            @Value("${app.place-photo.cache-ttl:PT6H}") Duration cacheTtl,
+            @Value("${app.place-photo.cache-max-size:20000}") long cacheMaxSize,
+            @Value("${app.place-photo.max-concurrency:16}") int maxConcurrency,
+            @Value("${app.place-photo.await-ms:800}") long awaitMillis
+    ) {
+        this(
+                HttpClient.newBuilder()
+                        .connectTimeout(Duration.ofSeconds(3))
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .build(),
+                apiKey, cacheTtl, cacheMaxSize, maxConcurrency, awaitMillis
+        );
+    }
+
+    GooglePlacePhotoResolver(
+            HttpClient httpClient,
+            String apiKey,
+            Duration cacheTtl,
+            long cacheMaxSize,
+            int maxConcurrency,
+            long awaitMillis
+    ) {
+        this.httpClient = httpClient;
+        this.apiKey = apiKey;
+        this.awaitMillis = awaitMillis;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.redirectCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /** 단건 조회. await 한도 안에 끝나지 않으면 null 을 돌려주고 조회는 백그라운드에서 계속된다. */
+    public String resolve(String photoName) {
+        if (!StringUtils.hasText(photoName)) {
+            return null;
+        }
+        return resolveAll(List.of(photoName)).get(photoName);
+    }
+
+    /** 여러 photoName 을 동시에 조회해 await 한도 안에 끝난 것만 돌려준다. */
+    public Map<String, String> resolveAll(Collection<String> photoNames) {
+        Map<String, String> resolved = new LinkedHashMap<>();
+        Map<String, CompletableFuture<String>> pending = new LinkedHashMap<>();
+        for (String photoName : new LinkedHashSet<>(photoNames)) {
+            if (!StringUtils.hasText(photoName)) {
+                continue;
+            }
+            String cached = redirectCache.getIfPresent(photoName);
+            if (cached != null) {
+                resolved.put(photoName, cached);
+            } else {
+                pending.put(photoName, resolveAsync(photoName));
+            }
+        }
+        if (pending.isEmpty()) {
+            return resolved;
+        }
+        try {
+            CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new))
+                    .get(awaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            logger.debug("Google Places photo lookup still pending after {}ms", awaitMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            // 개별 실패는 null 로 완료되므로 여기까지 오지 않는다.
+        }
+        pending.forEach((photoName, future) -> {
+            String url = future.getNow(null);
+            if (url != null) {
+                resolved.put(photoName, url);
+            }
+        });
+        return resolved;
+    }
+
+    public CompletableFuture<String> resolveAsync(String photoName) {
+        String cached = redirectCache.getIfPresent(photoName);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(photoName, created);
+        if (existing != null) {
+            return existing;
+        }
+        created.whenComplete((url, ex) -> inFlight.remove(photoName, created));
+        waiting.add(() -> send(photoName, created));
+        drain();
+        return created;
+    }
+
+    private void send(String photoName, CompletableFuture<String> result) {
+        HttpRequest request;
+        URI uri;
+        try {
+            uri = new URI("https", "places.googleapis.com", "/v1/" + photoName + "/media", "maxWidthPx=400", null);
+            request = HttpRequest.newBuilder(uri)
+                    .GET()
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("X-Goog-Api-Key", apiKey)
+                    .build();
+        } catch (Exception ex) {
+            logger.warn("Google Places photo request build error for {}: {}", photoName, ex.getMessage());
+            release();
+            result.complete(null);
+            return;
+        }
+        CompletableFuture<HttpResponse<Void>> sent;
+        try {
+            sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        } catch (RuntimeException ex) {
+            // 동기 예외(닫힌 client 등)도 permit 을 돌려주고 null 로 완료해야 inFlight 항목이 남지 않는다.
+            logger.warn("Google Places photo request send error for {}: {}", photoName, ex.getMessage());
+            release();
+            result.complete(null);
+            return;
+        }
+        sent.whenComplete((response, ex) -> {
+            release();
+            if (ex != null) {
+                logger.warn("Google Places photo fetch error for {}: {}", photoName, ex.getMessage());
+                result.complete(null);
+                return;
+            }
+            String url = null;
+            if (response.statusCode() == 301 || response.statusCode() == 302) {
+                url = response.headers().firstValue("Location").orElse(null);
+            } else if (response.statusCode() == 200) {
+                url = uri.toString();
+            }
+            if (url != null) {
+                redirectCache.put(photoName, url);
+            }
+            result.complete(url);
+        });
+    }
+
+    private void release() {
+        permits.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            Runnable task = waiting.poll();
+            if (task == null) {
+                permits.release();
+                continue;
+            }
+            task.run();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.planit.domain.placeRecommendation.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 
 @Getter
@@ -13,6 +14,8 @@ public class PlaceRecommendationDetailResponse {
     private final Double longitude;
     private final String photoUrl;
     private final String googleMapsUrl;
+    @JsonIgnore
+    private final String photoName; // Google photo resource name, photoUrl 은 요청 시점에 redirect 캐시로 해석
 
     public PlaceRecommendationDetailResponse(
             String placeId,
@@ -23,6 +26,20 @@ public class PlaceRecommendationDetailResponse {
             Double longitude,
             String photoUrl,
             String googleMapsUrl
+    ) {
+        this(placeId, name, city, country, latitude, longitude, photoUrl, googleMapsUrl, null);
+    }
+
+    public PlaceRecommendationDetailResponse(
+            String placeId,
+            String name,
+            String city,
+            String country,
+            Double latitude,
+            Double longitude,
+            String photoUrl,
+            String googleMapsUrl,
+            String photoName
     ) {
         this.placeId = placeId;
         this.name = name;
@@ -32,6 +49,12 @@ public class PlaceRecommendationDetailResponse {
         this.longitude = longitude;
         this.photoUrl = photoUrl;
         this.googleMapsUrl = googleMapsUrl;
+        this.photoName = photoName;
+    }
+
+    public PlaceRecommendationDetailResponse withPhotoUrl(String resolvedPhotoUrl) {
+        return new PlaceRecommendationDetailResponse(
+                placeId, name, city, country, latitude, longitude, resolvedPhotoUrl, googleMapsUrl, photoName);
     }
 
     public String getPlaceId() {
@@ -4,7 +4,9 @@ import com.planit.domain.place.client.GooglePlacesClient;
 import com.planit.domain.place.client.GooglePlacesRequest;
 import com.planit.domain.place.client.GooglePlacesResponse;
 import com.planit.domain.place.exception.PlaceSearchException;
+import com.planit.domain.placeRecommendation.cache.PlaceDetailCache;
 import com.planit.domain.placeRecommendation.client.GooglePlaceDetailsClient;
+import com.planit.domain.placeRecommendation.client.GooglePlacePhotoResolver;
 import com.planit.domain.placeRecommendation.client.GooglePlaceDetailsClient.PlaceDetailsResponse;
 import com.planit.domain.placeRecommendation.dto.PlaceRecommendationDetailResponse;
 import com.planit.domain.placeRecommendation.dto.PlaceRecommendationSearchResponse;
@@ -33,15 +35,21 @@ public class PlaceRecommendationService {
 
     private final GooglePlacesClient googlePlacesClient;
     private final GooglePlaceDetailsClient googlePlaceDetailsClient;
+    private final PlaceDetailCache placeDetailCache;
+    private final GooglePlacePhotoResolver googlePlacePhotoResolver;
     private final String apiKey;
 
     public PlaceRecommendationService(
             GooglePlacesClient googlePlacesClient,
             GooglePlaceDetailsClient googlePlaceDetailsClient,
+            PlaceDetailCache placeDetailCache,
+            GooglePlacePhotoResolver googlePlacePhotoResolver,
             @Value("${google.maps.api-key}") String apiKey
     ) {
         this.googlePlacesClient = googlePlacesClient;
         this.googlePlaceDetailsClient = googlePlaceDetailsClient;
+        this.placeDetailCache = placeDetailCache;
+        this.googlePlacePhotoResolver = googlePlacePhotoResolver;
         this.apiKey = apiKey;
     }
 
@@ -88,6 +96,14 @@ public class PlaceRecommendationService {
         if (!StringUtils.hasText(placeId)) {
             throw new PlaceSearchException(ErrorCode.PLACE_002, HttpStatus.BAD_REQUEST, "placeId is required");
         }
+        PlaceRecommendationDetailResponse detail = placeDetailCache.get(placeId, () -> fetchPlaceDetail(placeId));
+        if (!StringUtils.hasText(detail.getPhotoName())) {
+            return detail;
+        }
+        return detail.withPhotoUrl(googlePlacePhotoResolver.resolve(detail.getPhotoName()));
+    }
+
+    private PlaceRecommendationDetailResponse fetchPlaceDetail(String placeId) {
         PlaceDetailsResponse response = googlePlaceDetailsClient.getPlaceDetails(placeId);
         if (response == null || !StringUtils.hasText(response.id())) {
             throw new PlaceSearchException(ErrorCode.PLACE_003, HttpStatus.NOT_FOUND, "place not found");
@@ -106,9 +122,9 @@ public class PlaceRecommendationService {
                 : response.formattedAddress();
         Double latitude = response.location() != null ? response.location().latitude() : null;
         Double longitude = response.location() != null ? response.location().longitude() : null;
-        String photoUrl = null;
+        String photoName = null;
         if (response.photos() != null && !response.photos().isEmpty()) {
-            photoUrl = googlePlaceDetailsClient.fetchPhotoMediaUrl(response.photos().get(0).name());
+            photoName = response.photos().get(0).name();
         }
         return new PlaceRecommendationDetailResponse(
                 googlePlaceId,
@@ -117,8 +133,9 @@ public class PlaceRecommendationService {
                 country,
                 latitude,
                 longitude,
-                photoUrl,
-                MAPS_PLACE_URL_PREFIX + googlePlaceId
+                null,
+                MAPS_PLACE_URL_PREFIX + googlePlaceId,
+                photoName
         );
     }
 
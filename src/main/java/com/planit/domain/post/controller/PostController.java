@@ -2,6 +2,7 @@ package com.planit.domain.post.controller; // 게시글 관련 컨트롤러 패
 
 import com.planit.domain.post.dto.PostCreateRequest;
 import com.planit.domain.post.dto.PostCreateResponse;
+import com.planit.domain.post.dto.PostCursorPageResponse;
 import com.planit.domain.post.dto.PostDetailResponse;
 import com.planit.domain.post.dto.PostSummaryResponse;
 import com.planit.domain.post.query.service.PostQueryService;
@@ -77,6 +78,32 @@ public class PostController {
         );
     }
 
+    /**
+     * 커서 기반 목록(무한 스크롤).
+     * (created_at, post_id) keyset으로 다음 페이지를 읽으며 전체 건수 count 쿼리를 수행하지 않는다.
+     */
+    @Operation(summary = "게시판 목록 커서 조회",
+            description = """
+            nextCursor를 다음 요청의 cursor로 전달하면 이어지는 게시글을 created_at DESC, post_id DESC 순으로 반환합니다.
+            cursor를 생략하면 첫 페이지를 반환하며, totalElements 대신 hasNext만 제공합니다.
+            """)
+    @GetMapping("/cursor")
+    public PostCursorPageResponse listPostsByCursor(
+            @RequestParam(defaultValue = "FREE") String boardType,
+            @Parameter(description = "검색어(히스토리/단어 길이 2~24자, 특수문자/초성 불가)") @RequestParam(required = false) String search,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + PageablePolicy.DEFAULT_PAGE_SIZE) int size
+    ) {
+        BoardType resolvedBoardType = parseBoardType(boardType);
+        validateSearch(search);
+        return postQueryService.getPostSummaries(
+                resolvedBoardType,
+                normalizeSearch(search),
+                cursor,
+                size
+        );
+    }
+
     /**
      * 게시글 상세: 작성자 정보, 최대 5장 이미지, 좋아요·댓글 상태/카운트, 댓글 리스트/삭제 권한 제공
      */
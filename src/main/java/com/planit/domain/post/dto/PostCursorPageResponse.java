@@ -0,0 +1,10 @@
+package com.planit.domain.post.dto; // 게시글 커서 페이징 응답 DTO
+
+import java.util.List;
+
+public record PostCursorPageResponse(
+        List<PostSummaryResponse> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
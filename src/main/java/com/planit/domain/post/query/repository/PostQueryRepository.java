@@ -91,6 +91,307 @@ public interface PostQueryRepository extends Repository<Post, Long> {
             Pageable pageable
     );
 
+    /**
+     * (created_at, post_id) 기준 keyset 페이징.
+     * count 쿼리와 OFFSET 스캔 없이 idx_posts_board_deleted_created 인덱스를 커서 위치부터 읽는다.
+     */
+    @Query(
+            value = """
+                    select p.post_id as postId,
+                           p.title as title,
+                           u.user_id as authorId,
+                           u.nickname as authorNickname,
+                           u.profile_image_key as authorProfileImageKey,
+                           p.created_at as createdAt,
+                           coalesce(plc.like_count, 0) as likeCount,
+                           coalesce(pcc.comment_count, 0) as commentCount,
+                           coalesce(pvc.view_count, 0) as viewCount,
+                           (select pi.image_id from posted_images pi
+                            where pi.post_id = p.post_id
+                              and pi.is_main_image = 1
+                            order by pi.created_at asc limit 1) as representativeImageId,
+                           (select i.s3_key from posted_images pi
+                            join images i on i.id = pi.image_id
+                            where pi.post_id = p.post_id
+                              and pi.is_main_image = 1
+                            order by pi.created_at asc limit 1) as representativeImageKey,
+                           null as rankingScore,
+                           (select pl.photo_url from posted_places pp
+                            join places pl on pl.place_id = pp.place_id
+                            where pp.post_id = p.post_id
+                            limit 1) as placeImageUrl,
+                           (select pl.name from posted_places pp
+                            join places pl on pl.place_id = pp.place_id
+                            where pp.post_id = p.post_id
+                            limit 1) as placeName,
+                           p.google_place_id as googlePlaceId,
+                           null as tripTitle,
+                           p.board_type as boardType
+                    from posts p
+                    join users u on u.user_id = p.user_id and u.is_deleted = 0
+                    left join post_like_count plc on plc.post_id = p.post_id
+                    left join post_comment_count pcc on pcc.post_id = p.post_id
+                    left join post_view_count pvc on pvc.post_id = p.post_id
+                    where p.board_type = :boardType
+                      and p.is_deleted = 0
+                      and ( :cursorCreatedAt is null
+                         or p.created_at < :cursorCreatedAt
+                         or (p.created_at = :cursorCreatedAt and p.post_id < :cursorPostId) )
+                      and ( :search = ''
+                         or p.title like concat('%', :search, '%')
+                         or p.content like concat('%', :search, '%')
+                         or exists (
+                             select 1 from posted_places pp
+                             join places pl on pl.place_id = pp.place_id
+                             where pp.post_id = p.post_id
+                               and pl.name like concat('%', :search, '%')
+                         ) )
+                    order by p.created_at desc, p.post_id desc
+                    limit :limit
+                    """,
+            nativeQuery = true
+    )
+    List<PostSummaryProjection> findPostSummariesByCursor(
+            @Param("boardType") String boardType,
+            @Param("search") String search,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorPostId") Long cursorPostId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * FULLTEXT(ngram) 인덱스 검색. :search 는 BOOLEAN MODE 구문이며,
+     * 제목/본문 점수와 추천 장소명 점수를 합산해 rankingScore 로 정렬한다.
+     * 두 MATCH 를 OR 로 묶으면 FULLTEXT 인덱스를 접근 경로로 쓰지 못하므로, 각각 인덱스로 찾은 post_id 를 UNION 해 조인한다.
+     */
+    @Query(
+            value = """
+                    select p.post_id as postId,
+                           p.title as title,
+                           u.user_id as authorId,
+                           u.nickname as authorNickname,
+                           u.profile_image_key as authorProfileImageKey,
+                           p.created_at as createdAt,
+                           coalesce(plc.like_count, 0) as likeCount,
+                           coalesce(pcc.comment_count, 0) as commentCount,
+                           coalesce(pvc.view_count, 0) as viewCount,
+                           (select pi.image_id from posted_images pi
+                            where pi.post_id = p.post_id
+                              and pi.is_main_image = 1
+                            order by pi.created_at asc limit 1) as representativeImageId,
+                           (select i.s3_key from posted_images pi
+                            join images i on i.id = pi.image_id
+                            where pi.post_id = p.post_id
+                              and pi.is_main_image = 1
+                            order by pi.created_at asc limit 1) as representativeImageKey,
+                           match(p.title, p.content) against (:search in boolean mode)
+                             + coalesce((select max(match(spl.name) against (:search in boolean mode))
+                                         from posted_places spp
+                                         join places spl on spl.place_id = spp.place_id
+                                         where spp.post_id = p.post_id), 0) as rankingScore,
+                           (select pl.photo_url from posted_places pp
+                            join places pl on pl.place_id = pp.place_id
+                            where pp.post_id = p.post_id
+                            limit 1) as placeImageUrl,
+                           (select pl.name from posted_places pp
+                            join places pl on pl.place_id = pp.place_id
+                            where pp.post_id = p.post_id
+                            limit 1) as placeName,
+                           p.google_place_id as googlePlaceId,
+                           null as tripTitle,
+                           p.board_type as boardType
+                    from (
+                        select fp.post_id
+                        from posts fp
+                        where match(fp.title, fp.content) against (:search in boolean mode)
+                        union
+                        select spp.post_id
+                        from posted_places spp
+                        join places spl on spl.place_id = spp.place_id
+                        where match(spl.name) against (:search in boolean mode)
+                    ) matched
+                    join posts p on p.post_id = matched.post_id
+                    join users u on u.user_id = p.user_id and u.is_deleted = 0
+                    left join post_like_count plc on plc.post_id = p.post_id
+                    left join post_comment_count pcc on pcc.post_id = p.post_id
+                    left join post_view_count pvc on pvc.post_id = p.post_id
+                    where p.board_type = :boardType
+                      and p.is_deleted = 0
+                    order by rankingScore desc, p.created_at desc, p.post_id desc
+                    """,
+            countQuery = """
+                    select count(*)
+                    from (
+                        select fp.post_id
+                        from posts fp
+                        where match(fp.title, fp.content) against (:search in boolean mode)
+                        union
+                        select spp.post_id
+                        from posted_places spp
+                        join places spl on spl.place_id = spp.place_id
+                        where match(spl.name) against (:search in boolean mode)
+                    ) matched
+                    join posts p on p.post_id = matched.post_id
+                    join users u on u.user_id = p.user_id and u.is_deleted = 0
+                    where p.board_type = :boardType
+                      and p.is_deleted = 0
+                    """,
+            nativeQuery = true
+    )
+    Page<PostSummaryProjection> searchPostSummaries(
+            @Param("boardType") String boardType,
+            @Param("search") String search,
+            Pageable pageable
+    );
+
+    /** FULLTEXT 검색 + keyset 페이징. 커서 일관성을 위해 정렬은 (created_at, post_id) 를 유지한다. */
+    @Query(
+            value = """
+                    select p.post_id as postId,
+                           p.title as title,
+                           u.user_id as authorId,
+                           u.nickname as authorNickname,
+                           u.profile_image_key as authorProfileImageKey,
+                           p.created_at as createdAt,
+                           coalesce(plc.like_count, 0) as likeCount,
+                           coalesce(pcc.comment_count, 0) as commentCount,
+                           coalesce(pvc.view_count, 0) as viewCount,
+                           (select pi.image_id from posted_images pi
+                            where pi.post_id = p.post_id
+                              and pi.is_main_image = 1
+                            order by pi.created_at asc limit 1) as representativeImageId,
+                           (select i.s3_key from posted_images pi
+                            join images i on i.id = pi.image_id
+                            where pi.post_id = p.post_id
+                              and pi.is_main_image = 1
+                            order by pi.created_at asc limit 1) as representativeImageKey,
+                           match(p.title, p.content) against (:search in boolean mode)
+                             + coalesce((select max(match(spl.name) against (:search in boolean mode))
+                                         from posted_places spp
+                                         join places spl on spl.place_id = spp.place_id
+                                         where spp.post_id = p.post_id), 0) as rankingScore,
+                           (select pl.photo_url from posted_places pp
+                            join places pl on pl.place_id = pp.place_id
+                            where pp.post_id = p.post_id
+                            limit 1) as placeImageUrl,
+                           (select pl.name from posted_places pp
+                            join places pl on pl.place_id = pp.place_id
+                            where pp.post_id = p.post_id
+                            limit 1) as placeName,
+                           p.google_place_id as googlePlaceId,
+                           null as tripTitle,
+                           p.board_type as boardType
+                    from (
+                        select fp.post_id
+                        from posts fp
+                        where match(fp.title, fp.content) against (:search in boolean mode)
+                        union
+                        select spp.post_id
+                        from posted_places spp
+                        join places spl on spl.place_id = spp.place_id
+                        where match(spl.name) against (:search in boolean mode)
+                    ) matched
+                    join posts p on p.post_id = matched.post_id
+                    join users u on u.user_id = p.user_id and u.is_deleted = 0
+                    left join post_like_count plc on plc.post_id = p.post_id
+                    left join post_comment_count pcc on pcc.post_id = p.post_id
+                    left join post_view_count pvc on pvc.post_id = p.post_id
+                    where p.board_type = :boardType
+                      and p.is_deleted = 0
+                      and ( :cursorCreatedAt is null
+                         or p.created_at < :cursorCreatedAt
+                         or (p.created_at = :cursorCreatedAt and p.post_id < :cursorPostId) )
+                    order by p.created_at desc, p.post_id desc
+                    limit :limit
+                    """,
+            nativeQuery = true
+    )
+    List<PostSummaryProjection> searchPostSummariesByCursor(
+            @Param("boardType") String boardType,
+            @Param("search") String search,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorPostId") Long cursorPostId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * post_summary 읽기 모델 기반 목록 조회(검색어 없는 경우).
+     * 서브쿼리/통계 조인 없이 idx_post_summary_board_created 인덱스만 읽고, 작성자는 PK 조회로 붙인다.
+     */
+    @Query(
+            value = """
+                    select ps.post_id as postId,
+                           ps.title as title,
+                           u.user_id as authorId,
+                           u.nickname as authorNickname,
+                           u.profile_image_key as authorProfileImageKey,
+                           ps.created_at as createdAt,
+                           ps.like_count as likeCount,
+                           ps.comment_count as commentCount,
+                           ps.view_count as viewCount,
+                           ps.representative_image_id as representativeImageId,
+                           ps.representative_image_key as representativeImageKey,
+                           null as rankingScore,
+                           ps.place_image_url as placeImageUrl,
+                           ps.place_name as placeName,
+                           ps.google_place_id as googlePlaceId,
+                           null as tripTitle,
+                           ps.board_type as boardType
+                    from post_summary ps
+                    join users u on u.user_id = ps.user_id and u.is_deleted = 0
+                    where ps.board_type = :boardType
+                    order by ps.created_at desc, ps.post_id desc
+                    """,
+            countQuery = """
+                    select count(*)
+                    from post_summary ps
+                    join users u on u.user_id = ps.user_id and u.is_deleted = 0
+                    where ps.board_type = :boardType
+                    """,
+            nativeQuery = true
+    )
+    Page<PostSummaryProjection> findPostSummariesFromReadModel(
+            @Param("boardType") String boardType,
+            Pageable pageable
+    );
+
+    @Query(
+            value = """
+                    select ps.post_id as postId,
+                           ps.title as title,
+                           u.user_id as authorId,
+                           u.nickname as authorNickname,
+                           u.profile_image_key as authorProfileImageKey,
+                           ps.created_at as createdAt,
+                           ps.like_count as likeCount,
+                           ps.comment_count as commentCount,
+                           ps.view_count as viewCount,
+                           ps.representative_image_id as representativeImageId,
+                           ps.representative_image_key as representativeImageKey,
+                           null as rankingScore,
+                           ps.place_image_url as placeImageUrl,
+                           ps.place_name as placeName,
+                           ps.google_place_id as googlePlaceId,
+                           null as tripTitle,
+                           ps.board_type as boardType
+                    from post_summary ps
+                    join users u on u.user_id = ps.user_id and u.is_deleted = 0
+                    where ps.board_type = :boardType
+                      and ( :cursorCreatedAt is null
+                         or ps.created_at < :cursorCreatedAt
+                         or (ps.created_at = :cursorCreatedAt and ps.post_id < :cursorPostId) )
+                    order by ps.created_at desc, ps.post_id desc
+                    limit :limit
+                    """,
+            nativeQuery = true
+    )
+    List<PostSummaryProjection> findPostSummariesFromReadModelByCursor(
+            @Param("boardType") String boardType,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorPostId") Long cursorPostId,
+            @Param("limit") int limit
+    );
+
     @Query(
             value = """
                     select p.post_id as postId,
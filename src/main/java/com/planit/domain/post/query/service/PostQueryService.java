@@ -3,13 +3,20 @@ package com.planit.domain.post.query.service;
 import com.planit.domain.place.exception.PlaceSearchException;
 import com.planit.domain.placeRecommendation.dto.PlaceRecommendationDetailResponse;
 import com.planit.domain.placeRecommendation.service.PlaceRecommendationService;
+import com.planit.domain.post.dto.PostCursorPageResponse;
 import com.planit.domain.post.dto.PostDetailResponse;
 import com.planit.domain.post.dto.PostSummaryResponse;
 import com.planit.domain.post.entity.BoardType;
 import com.planit.domain.post.query.projection.PostDetailProjection;
 import com.planit.domain.post.query.projection.PostSummaryProjection;
 import com.planit.domain.post.query.repository.PostQueryRepository;
+import com.planit.domain.post.query.support.PostCursor;
+import com.planit.domain.post.query.support.PlaceListImageResolver;
+import com.planit.domain.post.query.support.PostFullTextIndex;
+import com.planit.domain.post.stats.dto.PostStatsDelta;
 import com.planit.domain.post.stats.service.PostStatsAggregationService;
+import com.planit.domain.post.stats.service.PostViewCountBuffer;
+import com.planit.domain.post.summary.service.PostSummaryService;
 import com.planit.global.common.response.PageResponse;
 import com.planit.global.config.PageablePolicy;
 import com.planit.infrastructure.storage.S3ImageUrlResolver;
@@ -44,17 +51,29 @@ public class PostQueryService {
     private final S3ImageUrlResolver imageUrlResolver;
     private final PlaceRecommendationService placeRecommendationService;
     private final PostStatsAggregationService postStatsAggregationService;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final PostFullTextIndex postFullTextIndex;
+    private final PostSummaryService postSummaryService;
+    private final PlaceListImageResolver placeListImageResolver;
 
     public PostQueryService(
             PostQueryRepository postQueryRepository,
             S3ImageUrlResolver imageUrlResolver,
             PlaceRecommendationService placeRecommendationService,
-            PostStatsAggregationService postStatsAggregationService
+            PostStatsAggregationService postStatsAggregationService,
+            PostViewCountBuffer postViewCountBuffer,
+            PostFullTextIndex postFullTextIndex,
+            PostSummaryService postSummaryService,
+            PlaceListImageResolver placeListImageResolver
     ) {
         this.postQueryRepository = postQueryRepository;
         this.imageUrlResolver = imageUrlResolver;
         this.placeRecommendationService = placeRecommendationService;
         this.postStatsAggregationService = postStatsAggregationService;
+        this.postViewCountBuffer = postViewCountBuffer;
+        this.postFullTextIndex = postFullTextIndex;
+        this.postSummaryService = postSummaryService;
+        this.placeListImageResolver = placeListImageResolver;
     }
 
     public PageResponse<PostSummaryResponse> getPostSummaries(
@@ -69,51 +88,137 @@ public class PostQueryService {
         );
         Pageable nativePageable = PageRequest.of(safePageable.getPageNumber(), safePageable.getPageSize());
         String normalizedSearch = keyword == null ? "" : keyword;
-        Page<PostSummaryProjection> result = postQueryRepository.findPostSummaries(
-                boardType.name(),
-                normalizedSearch,
-                nativePageable
-        );
-        Page<PostSummaryResponse> mapped = result.map(summary -> {
-            String thumbnailUrl = null;
-            if (summary.getRepresentativeImageKey() != null) {
-                thumbnailUrl = imageUrlResolver.resolve(summary.getRepresentativeImageKey());
-            }
-            String placeImageUrl = resolvePlaceListImageUrl(summary);
-            if (thumbnailUrl == null
-                    && summary.getBoardType() == BoardType.PLACE_RECOMMEND
-                    && StringUtils.hasText(placeImageUrl)) {
-                thumbnailUrl = placeImageUrl;
-            }
-            return new PostSummaryResponse(
-                    summary.getPostId(),
-                    summary.getTitle(),
-                    summary.getAuthorId(),
-                    summary.getAuthorNickname(),
-                    imageUrlResolver.resolve(summary.getAuthorProfileImageKey()),
-                    summary.getCreatedAt(),
-                    summary.getLikeCount(),
-                    summary.getCommentCount(),
-                    summary.getRepresentativeImageId(),
-                    thumbnailUrl,
-                    summary.getRankingScore(),
-                    placeImageUrl,
-                    summary.getPlaceName(),
-                    summary.getTripTitle()
+        Page<PostSummaryProjection> result;
+        if (useReadModel(normalizedSearch)) {
+            result = postQueryRepository.findPostSummariesFromReadModel(boardType.name(), nativePageable);
+        } else if (useFullTextSearch(normalizedSearch)) {
+            result = postQueryRepository.searchPostSummaries(
+                    boardType.name(),
+                    PostFullTextIndex.toPhraseQuery(normalizedSearch),
+                    nativePageable
             );
-        });
+        } else {
+            result = postQueryRepository.findPostSummaries(
+                    boardType.name(),
+                    normalizedSearch,
+                    nativePageable
+            );
+        }
+        Map<Long, PostStatsDelta> pendingDeltas = postStatsAggregationService.getPendingDeltas(
+                result.getContent().stream().map(PostSummaryProjection::getPostId).toList());
+        Map<String, String> placePhotos = resolveMissingPlacePhotos(result.getContent());
+        Page<PostSummaryResponse> mapped = result.map(summary -> toSummaryResponse(summary, pendingDeltas, placePhotos));
         if (boardType == BoardType.PLAN_SHARE) {
             overridePlanShareImages(mapped.getContent());
         }
         return PageResponse.from(mapped);
     }
 
-    @Transactional
+    /**
+     * 커서 기반 목록 조회. count 쿼리 없이 size + 1건을 읽어 hasNext를 판단한다.
+     */
+    public PostCursorPageResponse getPostSummaries(
+            BoardType boardType,
+            String keyword,
+            String cursor,
+            int size
+    ) {
+        int pageSize = Math.max(1, Math.min(size, PageablePolicy.MAX_PAGE_SIZE));
+        PostCursor decoded = PostCursor.decode(cursor);
+        String normalizedSearch = keyword == null ? "" : keyword;
+        List<PostSummaryProjection> fetched;
+        if (useReadModel(normalizedSearch)) {
+            fetched = postQueryRepository.findPostSummariesFromReadModelByCursor(
+                    boardType.name(),
+                    decoded == null ? null : decoded.createdAt(),
+                    decoded == null ? null : decoded.postId(),
+                    pageSize + 1
+            );
+        } else if (useFullTextSearch(normalizedSearch)) {
+            fetched = postQueryRepository.searchPostSummariesByCursor(
+                    boardType.name(),
+                    PostFullTextIndex.toPhraseQuery(normalizedSearch),
+                    decoded == null ? null : decoded.createdAt(),
+                    decoded == null ? null : decoded.postId(),
+                    pageSize + 1
+            );
+        } else {
+            fetched = postQueryRepository.findPostSummariesByCursor(
+                    boardType.name(),
+                    normalizedSearch,
+                    decoded == null ? null : decoded.createdAt(),
+                    decoded == null ? null : decoded.postId(),
+                    pageSize + 1
+            );
+        }
+        boolean hasNext = fetched.size() > pageSize;
+        List<PostSummaryProjection> paged = hasNext ? fetched.subList(0, pageSize) : fetched;
+        Map<Long, PostStatsDelta> pendingDeltas = postStatsAggregationService.getPendingDeltas(
+                paged.stream().map(PostSummaryProjection::getPostId).toList());
+        Map<String, String> placePhotos = resolveMissingPlacePhotos(paged);
+        List<PostSummaryResponse> items = paged.stream()
+                .map(summary -> toSummaryResponse(summary, pendingDeltas, placePhotos))
+                .toList();
+        if (boardType == BoardType.PLAN_SHARE) {
+            overridePlanShareImages(items);
+        }
+        String nextCursor = null;
+        if (hasNext && !paged.isEmpty()) {
+            PostSummaryProjection last = paged.get(paged.size() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getPostId()).encode();
+        }
+        return new PostCursorPageResponse(items, nextCursor, hasNext);
+    }
+
+    /** 검색어 없는 목록은 백필이 끝난 post_summary 읽기 모델에서 바로 읽는다. */
+    private boolean useReadModel(String search) {
+        return !StringUtils.hasText(search) && postSummaryService.isReadable();
+    }
+
+    private boolean useFullTextSearch(String search) {
+        return StringUtils.hasText(search) && postFullTextIndex.isAvailable();
+    }
+
+    private PostSummaryResponse toSummaryResponse(
+            PostSummaryProjection summary,
+            Map<Long, PostStatsDelta> pendingDeltas,
+            Map<String, String> placePhotos
+    ) {
+        PostStatsDelta delta = pendingDeltas.getOrDefault(summary.getPostId(), PostStatsDelta.ZERO);
+        String thumbnailUrl = null;
+        if (summary.getRepresentativeImageKey() != null) {
+            thumbnailUrl = imageUrlResolver.resolve(summary.getRepresentativeImageKey());
+        }
+        String placeImageUrl = resolvePlaceListImageUrl(summary, placePhotos);
+        if (thumbnailUrl == null
+                && summary.getBoardType() == BoardType.PLACE_RECOMMEND
+                && StringUtils.hasText(placeImageUrl)) {
+            thumbnailUrl = placeImageUrl;
+        }
+        return new PostSummaryResponse(
+                summary.getPostId(),
+                summary.getTitle(),
+                summary.getAuthorId(),
+                summary.getAuthorNickname(),
+                imageUrlResolver.resolve(summary.getAuthorProfileImageKey()),
+                summary.getCreatedAt(),
+                delta.applyToLikes(summary.getLikeCount()),
+                delta.applyToComments(summary.getCommentCount()),
+                summary.getRepresentativeImageId(),
+                thumbnailUrl,
+                summary.getRankingScore(),
+                placeImageUrl,
+                summary.getPlaceName(),
+                summary.getTripTitle()
+        );
+    }
+
+    /** 조회수는 PostViewCountBuffer 에 적재만 하고 DB 반영은 주기적 flush 가 담당한다. */
     public PostDetailResponse getPostDetail(Long postId, String loginId) {
         Long requesterId = resolveRequesterId(loginId);
         PostDetailProjection projection = postQueryRepository.findPostDetail(postId, requesterId == null ? -1L : requesterId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 게시글입니다."));
-        postStatsAggregationService.increaseViewCount(postId);
+        postViewCountBuffer.increment(postId);
         return enrichPlaceDetail(toDetailResponse(projection, requesterId));
     }
 
@@ -181,6 +286,7 @@ public class PostQueryService {
                 ))
                 .toList();
         boolean editable = requesterId != null && requesterId.equals(projection.getAuthorId());
+        PostStatsDelta delta = postStatsAggregationService.getPendingDelta(projection.getPostId());
 
         return new PostDetailResponse(
                 projection.getPostId(),
@@ -191,8 +297,8 @@ public class PostQueryService {
                 projection.getCreatedAt(),
                 author,
                 images,
-                projection.getLikeCount() == null ? 0 : projection.getLikeCount().intValue(),
-                projection.getCommentCount() == null ? 0 : projection.getCommentCount().intValue(),
+                (int) delta.applyToLikes(projection.getLikeCount()),
+                (int) delta.applyToComments(projection.getCommentCount()),
                 projection.getLikedByRequester() != null && projection.getLikedByRequester() == 1,
                 comments,
                 editable,
@@ -232,23 +338,32 @@ public class PostQueryService {
         return imageUrlResolver.resolveOrNull(s3Key);
     }
 
-    private String resolvePlaceListImageUrl(PostSummaryProjection summary) {
+    private String resolvePlaceListImageUrl(PostSummaryProjection summary, Map<String, String> placePhotos) {
         if (StringUtils.hasText(summary.getPlaceImageUrl())) {
             return summary.getPlaceImageUrl();
         }
-        if (summary.getBoardType() != BoardType.PLACE_RECOMMEND) {
+        if (!needsPlacePhotoLookup(summary)) {
             return null;
         }
-        if (!StringUtils.hasText(summary.getGooglePlaceId())) {
-            return null;
-        }
-        try {
-            return placeRecommendationService.getPlaceDetail(summary.getGooglePlaceId()).getPhotoUrl();
-        } catch (PlaceSearchException ex) {
-            log.warn("place list image lookup failed for placeId={} reason={}",
-                    summary.getGooglePlaceId(), ex.getMessage());
-            return null;
+        return placePhotos.get(summary.getGooglePlaceId());
+    }
+
+    /** 저장된 사진이 없는 장소 추천 게시글만 모아 Google 조회를 한 번에 병렬로 수행한다. */
+    private Map<String, String> resolveMissingPlacePhotos(List<PostSummaryProjection> summaries) {
+        List<String> googlePlaceIds = summaries.stream()
+                .filter(this::needsPlacePhotoLookup)
+                .map(PostSummaryProjection::getGooglePlaceId)
+                .toList();
+        if (googlePlaceIds.isEmpty()) {
+            return Map.of();
         }
+        return placeListImageResolver.resolveAll(googlePlaceIds);
+    }
+
+    private boolean needsPlacePhotoLookup(PostSummaryProjection summary) {
+        return summary.getBoardType() == BoardType.PLACE_RECOMMEND
+                && !StringUtils.hasText(summary.getPlaceImageUrl())
+                && StringUtils.hasText(summary.getGooglePlaceId());
     }
 
     private Long resolveRequesterId(String loginId) {
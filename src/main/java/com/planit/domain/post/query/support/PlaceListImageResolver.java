@@ -0,0 +1,116 @@
+package com.planit.domain.post.query.support;
+
+import com.planit.domain.place.exception.PlaceSearchException;
+import com.planit.domain.placeRecommendation.service.PlaceRecommendationService;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 목록의 장소 추천 게시글 중 저장된 사진이 없는 항목의 Google 사진 URL 을 한 번에 조회한다.
+ * - 페이지 안에서 googlePlaceId 기준으로 중복 제거하고, 동시에 들어온 요청끼리도 진행 중인 조회를 공유한다.
+ * - 조회는 virtual thread 로 병렬 실행하며 deadline 을 넘긴 항목은 이번 응답에서 이미지 없이 내려간다.
+ * - 결과는 만료되는 Google redirect URL 이므로 places/post_summary 에 기록하지 않는다.
+ *   deadline 이후에 끝난 조회도 장소 상세/redirect 캐시에 남아 다음 목록 요청에서는 바로 사용된다.
+ */
+@Component
+public class PlaceListImageResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceListImageResolver.class);
+
+    private final PlaceRecommendationService placeRecommendationService;
+    private final long deadlineMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public PlaceListImageResolver(
+            PlaceRecommendationService placeRecommendationService,
+            @Value("${app.post-list.place-photo-deadline-ms:1500}") long deadlineMillis
+    ) {
+        this.placeRecommendationService = placeRecommendationService;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    /** googlePlaceId -> photoUrl. deadline 안에 조회되지 않았거나 사진이 없는 항목은 결과에 포함되지 않는다. */
+    public Map<String, String> resolveAll(Collection<String> googlePlaceIds) {
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        for (String googlePlaceId : new LinkedHashSet<>(googlePlaceIds)) {
+            if (StringUtils.hasText(googlePlaceId)) {
+                futures.put(googlePlaceId, lookup(googlePlaceId));
+            }
+        }
+        Map<String, String> resolved = new LinkedHashMap<>();
+        if (futures.isEmpty()) {
+            return resolved;
+        }
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(deadlineMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("place list image lookup exceeded deadline {}ms, pending={}",
+                    deadlineMillis, futures.values().stream().filter(f -> !f.isDone()).count());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            // 개별 실패는 lookup 에서 null 로 처리되므로 여기까지 오지 않는다.
+        }
+        futures.forEach((googlePlaceId, future) -> {
+            String photoUrl = future.getNow(null);
+            if (StringUtils.hasText(photoUrl)) {
+                resolved.put(googlePlaceId, photoUrl);
+            }
+        });
+        return resolved;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 등록을 먼저 끝낸 뒤 조회를 시작한다. compute 안에서 조회를 시작하면 캐시 hit 으로 바로 끝난 조회의
+     * 정리 콜백이 같은 compute 안에서 map 을 고쳐 ConcurrentHashMap 이 "Recursive update" 로 실패한다.
+     */
+    private CompletableFuture<String> lookup(String googlePlaceId) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(googlePlaceId, created);
+        if (existing != null) {
+            return existing;
+        }
+        created.whenComplete((url, ex) -> inFlight.remove(googlePlaceId, created));
+        try {
+            executor.execute(() -> created.complete(fetch(googlePlaceId)));
+        } catch (RuntimeException ex) {
+            // 종료 중이라 거절되면 이미지 없이 내려간다.
+            created.complete(null);
+        }
+        return created;
+    }
+
+    private String fetch(String googlePlaceId) {
+        try {
+            return placeRecommendationService.getPlaceDetail(googlePlaceId).getPhotoUrl();
+        } catch (PlaceSearchException ex) {
+            log.warn("place list image lookup failed for placeId={} reason={}", googlePlaceId, ex.getMessage());
+            return null;
+        } catch (RuntimeException ex) {
+            log.warn("place list image lookup error for placeId={}", googlePlaceId, ex);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.planit.domain.post.query.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 게시글 목록 keyset 커서 (created_at, post_id).
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출한다.
+ */
+public record PostCursor(LocalDateTime createdAt, Long postId) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 커서가 비어있으면 첫 페이지를 의미하므로 null 반환 */
+    public static PostCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(DELIMITER);
+            if (split <= 0 || split == raw.length() - 1) {
+                throw invalid();
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, split));
+            Long postId = Long.parseLong(raw.substring(split + 1));
+            return new PostCursor(createdAt, postId);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "*유효하지 않은 커서입니다.");
+    }
+}
@@ -0,0 +1,98 @@
+package com.planit.domain.post.query.support;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시글 검색용 MySQL FULLTEXT(ngram) 인덱스 상태를 확인한다.
+ * 인덱스는 V12 마이그레이션 스크립트로만 만들고, 기동 시점에는 information_schema 로 존재 여부만 본다.
+ * MySQL 이 아니거나 인덱스가 하나라도 없으면 LIKE 검색으로 폴백하도록 available=false 로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostFullTextIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PostFullTextIndex.class);
+    private static final List<IndexDefinition> INDEXES = List.of(
+            new IndexDefinition("posts", "ft_posts_title_content"),
+            new IndexDefinition("places", "ft_places_name")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.post-search.fulltext-enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean available = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detectIndexes() {
+        if (!enabled) {
+            log.info("[POST_SEARCH] fulltext disabled by property, using LIKE search");
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (product == null || !product.toLowerCase().contains("mysql")) {
+                log.info("[POST_SEARCH] fulltext not supported on {}, using LIKE search", product);
+                return;
+            }
+            for (IndexDefinition index : INDEXES) {
+                if (!exists(index)) {
+                    log.warn("[POST_SEARCH] fulltext index {} on {} is missing, using LIKE search (apply V12 migration)",
+                            index.name(), index.table());
+                    return;
+                }
+            }
+            available = true;
+            log.info("[POST_SEARCH] fulltext ngram indexes found");
+        } catch (Exception ex) {
+            log.warn("[POST_SEARCH] fulltext index check failed, using LIKE search: {}", ex.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * BOOLEAN MODE 구문으로 변환한다. ngram 파서에서 큰따옴표 구문은 연속된 토큰 일치로 해석되어
+     * 기존 LIKE '%keyword%' 와 유사한 결과를 얻으면서도 인덱스를 탄다.
+     */
+    public static String toPhraseQuery(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return "";
+        }
+        String collapsed = keyword.replace("\"", " ").trim().replaceAll("\\s+", " ");
+        return collapsed.isEmpty() ? "" : "\"" + collapsed + "\"";
+    }
+
+    private boolean exists(IndexDefinition index) {
+        Integer count = jdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*)
+                FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                  AND INDEX_NAME = ?
+                """,
+                Integer.class,
+                index.table(),
+                index.name()
+        );
+        return count != null && count > 0;
+    }
+
+    private record IndexDefinition(String table, String name) {
+    }
+}
@@ -20,6 +20,7 @@ import com.planit.domain.post.repository.PostedImageRepository;
 import com.planit.domain.post.repository.PostedPlanRepository;
 import com.planit.domain.post.repository.PostedPlaceRepository;
 import com.planit.domain.post.service.ImageStorageService;
+import com.planit.domain.post.summary.service.PostSummaryService;
 import com.planit.domain.trip.entity.Trip;
 import com.planit.domain.trip.repository.TripRepository;
 import com.planit.domain.user.entity.User;
@@ -63,6 +64,7 @@ public class PostService {
     private final PlaceRepository placeRepository;
     private final PlaceRecommendationService placeRecommendationService;
     private final KeywordAlertService keywordAlertService;
+    private final PostSummaryService postSummaryService;
 
     /** Presigned URL 발급 (게시물 이미지) */
     public PresignedUrlResponse getPostPresignedUrl(String loginId, String fileExtension, String contentType) {
@@ -110,6 +112,7 @@ public class PostService {
             case FREE -> {
                 Post saved = postRepository.save(post);
                 List<Long> imageIds = savePostImages(saved.getId(), request.getImageKeys(), now);
+                postSummaryService.refresh(saved.getId());
                 keywordAlertService.notifyMatchedKeywords(
                         saved.getId(), saved.getAuthor().getId(), saved.getTitle(), saved.getContent());
                 return buildCreateResponse(saved, imageIds);
@@ -120,6 +123,7 @@ public class PostService {
                 post.setPlanInfo(planId);
                 Post saved = postRepository.save(post);
                 postedPlanRepository.save(new PostedPlan(saved, plan));
+                postSummaryService.refresh(saved.getId());
                 keywordAlertService.notifyMatchedKeywords(
                         saved.getId(), saved.getAuthor().getId(), saved.getTitle(), saved.getContent());
                 return buildCreateResponse(saved, Collections.emptyList());
@@ -129,6 +133,7 @@ public class PostService {
                 post.setPlaceRecommendation(payload.placeName(), payload.userRating(), payload.googlePlaceId());
                 Post saved = postRepository.save(post);
                 saveRecommendedPlace(saved, payload);
+                postSummaryService.refresh(saved.getId());
                 keywordAlertService.notifyMatchedKeywords(
                         saved.getId(), saved.getAuthor().getId(), saved.getTitle(), saved.getContent());
                 return buildCreateResponse(saved, Collections.emptyList());
@@ -168,7 +173,7 @@ public class PostService {
                             detail.getLatitude(),
                             detail.getLongitude()
                     );
-                    place.setPhotoUrl(detail.getPhotoUrl());
+                    // detail 의 photoUrl 은 만료되는 redirect URL 이라 저장하지 않고 목록 조회 시 다시 해석한다.
                     return placeRepository.save(place);
                 });
     }
@@ -312,6 +317,7 @@ public class PostService {
             default -> throw new IllegalArgumentException("*지원하지 않는 게시판입니다.");
         }
         Post saved = postRepository.save(post);
+        postSummaryService.refresh(saved.getId());
         return new PostCreateResponse(saved.getId(),
                 saved.getBoardType(),
                 saved.getTitle(),
@@ -341,6 +347,7 @@ public class PostService {
             imageRepository.delete(image);
             deleteFromS3IfPresent(s3Key);
         }
+        postSummaryService.refresh(postId);
     }
 
     private List<Long> savePostImages(Long postId, List<String> imageKeys, LocalDateTime now) {
@@ -448,6 +455,7 @@ public class PostService {
         deleteExistingPostImages(postId);
         post.markDeleted(LocalDateTime.now());
         postRepository.save(post);
+        postSummaryService.remove(postId);
     }
 
 
@@ -0,0 +1,33 @@
+package com.planit.domain.post.stats.dto;
+
+/**
+ * 아직 MySQL 에 반영되지 않은 게시글 통계 증감분.
+ */
+public record PostStatsDelta(long likeDelta, long commentDelta, long viewDelta) {
+
+    public static final PostStatsDelta ZERO = new PostStatsDelta(0L, 0L, 0L);
+
+    public static PostStatsDelta ofViews(long viewDelta) {
+        return new PostStatsDelta(0L, 0L, viewDelta);
+    }
+
+    public boolean isZero() {
+        return likeDelta == 0L && commentDelta == 0L && viewDelta == 0L;
+    }
+
+    public PostStatsDelta plus(PostStatsDelta other) {
+        return new PostStatsDelta(
+                likeDelta + other.likeDelta,
+                commentDelta + other.commentDelta,
+                viewDelta + other.viewDelta
+        );
+    }
+
+    public long applyToLikes(Long base) {
+        return Math.max(0L, (base == null ? 0L : base) + likeDelta);
+    }
+
+    public long applyToComments(Long base) {
+        return Math.max(0L, (base == null ? 0L : base) + commentDelta);
+    }
+}
@@ -0,0 +1,126 @@
+package com.planit.domain.post.stats.repository;
+
+import com.planit.domain.post.stats.dto.PostStatsDelta;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글 통계 델타를 JDBC batch 로 반영하고, 원본 테이블 기준 재집계 값을 조회한다.
+ * post_*_count 와 post_summary 를 호출자의 트랜잭션 안에서 한 번의 batch 묶음으로 갱신한다.
+ */
+@Repository
+public class PostStatsJdbcRepository {
+
+    private static final String UPSERT_LIKE_COUNT = """
+            insert into post_like_count (post_id, like_count, updated_at)
+            values (?, greatest(0, ?), now(6))
+            on duplicate key update
+                like_count = greatest(0, like_count + ?),
+                updated_at = now(6)
+            """;
+
+    private static final String UPSERT_COMMENT_COUNT = """
+            insert into post_comment_count (post_id, comment_count, updated_at)
+            values (?, greatest(0, ?), now(6))
+            on duplicate key update
+                comment_count = greatest(0, comment_count + ?),
+                updated_at = now(6)
+            """;
+
+    private static final String UPSERT_VIEW_COUNT = """
+            insert into post_view_count (post_id, view_count, updated_at)
+            values (?, ?, now(6))
+            on duplicate key update
+                view_count = view_count + ?,
+                updated_at = now(6)
+            """;
+
+    private static final String ADJUST_SUMMARY_COUNTS = """
+            update post_summary
+            set like_count = greatest(0, like_count + ?),
+                comment_count = greatest(0, comment_count + ?),
+                view_count = view_count + ?,
+                updated_at = now(6)
+            where post_id = ?
+            """;
+
+    private static final String RECOUNT_STATS = """
+            select p.post_id as post_id,
+                   (select count(*) from likes l where l.post_id = p.post_id) as like_count,
+                   (select count(*) from comments c
+                    where c.post_id = p.post_id and c.deleted_at is null) as comment_count,
+                   coalesce(pvc.view_count, 0) as view_count
+            from posts p
+            left join post_view_count pvc on pvc.post_id = p.post_id
+            where p.post_id in (:postIds)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public PostStatsJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void addCounts(Map<Long, PostStatsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> likeArgs = new ArrayList<>();
+        List<Object[]> commentArgs = new ArrayList<>();
+        List<Object[]> viewArgs = new ArrayList<>();
+        List<Object[]> summaryArgs = new ArrayList<>();
+        deltas.forEach((postId, delta) -> {
+            if (delta.isZero()) {
+                return;
+            }
+            if (delta.likeDelta() != 0L) {
+                likeArgs.add(new Object[]{postId, delta.likeDelta(), delta.likeDelta()});
+            }
+            if (delta.commentDelta() != 0L) {
+                commentArgs.add(new Object[]{postId, delta.commentDelta(), delta.commentDelta()});
+            }
+            if (delta.viewDelta() != 0L) {
+                viewArgs.add(new Object[]{postId, delta.viewDelta(), delta.viewDelta()});
+            }
+            summaryArgs.add(new Object[]{delta.likeDelta(), delta.commentDelta(), delta.viewDelta(), postId});
+        });
+        batchUpdate(UPSERT_LIKE_COUNT, likeArgs);
+        batchUpdate(UPSERT_COMMENT_COUNT, commentArgs);
+        batchUpdate(UPSERT_VIEW_COUNT, viewArgs);
+        batchUpdate(ADJUST_SUMMARY_COUNTS, summaryArgs);
+    }
+
+    /** likes/comments 원본 테이블 기준 실제 카운트. 조회수는 원본이 없으므로 post_view_count 값을 그대로 쓴다. */
+    public List<PostStatsCount> recount(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(
+                RECOUNT_STATS,
+                new MapSqlParameterSource("postIds", postIds),
+                (rs, rowNum) -> new PostStatsCount(
+                        rs.getLong("post_id"),
+                        rs.getLong("like_count"),
+                        rs.getLong("comment_count"),
+                        rs.getLong("view_count")
+                )
+        );
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+
+    public record PostStatsCount(long postId, long likeCount, long commentCount, long viewCount) {
+    }
+}
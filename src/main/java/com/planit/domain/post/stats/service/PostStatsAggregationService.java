@@ -1,52 +1,149 @@
 package com.planit.domain.post.stats.service;
 
+import com.planit.domain.post.stats.dto.PostStatsDelta;
 import com.planit.domain.post.stats.repository.PostCommentCountRepository;
 import com.planit.domain.post.stats.repository.PostLikeCountRepository;
+import com.planit.domain.post.stats.repository.PostStatsJdbcRepository;
 import com.planit.domain.post.stats.repository.PostViewCountRepository;
+import com.planit.domain.post.summary.repository.PostSummaryRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 게시글 통계 쓰기/읽기 진입점.
+ * Redis(PostStatsCacheService)가 있으면 증감분을 hot counter 로 적재하고, 없거나 실패하면 기존처럼 MySQL 에 바로 반영한다.
+ */
 @Service
 @Transactional
 public class PostStatsAggregationService {
 
+    private static final Logger log = LoggerFactory.getLogger(PostStatsAggregationService.class);
+
     private final PostLikeCountRepository postLikeCountRepository;
     private final PostCommentCountRepository postCommentCountRepository;
     private final PostViewCountRepository postViewCountRepository;
+    private final PostSummaryRepository postSummaryRepository;
+    private final PostStatsJdbcRepository postStatsJdbcRepository;
+    private final ObjectProvider<PostStatsCacheService> postStatsCacheServiceProvider;
 
     public PostStatsAggregationService(
             PostLikeCountRepository postLikeCountRepository,
             PostCommentCountRepository postCommentCountRepository,
-            PostViewCountRepository postViewCountRepository
+            PostViewCountRepository postViewCountRepository,
+            PostSummaryRepository postSummaryRepository,
+            PostStatsJdbcRepository postStatsJdbcRepository,
+            ObjectProvider<PostStatsCacheService> postStatsCacheServiceProvider
     ) {
         this.postLikeCountRepository = postLikeCountRepository;
         this.postCommentCountRepository = postCommentCountRepository;
         this.postViewCountRepository = postViewCountRepository;
+        this.postSummaryRepository = postSummaryRepository;
+        this.postStatsJdbcRepository = postStatsJdbcRepository;
+        this.postStatsCacheServiceProvider = postStatsCacheServiceProvider;
     }
 
     public void increaseLikeCount(Long postId) {
-        postLikeCountRepository.upsertAndAdjust(postId, 1L);
+        adjustLikeCount(postId, 1L);
     }
 
     public void decreaseLikeCount(Long postId) {
-        postLikeCountRepository.upsertAndAdjust(postId, -1L);
+        adjustLikeCount(postId, -1L);
     }
 
     public void increaseCommentCount(Long postId) {
-        postCommentCountRepository.upsertAndAdjust(postId, 1L);
+        adjustCommentCount(postId, 1L);
     }
 
     public void decreaseCommentCount(Long postId) {
-        postCommentCountRepository.upsertAndAdjust(postId, -1L);
+        adjustCommentCount(postId, -1L);
     }
 
     public void increaseViewCount(Long postId) {
-        postViewCountRepository.upsertAndIncrease(postId);
+        addViewCounts(Map.of(postId, 1L));
+    }
+
+    /** PostViewCountBuffer flush 대상. Redis 가 있으면 pipeline INCRBY, 없으면 MySQL batch upsert. */
+    public void addViewCounts(Map<Long, Long> viewDeltas) {
+        if (viewDeltas.isEmpty()) {
+            return;
+        }
+        Map<Long, PostStatsDelta> deltas = new HashMap<>();
+        viewDeltas.forEach((postId, delta) -> deltas.put(postId, PostStatsDelta.ofViews(delta)));
+        PostStatsCacheService cache = postStatsCacheServiceProvider.getIfAvailable();
+        if (cache != null) {
+            try {
+                cache.addDeltas(deltas);
+                return;
+            } catch (Exception ex) {
+                log.warn("[POST_STATS] redis view buffer failed, fallback to mysql: {}", ex.getMessage());
+            }
+        }
+        postStatsJdbcRepository.addCounts(deltas);
+    }
+
+    /** Redis 에서 drain 한 증감분을 MySQL 에 반영한다. */
+    public void applyDeltas(Map<Long, PostStatsDelta> deltas) {
+        postStatsJdbcRepository.addCounts(deltas);
+    }
+
+    /** 목록/상세 조회 시 MySQL 값에 더할 미반영 증감분. Redis 장애 시 빈 맵을 돌려 MySQL 값만 보여준다. */
+    @Transactional(readOnly = true)
+    public Map<Long, PostStatsDelta> getPendingDeltas(Collection<Long> postIds) {
+        PostStatsCacheService cache = postStatsCacheServiceProvider.getIfAvailable();
+        if (cache == null || postIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return cache.getPendingDeltas(postIds);
+        } catch (Exception ex) {
+            log.warn("[POST_STATS] redis pending delta lookup failed: {}", ex.getMessage());
+            return Map.of();
+        }
+    }
+
+    public PostStatsDelta getPendingDelta(Long postId) {
+        return getPendingDeltas(List.of(postId)).getOrDefault(postId, PostStatsDelta.ZERO);
     }
 
     public void replaceCounts(Long postId, long likeCount, long commentCount, long viewCount) {
         postLikeCountRepository.upsertAndSet(postId, likeCount);
         postCommentCountRepository.upsertAndSet(postId, commentCount);
         postViewCountRepository.upsertAndSet(postId, viewCount);
+        postSummaryRepository.replaceCounts(postId, likeCount, commentCount, viewCount);
+    }
+
+    private void adjustLikeCount(Long postId, long delta) {
+        PostStatsCacheService cache = postStatsCacheServiceProvider.getIfAvailable();
+        if (cache != null) {
+            try {
+                cache.adjustLike(postId, delta);
+                return;
+            } catch (Exception ex) {
+                log.warn("[POST_STATS] redis like counter failed, fallback to mysql postId={}: {}", postId, ex.getMessage());
+            }
+        }
+        postLikeCountRepository.upsertAndAdjust(postId, delta);
+        postSummaryRepository.adjustLikeCount(postId, delta);
+    }
+
+    private void adjustCommentCount(Long postId, long delta) {
+        PostStatsCacheService cache = postStatsCacheServiceProvider.getIfAvailable();
+        if (cache != null) {
+            try {
+                cache.adjustComment(postId, delta);
+                return;
+            } catch (Exception ex) {
+                log.warn("[POST_STATS] redis comment counter failed, fallback to mysql postId={}: {}", postId, ex.getMessage());
+            }
+        }
+        postCommentCountRepository.upsertAndAdjust(postId, delta);
+        postSummaryRepository.adjustCommentCount(postId, delta);
     }
 }
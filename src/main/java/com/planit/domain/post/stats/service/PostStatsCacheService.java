@@ -1,16 +1,32 @@
 package com.planit.domain.post.stats.service;
 
-import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import com.planit.domain.post.stats.dto.PostStatsDelta;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * 게시글 통계 hot counter 저장소.
+ * Redis 에는 MySQL 에 아직 반영되지 않은 증감분만 보관하고, 변경된 게시글은 dirty set 으로 추적한다.
+ * 조회 시 MySQL 값 + Redis 증감분을 합산하며, PostStatsReconciler 가 주기적으로 MySQL 에 flush 한다.
+ */
 @Service
-@ConditionalOnBean(StringRedisTemplate.class)
+@ConditionalOnProperty(prefix = "app.post-stats", name = "redis-enabled", havingValue = "true", matchIfMissing = true)
 public class PostStatsCacheService {
 
     private static final String LIKE_KEY_PREFIX = "post:stats:like:";
     private static final String COMMENT_KEY_PREFIX = "post:stats:comment:";
     private static final String VIEW_KEY_PREFIX = "post:stats:view:";
+    private static final String DIRTY_KEY = "post:stats:dirty";
+    private static final String RECONCILE_KEY = "post:stats:reconcile";
 
     private final StringRedisTemplate redisTemplate;
 
@@ -18,18 +34,128 @@ public class PostStatsCacheService {
         this.redisTemplate = redisTemplate;
     }
 
-    public long increaseLike(Long postId) {
-        Long value = redisTemplate.opsForValue().increment(LIKE_KEY_PREFIX + postId);
-        return value == null ? 0L : value;
+    public void adjustLike(Long postId, long delta) {
+        addDeltas(Map.of(postId, new PostStatsDelta(delta, 0L, 0L)));
     }
 
-    public long increaseComment(Long postId) {
-        Long value = redisTemplate.opsForValue().increment(COMMENT_KEY_PREFIX + postId);
-        return value == null ? 0L : value;
+    public void adjustComment(Long postId, long delta) {
+        addDeltas(Map.of(postId, new PostStatsDelta(0L, delta, 0L)));
     }
 
-    public long increaseView(Long postId) {
-        Long value = redisTemplate.opsForValue().increment(VIEW_KEY_PREFIX + postId);
-        return value == null ? 0L : value;
+    /** INCRBY + dirty 등록을 하나의 pipeline 으로 전송한다. */
+    public void addDeltas(Map<Long, PostStatsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            deltas.forEach((postId, delta) -> {
+                if (delta.isZero()) {
+                    return;
+                }
+                if (delta.likeDelta() != 0L) {
+                    conn.incrBy(LIKE_KEY_PREFIX + postId, delta.likeDelta());
+                }
+                if (delta.commentDelta() != 0L) {
+                    conn.incrBy(COMMENT_KEY_PREFIX + postId, delta.commentDelta());
+                }
+                if (delta.viewDelta() != 0L) {
+                    conn.incrBy(VIEW_KEY_PREFIX + postId, delta.viewDelta());
+                }
+                conn.sAdd(DIRTY_KEY, String.valueOf(postId));
+            });
+            return null;
+        });
+    }
+
+    /** 목록 한 페이지 분량의 증감분을 MGET 한 번으로 조회한다. */
+    public Map<Long, PostStatsDelta> getPendingDeltas(Collection<Long> postIds) {
+        Map<Long, PostStatsDelta> result = new LinkedHashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+        List<Long> ids = List.copyOf(postIds);
+        List<String> keys = new ArrayList<>(ids.size() * 3);
+        for (Long postId : ids) {
+            keys.add(LIKE_KEY_PREFIX + postId);
+            keys.add(COMMENT_KEY_PREFIX + postId);
+            keys.add(VIEW_KEY_PREFIX + postId);
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            PostStatsDelta delta = new PostStatsDelta(
+                    parse(values.get(i * 3)),
+                    parse(values.get(i * 3 + 1)),
+                    parse(values.get(i * 3 + 2))
+            );
+            if (!delta.isZero()) {
+                result.put(ids.get(i), delta);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * dirty set 에서 최대 limit 개 게시글을 꺼내 증감분을 GETDEL 로 가져온다.
+     * SPOP/GETDEL 이 원자적이므로 여러 인스턴스가 동시에 호출해도 같은 증감분을 중복 반영하지 않는다.
+     */
+    public Map<Long, PostStatsDelta> drainDirty(int limit) {
+        Map<Long, PostStatsDelta> result = new LinkedHashMap<>();
+        List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, limit);
+        if (members == null || members.isEmpty()) {
+            return result;
+        }
+        List<Long> ids = members.stream().map(Long::valueOf).toList();
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : ids) {
+                connection.stringCommands().getDel(bytes(LIKE_KEY_PREFIX + postId));
+                connection.stringCommands().getDel(bytes(COMMENT_KEY_PREFIX + postId));
+                connection.stringCommands().getDel(bytes(VIEW_KEY_PREFIX + postId));
+            }
+            return null;
+        });
+        for (int i = 0; i < ids.size(); i++) {
+            PostStatsDelta delta = new PostStatsDelta(
+                    parse(values.get(i * 3)),
+                    parse(values.get(i * 3 + 1)),
+                    parse(values.get(i * 3 + 2))
+            );
+            if (!delta.isZero()) {
+                result.put(ids.get(i), delta);
+            }
+        }
+        return result;
+    }
+
+    public void markForReconcile(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(RECONCILE_KEY, postIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    public List<Long> popReconcileCandidates(int limit) {
+        List<String> members = redisTemplate.opsForSet().pop(RECONCILE_KEY, limit);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    private static long parse(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof byte[] raw) {
+            return Long.parseLong(new String(raw, StandardCharsets.UTF_8));
+        }
+        return Long.parseLong(value.toString());
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
     }
 }
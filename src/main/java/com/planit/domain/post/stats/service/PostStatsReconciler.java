@@ -0,0 +1,120 @@
+package com.planit.domain.post.stats.service;
+
+import com.planit.domain.post.stats.dto.PostStatsDelta;
+import com.planit.domain.post.stats.repository.PostStatsJdbcRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis hot counter 의 MySQL 반영과 drift 보정.
+ * - flush: dirty 게시글의 증감분을 꺼내 batch upsert 로 post_*_count / post_summary 에 더한다.
+ * - reconcile: flush 된 게시글을 likes/comments 테이블 기준으로 재집계해 replaceCounts 로 덮어쓴다.
+ *   (트랜잭션 롤백 등으로 Redis 에만 남은 증감분이 생겨도 여기서 바로잡힌다)
+ */
+@Component
+public class PostStatsReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(PostStatsReconciler.class);
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ObjectProvider<PostStatsCacheService> postStatsCacheServiceProvider;
+    private final PostStatsAggregationService postStatsAggregationService;
+    private final PostStatsJdbcRepository postStatsJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PostStatsReconciler(
+            ObjectProvider<PostStatsCacheService> postStatsCacheServiceProvider,
+            PostStatsAggregationService postStatsAggregationService,
+            PostStatsJdbcRepository postStatsJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.post-stats.reconcile-batch-size:500}") int batchSize
+    ) {
+        this.postStatsCacheServiceProvider = postStatsCacheServiceProvider;
+        this.postStatsAggregationService = postStatsAggregationService;
+        this.postStatsJdbcRepository = postStatsJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.post-stats.flush-interval-ms:10000}",
+            initialDelayString = "${app.post-stats.flush-interval-ms:10000}"
+    )
+    public void flush() {
+        PostStatsCacheService cache = postStatsCacheServiceProvider.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            Map<Long, PostStatsDelta> deltas;
+            try {
+                deltas = cache.drainDirty(batchSize);
+            } catch (Exception ex) {
+                log.warn("[POST_STATS] drain failed: {}", ex.getMessage());
+                return;
+            }
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> postStatsAggregationService.applyDeltas(deltas));
+                cache.markForReconcile(deltas.keySet());
+                log.debug("[POST_STATS] flushed posts={}", deltas.size());
+            } catch (Exception ex) {
+                // 반영 실패분은 Redis 로 되돌려 다음 주기에 다시 시도한다.
+                cache.addDeltas(deltas);
+                log.warn("[POST_STATS] flush failed posts={}, reason={}", deltas.size(), ex.getMessage());
+                return;
+            }
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.post-stats.reconcile-interval-ms:600000}",
+            initialDelayString = "${app.post-stats.reconcile-interval-ms:600000}"
+    )
+    public void reconcile() {
+        PostStatsCacheService cache = postStatsCacheServiceProvider.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        try {
+            List<Long> candidates = cache.popReconcileCandidates(batchSize);
+            if (candidates.isEmpty()) {
+                return;
+            }
+            // 아직 flush 되지 않은 증감분이 있는 게시글은 재집계 값과 중복되므로 다음 주기로 미룬다.
+            Map<Long, PostStatsDelta> pending = cache.getPendingDeltas(candidates);
+            List<Long> targets = new ArrayList<>();
+            for (Long postId : candidates) {
+                if (!pending.containsKey(postId)) {
+                    targets.add(postId);
+                }
+            }
+            if (!pending.isEmpty()) {
+                cache.markForReconcile(pending.keySet());
+            }
+            int repaired = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (PostStatsJdbcRepository.PostStatsCount actual : postStatsJdbcRepository.recount(targets)) {
+                    postStatsAggregationService.replaceCounts(
+                            actual.postId(), actual.likeCount(), actual.commentCount(), actual.viewCount());
+                    count++;
+                }
+                return count;
+            });
+            log.info("[POST_STATS] reconciled posts={}, deferred={}", repaired, pending.size());
+        } catch (Exception ex) {
+            log.warn("[POST_STATS] reconcile failed: {}", ex.getMessage());
+        }
+    }
+}
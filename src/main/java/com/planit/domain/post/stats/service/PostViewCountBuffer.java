@@ -0,0 +1,106 @@
+package com.planit.domain.post.stats.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 상세 조회 시에는 메모리의 LongAdder 만 증가시키고, 주기적으로 누적 델타를 PostStatsAggregationService 로 넘긴다
+ * (Redis hot counter, 장애 시 MySQL batch upsert).
+ * 인스턴스마다 자기 델타만 더하므로 여러 서버에서 동시에 flush 해도 합산 결과는 같다.
+ * flush 는 adder 를 맵에서 떼지 않고 sumThenReset 으로 비우므로, 조회 경로는 lock 없이 같은 adder 에 더하기만 한다.
+ * 한 주기 내내 조회가 없던 게시글만 맵에서 제거한다.
+ */
+@Service
+public class PostViewCountBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewCountBuffer.class);
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 직전 flush 에서 델타가 0 이었던 게시글. flush 스레드에서만 다룬다.
+    private final Set<Long> idle = new HashSet<>();
+    private final PostStatsAggregationService postStatsAggregationService;
+    private final int maxBatchSize;
+
+    public PostViewCountBuffer(
+            PostStatsAggregationService postStatsAggregationService,
+            @Value("${app.post-stats.view-flush-batch-size:500}") int maxBatchSize
+    ) {
+        this.postStatsAggregationService = postStatsAggregationService;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    public void increment(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        pending.computeIfAbsent(postId, key -> new LongAdder()).increment();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.post-stats.view-flush-interval-ms:5000}",
+            initialDelayString = "${app.post-stats.view-flush-interval-ms:5000}"
+    )
+    public synchronized void flush() {
+        Map<Long, Long> batch = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            Long postId = entry.getKey();
+            // 셀 단위로 읽고 0 으로 바꾸므로, 동시에 들어온 증가는 이번 델타나 다음 주기 델타 중 한쪽에 남는다.
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                if (!idle.add(postId)) {
+                    evict(postId, entry.getValue());
+                }
+                continue;
+            }
+            idle.remove(postId);
+            batch.put(postId, delta);
+            if (batch.size() >= maxBatchSize) {
+                write(batch);
+                batch = new HashMap<>();
+            }
+        }
+        write(batch);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void evict(Long postId, LongAdder adder) {
+        if (!pending.remove(postId, adder)) {
+            return;
+        }
+        idle.remove(postId);
+        // 제거 직전에 이 adder 를 받아 간 조회가 있으면 새 adder 로 옮겨 다음 주기에 반영한다.
+        long late = adder.sumThenReset();
+        if (late != 0) {
+            pending.computeIfAbsent(postId, key -> new LongAdder()).add(late);
+        }
+    }
+
+    private void write(Map<Long, Long> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            postStatsAggregationService.addViewCounts(batch);
+            log.debug("[VIEW_FLUSH] flushed posts={}", batch.size());
+        } catch (Exception ex) {
+            // 실패한 델타는 다음 주기에 다시 반영되도록 버퍼로 되돌린다.
+            batch.forEach((postId, delta) -> pending.computeIfAbsent(postId, key -> new LongAdder()).add(delta));
+            log.warn("[VIEW_FLUSH] flush failed posts={}, reason={}", batch.size(), ex.getMessage());
+        }
+    }
+}
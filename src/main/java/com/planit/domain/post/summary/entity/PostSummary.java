@@ -0,0 +1,132 @@
+package com.planit.domain.post.summary.entity;
+
+import com.planit.domain.post.entity.BoardType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록 전용 비정규화 읽기 모델.
+ * 게시글 1건당 1행이며 대표 이미지/장소 정보/통계를 미리 펼쳐 두어 목록 조회를 단일 인덱스 범위 스캔으로 만든다.
+ */
+@Entity
+@Table(
+        name = "post_summary",
+        indexes = {
+                @Index(name = "idx_post_summary_board_created", columnList = "board_type, created_at, post_id")
+        }
+)
+public class PostSummary {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "board_type", nullable = false)
+    private BoardType boardType;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "title", nullable = false, length = 24)
+    private String title;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "representative_image_id")
+    private Long representativeImageId;
+
+    @Column(name = "representative_image_key", length = 500)
+    private String representativeImageKey;
+
+    @Column(name = "place_image_url")
+    private String placeImageUrl;
+
+    @Column(name = "place_name", length = 100)
+    private String placeName;
+
+    @Column(name = "google_place_id", length = 255)
+    private String googlePlaceId;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected PostSummary() {
+    }
+
+    public PostSummary(Long postId) {
+        this.postId = postId;
+    }
+
+    public void apply(PostSummarySource source) {
+        this.boardType = source.boardType();
+        this.userId = source.userId();
+        this.title = source.title();
+        this.createdAt = source.createdAt();
+        this.representativeImageId = source.representativeImageId();
+        this.representativeImageKey = source.representativeImageKey();
+        this.placeImageUrl = source.placeImageUrl();
+        this.placeName = source.placeName();
+        this.googlePlaceId = source.googlePlaceId();
+        this.likeCount = source.likeCount();
+        this.commentCount = source.commentCount();
+        this.viewCount = source.viewCount();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public BoardType getBoardType() {
+        return boardType;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public record PostSummarySource(
+            BoardType boardType,
+            Long userId,
+            String title,
+            LocalDateTime createdAt,
+            Long representativeImageId,
+            String representativeImageKey,
+            String placeImageUrl,
+            String placeName,
+            String googlePlaceId,
+            long likeCount,
+            long commentCount,
+            long viewCount
+    ) {
+    }
+}
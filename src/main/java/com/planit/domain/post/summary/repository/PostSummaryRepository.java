@@ -0,0 +1,149 @@
+package com.planit.domain.post.summary.repository;
+
+import com.planit.domain.post.entity.BoardType;
+import com.planit.domain.post.summary.entity.PostSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostSummaryRepository extends JpaRepository<PostSummary, Long> {
+
+    /** 원본 테이블에서 읽기 모델 한 행을 다시 계산하기 위한 소스 조회 */
+    @Query(
+            value = """
+                    select p.post_id as postId,
+                           p.board_type as boardType,
+                           p.user_id as userId,
+                           p.title as title,
+                           p.created_at as createdAt,
+                           (select pi.image_id from posted_images pi
+                            where pi.post_id = p.post_id
+                              and pi.is_main_image = 1
+                            order by pi.created_at asc limit 1) as representativeImageId,
+                           (select i.s3_key from posted_images pi
+                            join images i on i.id = pi.image_id
+                            where pi.post_id = p.post_id
+                              and pi.is_main_image = 1
+                            order by pi.created_at asc limit 1) as representativeImageKey,
+                           (select pl.photo_url from posted_places pp
+                            join places pl on pl.place_id = pp.place_id
+                            where pp.post_id = p.post_id
+                            limit 1) as placeImageUrl,
+                           (select pl.name from posted_places pp
+                            join places pl on pl.place_id = pp.place_id
+                            where pp.post_id = p.post_id
+                            limit 1) as placeName,
+                           p.google_place_id as googlePlaceId,
+                           coalesce(plc.like_count, 0) as likeCount,
+                           coalesce(pcc.comment_count, 0) as commentCount,
+                           coalesce(pvc.view_count, 0) as viewCount
+                    from posts p
+                    left join post_like_count plc on plc.post_id = p.post_id
+                    left join post_comment_count pcc on pcc.post_id = p.post_id
+                    left join post_view_count pvc on pvc.post_id = p.post_id
+                    where p.post_id in (:postIds)
+                      and p.is_deleted = 0
+                    """,
+            nativeQuery = true
+    )
+    List<SourceProjection> findSources(@Param("postIds") List<Long> postIds);
+
+    @Query(
+            value = """
+                    select p.post_id
+                    from posts p
+                    where p.post_id > :afterPostId
+                    order by p.post_id asc
+                    limit :limit
+                    """,
+            nativeQuery = true
+    )
+    List<Long> findPostIdsAfter(@Param("afterPostId") long afterPostId, @Param("limit") int limit);
+
+    @Query(value = "select count(*) from posts p where p.is_deleted = 0", nativeQuery = true)
+    long countActivePosts();
+
+    @Modifying
+    @Query(
+            value = """
+                    delete from post_summary
+                    where post_id in (select p.post_id from posts p where p.is_deleted = 1)
+                    """,
+            nativeQuery = true
+    )
+    int deleteRemovedPosts();
+
+    @Modifying
+    @Query(
+            value = """
+                    update post_summary
+                    set like_count = greatest(0, like_count + :delta),
+                        updated_at = now(6)
+                    where post_id = :postId
+                    """,
+            nativeQuery = true
+    )
+    void adjustLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(
+            value = """
+                    update post_summary
+                    set comment_count = greatest(0, comment_count + :delta),
+                        updated_at = now(6)
+                    where post_id = :postId
+                    """,
+            nativeQuery = true
+    )
+    void adjustCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(
+            value = """
+                    update post_summary
+                    set view_count = view_count + :delta,
+                        updated_at = now(6)
+                    where post_id = :postId
+                    """,
+            nativeQuery = true
+    )
+    void adjustViewCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(
+            value = """
+                    update post_summary
+                    set like_count = :likeCount,
+                        comment_count = :commentCount,
+                        view_count = :viewCount,
+                        updated_at = now(6)
+                    where post_id = :postId
+                    """,
+            nativeQuery = true
+    )
+    void replaceCounts(
+            @Param("postId") Long postId,
+            @Param("likeCount") long likeCount,
+            @Param("commentCount") long commentCount,
+            @Param("viewCount") long viewCount
+    );
+
+    interface SourceProjection {
+        Long getPostId();
+        BoardType getBoardType();
+        Long getUserId();
+        String getTitle();
+        LocalDateTime getCreatedAt();
+        Long getRepresentativeImageId();
+        String getRepresentativeImageKey();
+        String getPlaceImageUrl();
+        String getPlaceName();
+        String getGooglePlaceId();
+        Long getLikeCount();
+        Long getCommentCount();
+        Long getViewCount();
+    }
+}
@@ -0,0 +1,83 @@
+package com.planit.domain.post.summary.service;
+
+import com.planit.domain.post.summary.repository.PostSummaryRepository;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * post_summary 백필/재구축 작업.
+ * 기동 시 읽기 모델 행 수가 활성 게시글 수보다 적거나 rebuild-on-startup 이 켜져 있으면
+ * post_id 순으로 batch-size 만큼씩 다시 계산한다. 완료 후에만 목록 조회가 읽기 모델로 전환된다.
+ */
+@Component
+public class PostSummaryRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSummaryRebuildJob.class);
+
+    private final PostSummaryRepository postSummaryRepository;
+    private final PostSummaryService postSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean rebuildOnStartup;
+    private final int batchSize;
+
+    public PostSummaryRebuildJob(
+            PostSummaryRepository postSummaryRepository,
+            PostSummaryService postSummaryService,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.post-summary.enabled:true}") boolean enabled,
+            @Value("${app.post-summary.rebuild-on-startup:false}") boolean rebuildOnStartup,
+            @Value("${app.post-summary.batch-size:500}") int batchSize
+    ) {
+        this.postSummaryRepository = postSummaryRepository;
+        this.postSummaryService = postSummaryService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            log.info("[POST_SUMMARY] read model disabled, listing uses source tables");
+            return;
+        }
+        try {
+            long summaryCount = postSummaryRepository.count();
+            long activeCount = postSummaryRepository.countActivePosts();
+            if (rebuildOnStartup || summaryCount < activeCount) {
+                log.info("[POST_SUMMARY] backfill start summary={}, active={}", summaryCount, activeCount);
+                rebuild();
+            }
+            postSummaryService.markReadable();
+            log.info("[POST_SUMMARY] read model ready");
+        } catch (Exception ex) {
+            log.warn("[POST_SUMMARY] backfill failed, listing stays on source tables: {}", ex.getMessage());
+        }
+    }
+
+    /** 전체 재구축. batch 단위로 트랜잭션을 나눠 긴 락을 피한다. */
+    public long rebuild() {
+        long processed = 0;
+        long afterPostId = 0;
+        while (true) {
+            List<Long> postIds = postSummaryRepository.findPostIdsAfter(afterPostId, batchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> postSummaryService.refreshAll(postIds));
+            processed += postIds.size();
+            afterPostId = postIds.get(postIds.size() - 1);
+        }
+        Integer removed = transactionTemplate.execute(status -> postSummaryRepository.deleteRemovedPosts());
+        log.info("[POST_SUMMARY] rebuild done processed={}, removed={}", processed, removed);
+        return processed;
+    }
+}
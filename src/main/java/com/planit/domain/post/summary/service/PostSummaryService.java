@@ -0,0 +1,97 @@
+package com.planit.domain.post.summary.service;
+
+import com.planit.domain.post.summary.entity.PostSummary;
+import com.planit.domain.post.summary.repository.PostSummaryRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * post_summary 읽기 모델 유지 서비스.
+ * 게시글/이미지/장소 변경 시 refresh 로 동일 트랜잭션 안에서 갱신한다.
+ * 통계 컬럼은 PostStatsAggregationService 가 PostSummaryRepository 의 adjust 쿼리와 replaceCounts 로 직접 맞춘다.
+ */
+@Service
+@Transactional
+public class PostSummaryService {
+
+    private final PostSummaryRepository postSummaryRepository;
+    private volatile boolean readable = false;
+
+    public PostSummaryService(PostSummaryRepository postSummaryRepository) {
+        this.postSummaryRepository = postSummaryRepository;
+    }
+
+    public void refresh(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        refreshAll(List.of(postId));
+    }
+
+    /** 원본 테이블에서 다시 계산해 upsert, 삭제된 게시글은 읽기 모델에서 제거 */
+    public void refreshAll(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(postIds);
+        Map<Long, PostSummaryRepository.SourceProjection> sources = postSummaryRepository.findSources(ids)
+                .stream()
+                .collect(Collectors.toMap(PostSummaryRepository.SourceProjection::getPostId, Function.identity()));
+        Map<Long, PostSummary> existing = postSummaryRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(PostSummary::getPostId, Function.identity()));
+        for (Long postId : ids) {
+            PostSummaryRepository.SourceProjection source = sources.get(postId);
+            PostSummary summary = existing.get(postId);
+            if (source == null) {
+                if (summary != null) {
+                    postSummaryRepository.delete(summary);
+                }
+                continue;
+            }
+            if (summary == null) {
+                summary = new PostSummary(postId);
+            }
+            summary.apply(toSource(source));
+            postSummaryRepository.save(summary);
+        }
+    }
+
+    public void remove(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        postSummaryRepository.deleteById(postId);
+    }
+
+    /** 백필이 끝나기 전에는 목록 조회가 기존 원본 테이블 쿼리를 사용하도록 한다. */
+    public boolean isReadable() {
+        return readable;
+    }
+
+    void markReadable() {
+        this.readable = true;
+    }
+
+    private PostSummary.PostSummarySource toSource(PostSummaryRepository.SourceProjection source) {
+        return new PostSummary.PostSummarySource(
+                source.getBoardType(),
+                source.getUserId(),
+                source.getTitle(),
+                source.getCreatedAt(),
+                source.getRepresentativeImageId(),
+                source.getRepresentativeImageKey(),
+                source.getPlaceImageUrl(),
+                source.getPlaceName(),
+                source.getGooglePlaceId(),
+                source.getLikeCount() == null ? 0L : source.getLikeCount(),
+                source.getCommentCount() == null ? 0L : source.getCommentCount(),
+                source.getViewCount() == null ? 0L : source.getViewCount()
+        );
+    }
+}
@@ -14,4 +14,10 @@ public class ItineraryJobProperties {
     private String consumerGroup = "travel-service";
     private String consumerName = "local";
     private boolean streamEnabled = true;
+    /** itinerary-results 처리 파티션 수. tripId 해시로 나누며, 1 이면 기존처럼 한 번에 하나씩 처리한다. */
+    private int resultPartitions = 1;
+    /** 파티션별 대기열 크기. 가득 차면 poll 을 멈춘다. */
+    private int resultQueueCapacity = 50;
+    /** 파티션 작업 스레드를 virtual thread 로 만든다. */
+    private boolean resultVirtualThreads = false;
 }
@@ -1,6 +1,9 @@
 package com.planit.domain.trip.config;
 
+import com.planit.domain.trip.service.ItineraryResultDispatcher;
 import com.planit.domain.trip.service.ItineraryResultListener;
+import com.planit.global.stream.StreamPendingReclaimer;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -42,12 +45,28 @@ public class ItineraryStreamConfig {
         return StreamMessageListenerContainer.create(connectionFactory, options);
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public ItineraryResultDispatcher itineraryResultDispatcher(
+            ItineraryResultListener listener,
+            ItineraryJobProperties jobProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ItineraryResultDispatcher(
+                listener,
+                meterRegistry,
+                jobProperties.getResultPartitions(),
+                jobProperties.getResultQueueCapacity(),
+                jobProperties.isResultVirtualThreads()
+        );
+    }
+
     @Bean
     public Subscription itineraryResultsSubscription(
             StreamMessageListenerContainer<String, MapRecord<String, String, String>> listenerContainer,
             RedisStreamProperties streamProperties,
             ItineraryJobProperties jobProperties,
-            ItineraryResultListener listener
+            ItineraryResultDispatcher dispatcher,
+            StreamPendingReclaimer pendingReclaimer
     ) {
         String consumerName = jobProperties.getConsumerName();
         if (consumerName == null || consumerName.isBlank()) {
@@ -56,13 +75,21 @@ public class ItineraryStreamConfig {
 
         log.info("[RESULT] subscribe stream={}, group={}, consumer={}",
                 streamProperties.getAiResultsKey(), jobProperties.getConsumerGroup(), consumerName);
+        // ack 전에 죽은 인스턴스가 남긴 pending 항목은 이 consumer 로 가져와 다시 처리한다.
+        pendingReclaimer.register(
+                streamProperties.getAiResultsKey(),
+                jobProperties.getConsumerGroup(),
+                consumerName,
+                streamProperties.getAiResultsDeadLetterKey(),
+                dispatcher
+        );
 
         // 4) receive(...) 호출 시 "구독(Subscription)"이 만들어지고,
-        //    container가 poll로 가져온 메시지를 listener.onMessage(...)로 전달한다.
+        //    container가 poll로 가져온 메시지를 dispatcher가 tripId 파티션으로 넘겨 listener.onMessage(...)를 실행한다.
         return listenerContainer.receive(
                 Consumer.from(jobProperties.getConsumerGroup(), consumerName),
                 StreamOffset.create(streamProperties.getAiResultsKey(), ReadOffset.lastConsumed()),
-                listener
+                dispatcher
         );
     }
 
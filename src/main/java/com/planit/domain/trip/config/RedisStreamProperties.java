@@ -1,5 +1,6 @@
 package com.planit.domain.trip.config;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -14,4 +15,55 @@ public class RedisStreamProperties {
     private String aiResultsKey = "stream:itinerary-results";
     private String aiJobsGroup = "ai-workers";
     private String chatResultsKey = "stream:chat-results";
+    private String chatJobsKey = "stream:chat-jobs";
+    private String chatJobsGroup = "chat-ai-workers";
+    private String chatDeadLetterKey = "stream:chat-jobs:dlq";
+    private String aiResultsDeadLetterKey = "stream:itinerary-results:dlq";
+    private String chatResultsDeadLetterKey = "stream:chat-results:dlq";
+    /** pending 재처리(XPENDING/XCLAIM) 사용 여부 */
+    private boolean reclaimEnabled = true;
+    /** 이 시간 넘게 ack 되지 않은 pending 항목을 가져와 다시 처리한다. */
+    private Duration reclaimMinIdle = Duration.ofMinutes(5);
+    /** 전달 횟수가 이 값에 닿은 항목은 더 처리하지 않고 dead-letter stream 으로 옮긴다. */
+    private int reclaimMaxDeliveries = 5;
+    private int reclaimBatchSize = 100;
+    /** pending 이 없고 이 시간 넘게 활동이 없는 consumer 는 group 에서 지운다(재시작으로 남은 consumer). */
+    private Duration staleConsumerIdle = Duration.ofHours(1);
+    /** 모든 group 이 ack 한 항목을 XTRIM MINID 로 지우는 compactor 사용 여부 */
+    private boolean compactEnabled = true;
+    private Retention aiJobsRetention = new Retention();
+    private Retention aiResultsRetention = new Retention();
+    private Retention chatJobsRetention = new Retention();
+    private Retention chatResultsRetention = new Retention();
+    private Retention deadLetterRetention = new Retention();
+
+    /** stream 키에 해당하는 보존 정책. 설정되지 않은 stream 은 XADD 상한/compact 대상이 아니다. */
+    public Retention retentionOf(String streamKey) {
+        if (streamKey.equals(aiJobsKey)) {
+            return aiJobsRetention;
+        }
+        if (streamKey.equals(aiResultsKey)) {
+            return aiResultsRetention;
+        }
+        if (streamKey.equals(chatJobsKey)) {
+            return chatJobsRetention;
+        }
+        if (streamKey.equals(chatResultsKey)) {
+            return chatResultsRetention;
+        }
+        if (streamKey.equals(chatDeadLetterKey) || streamKey.equals(aiResultsDeadLetterKey)
+                || streamKey.equals(chatResultsDeadLetterKey)) {
+            return deadLetterRetention;
+        }
+        return null;
+    }
+
+    @Getter
+    @Setter
+    public static class Retention {
+        /** XADD 때 MAXLEN ~ 로 거는 안전 상한. consumer 가 멈춰 쌓일 때만 닿도록 넉넉히 잡는다. 0 이하면 걸지 않는다. */
+        private long maxLen = 10000;
+        /** compactor 는 모든 group 이 ack 했고 이 시간보다 오래된 항목만 지운다. */
+        private Duration minAge = Duration.ofMinutes(10);
+    }
 }
@@ -4,6 +4,8 @@ public record ItineraryJobResponse(
         Long tripId,
         String status,
         String errorMessage,
-        String updatedAt
+        String updatedAt,
+        Integer daysDone,
+        Integer totalDays
 ) {
 }
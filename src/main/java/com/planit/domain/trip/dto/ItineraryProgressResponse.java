@@ -0,0 +1,15 @@
+package com.planit.domain.trip.dto;
+
+/**
+ * /topic/trips/{tripId}/itinerary 로 보내는 일정 생성 진행 상황.
+ * DAY 는 하루치가 저장될 때마다(day 에 해당 일자 일정 포함), SUCCESS/FAIL 은 생성이 끝났을 때 한 번 보낸다.
+ */
+public record ItineraryProgressResponse(
+        Long tripId,
+        String status,
+        Integer daysDone,
+        Integer totalDays,
+        ItineraryDayResponse day,
+        String errorMessage
+) {
+}
@@ -8,10 +8,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "itinerary_days")
+@Table(
+        name = "itinerary_days",
+        uniqueConstraints = @UniqueConstraint(name = "uk_itinerary_days_trip_day", columnNames = {"trip_id", "day_index"})
+)
 public class ItineraryDay {
 
     @Id
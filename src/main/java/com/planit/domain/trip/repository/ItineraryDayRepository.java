@@ -7,5 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface ItineraryDayRepository extends JpaRepository<ItineraryDay, Long> {
     List<ItineraryDay> findByTripIdOrderByDayIndex(Long tripId);
     List<ItineraryDay> findByTripId(Long tripId);
+    long countByTripId(Long tripId);
+    java.util.Optional<ItineraryDay> findFirstByTripIdAndDayIndexOrderByIdDesc(Long tripId, Integer dayIndex);
     java.util.Optional<ItineraryDay> findByIdAndTripId(Long id, Long tripId);
 }
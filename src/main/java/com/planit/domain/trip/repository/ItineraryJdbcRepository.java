@@ -0,0 +1,192 @@
+package com.planit.domain.trip.repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * AI 일정 결과를 JDBC batch 로 저장한다. IDENTITY id 라 JPA save 는 행마다 INSERT 를 따로 보내므로,
+ * 일자/장소/이동을 각각 한 batch 로 묶는다(MySQL 은 rewriteBatchedStatements 로 multi-row INSERT 가 된다).
+ * 일자 id 는 batch 의 generated keys 로 받아 장소/이동 행에 연결한다.
+ * 시간 값은 Hibernate(hibernate.jdbc.time_zone)와 같은 방식으로 바인딩해 JPA 로 읽을 때 어긋나지 않게 한다.
+ */
+@Repository
+public class ItineraryJdbcRepository {
+
+    private static final String INSERT_DAY = """
+            insert into itinerary_days (trip_id, day_index, date)
+            values (?, ?, ?)
+            """;
+
+    private static final String INSERT_PLACE = """
+            insert into itinerary_item_places
+                (itinerary_day_id, place_id, place_name, type, event_order, start_time, duration_time, cost, memo, google_map_url)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_TRANSPORT = """
+            insert into itinerary_item_transports
+                (itinerary_day_id, transport, type, event_order, start_time, duration_time)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeZone jdbcTimeZone;
+
+    public ItineraryJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTimeZone = StringUtils.hasText(jdbcTimeZone) ? TimeZone.getTimeZone(jdbcTimeZone) : null;
+    }
+
+    /** 일자 행을 한 batch 로 넣고, 입력 순서대로 생성된 id 를 돌려준다. */
+    public List<Long> insertDays(Long tripId, List<DayRow> days) {
+        if (days.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_DAY, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        DayRow day = days.get(i);
+                        ps.setLong(1, tripId);
+                        ps.setInt(2, day.dayIndex());
+                        setTimestamp(ps, 3, day.date());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return days.size();
+                    }
+                },
+                keyHolder
+        );
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != days.size()) {
+            throw new DataRetrievalFailureException(
+                    "Expected " + days.size() + " generated itinerary day ids but got " + keys.size());
+        }
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public void insertPlaces(List<PlaceRow> places) {
+        if (places.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PLACE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PlaceRow place = places.get(i);
+                ps.setLong(1, place.itineraryDayId());
+                ps.setString(2, place.placeId());
+                ps.setString(3, place.placeName());
+                ps.setString(4, place.type());
+                ps.setInt(5, place.eventOrder());
+                setTime(ps, 6, place.startTime());
+                setTime(ps, 7, place.durationTime());
+                ps.setBigDecimal(8, place.cost());
+                ps.setString(9, place.memo());
+                ps.setString(10, place.googleMapUrl());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return places.size();
+            }
+        });
+    }
+
+    public void insertTransports(List<TransportRow> transports) {
+        if (transports.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TRANSPORT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TransportRow transport = transports.get(i);
+                ps.setLong(1, transport.itineraryDayId());
+                ps.setString(2, transport.transport());
+                ps.setString(3, transport.type());
+                ps.setInt(4, transport.eventOrder());
+                setTime(ps, 5, transport.startTime());
+                setTime(ps, 6, transport.durationTime());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return transports.size();
+            }
+        });
+    }
+
+    private void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else if (jdbcTimeZone == null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value), Calendar.getInstance(jdbcTimeZone));
+        }
+    }
+
+    private void setTime(PreparedStatement ps, int index, LocalTime value) throws SQLException {
+        if (jdbcTimeZone == null) {
+            ps.setTime(index, Time.valueOf(value));
+        } else {
+            ps.setTime(index, Time.valueOf(value), Calendar.getInstance(jdbcTimeZone));
+        }
+    }
+
+    public record DayRow(Integer dayIndex, LocalDateTime date) {
+    }
+
+    public record PlaceRow(
+            Long itineraryDayId,
+            String placeId,
+            String placeName,
+            String type,
+            Integer eventOrder,
+            LocalTime startTime,
+            LocalTime durationTime,
+            BigDecimal cost,
+            String memo,
+            String googleMapUrl
+    ) {
+    }
+
+    public record TransportRow(
+            Long itineraryDayId,
+            String transport,
+            String type,
+            Integer eventOrder,
+            LocalTime startTime,
+            LocalTime durationTime
+    ) {
+    }
+}
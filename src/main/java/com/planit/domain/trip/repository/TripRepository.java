@@ -20,4 +20,12 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
             ORDER BY t.id DESC
             """, nativeQuery = true)
     List<Trip> findReadableTripsByUserIdOrderByIdDesc(@Param("userId") Long userId);
+
+    @Query(value = """
+            SELECT DISTINCT t.id
+            FROM trips t
+            LEFT JOIN trip_group_members tgm ON tgm.group_id = t.group_id
+            WHERE t.user_id = :userId OR tgm.user_id = :userId
+            """, nativeQuery = true)
+    List<Long> findReadableTripIdsByUserId(@Param("userId") Long userId);
 }
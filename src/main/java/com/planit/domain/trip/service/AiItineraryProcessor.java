@@ -4,12 +4,11 @@ import com.planit.domain.trip.dto.AiItineraryActivityResponse;
 import com.planit.domain.trip.dto.AiItineraryResponse;
 import com.planit.domain.trip.dto.AiItineraryDayResponse;
 import com.planit.domain.trip.entity.ItineraryDay;
-import com.planit.domain.trip.entity.ItineraryItemPlace;
-import com.planit.domain.trip.entity.ItineraryItemTransport;
-import com.planit.domain.trip.entity.Trip;
 import com.planit.domain.trip.repository.ItineraryDayRepository;
-import com.planit.domain.trip.repository.ItineraryItemPlaceRepository;
-import com.planit.domain.trip.repository.ItineraryItemTransportRepository;
+import com.planit.domain.trip.repository.ItineraryJdbcRepository;
+import com.planit.domain.trip.repository.ItineraryJdbcRepository.DayRow;
+import com.planit.domain.trip.repository.ItineraryJdbcRepository.PlaceRow;
+import com.planit.domain.trip.repository.ItineraryJdbcRepository.TransportRow;
 import com.planit.domain.trip.repository.TripRepository;
 
 import com.planit.domain.trip.service.AiAccessor.AiItineraryClient;
@@ -17,7 +16,11 @@ import com.planit.domain.trip.service.AiAccessor.AiItineraryJob;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -29,21 +32,18 @@ public class AiItineraryProcessor {
     private final AiItineraryClient client;
     private final TripRepository tripRepository;
     private final ItineraryDayRepository itineraryDayRepository;
-    private final ItineraryItemPlaceRepository placeRepository;
-    private final ItineraryItemTransportRepository transportRepository;
+    private final ItineraryJdbcRepository itineraryJdbcRepository;
 
     public AiItineraryProcessor(
             AiItineraryClient client,
             TripRepository tripRepository,
             ItineraryDayRepository itineraryDayRepository,
-            ItineraryItemPlaceRepository placeRepository,
-            ItineraryItemTransportRepository transportRepository
+            ItineraryJdbcRepository itineraryJdbcRepository
     ) {
         this.client = client;
         this.tripRepository = tripRepository;
         this.itineraryDayRepository = itineraryDayRepository;
-        this.placeRepository = placeRepository;
-        this.transportRepository = transportRepository;
+        this.itineraryJdbcRepository = itineraryJdbcRepository;
     }
 
     @Transactional
@@ -51,7 +51,7 @@ public class AiItineraryProcessor {
         // AI 서버로 일정 생성 요청
         log.info("[AI_PROCESS] start job tripId={}", job.request().tripId());
         AiItineraryResponse response = client.requestItinerary(job.request());
-        saveItinerary(job.request().tripId(), response);
+        saveItinerary(job.request().tripId(), response == null ? null : response.itineraries());
         log.info("[AI_PROCESS] end job tripId={}", job.request().tripId());
     }
 
@@ -61,33 +61,57 @@ public class AiItineraryProcessor {
             return;
         }
         log.info("[AI_PROCESS] processResponse tripId={}", response.tripId());
-        saveItinerary(response.tripId(), response);
+        saveItinerary(response.tripId(), response.itineraries());
     }
 
-    private void saveItinerary(Long tripId, AiItineraryResponse response) {
-        if (tripId == null || response == null || response.itineraries() == null) {
+    /** 스트리밍 결과의 하루치를 저장하고, 지금까지 저장된 일자 수를 돌려준다. 이미 저장된 일자(재전달)는 건너뛴다. */
+    @Transactional
+    public int processDay(Long tripId, AiItineraryDayResponse day) {
+        log.info("[AI_PROCESS] processDay tripId={}, day={}", tripId, day == null ? null : day.day());
+        saveItinerary(tripId, day == null ? null : List.of(day));
+        return countSavedDays(tripId);
+    }
+
+    public int countSavedDays(Long tripId) {
+        return (int) itineraryDayRepository.countByTripId(tripId);
+    }
+
+    private void saveItinerary(Long tripId, List<AiItineraryDayResponse> days) {
+        if (tripId == null || days == null) {
             return;
         }
 
         // 여행이 존재할 때만 일정 저장
-        Trip trip = tripRepository.findById(tripId).orElse(null);
-        if (trip == null) {
+        if (!tripRepository.existsById(tripId)) {
             log.warn("[AI_PROCESS] trip not found tripId={}", tripId);
             return;
         }
 
-        for (AiItineraryDayResponse itinerary : response.itineraries()) {
-
-            // 일자별 일정 저장
-            ItineraryDay day = itineraryDayRepository.save(new ItineraryDay(
-                    trip,
-                    itinerary.day(),
-                    itinerary.date() != null ? itinerary.date().atStartOfDay() : null
-            ));
-            log.info("[AI_PROCESS] day saved dayId={}, dayIndex={}", day.getId(), day.getDayIndex());
-
+        // 일자별로 먼저 도착해 저장된 날은 전체 결과에서 다시 저장하지 않는다.
+        Set<Integer> savedDayIndexes = itineraryDayRepository.findByTripId(tripId).stream()
+                .map(ItineraryDay::getDayIndex)
+                .collect(Collectors.toSet());
+        List<AiItineraryDayResponse> itineraries = days.stream()
+                .filter(Objects::nonNull)
+                .filter(itinerary -> !savedDayIndexes.contains(itinerary.day()))
+                .toList();
+        if (itineraries.isEmpty()) {
+            return;
+        }
 
-            List<AiItineraryActivityResponse> activities = itinerary.activities();
+        // 일자별 일정을 한 번에 저장하고, 생성된 id 로 장소/이동을 모아 각각 한 번에 저장
+        List<Long> dayIds = itineraryJdbcRepository.insertDays(tripId, itineraries.stream()
+                .map(itinerary -> new DayRow(
+                        itinerary.day(),
+                        itinerary.date() != null ? itinerary.date().atStartOfDay() : null
+                ))
+                .toList());
+
+        List<PlaceRow> places = new ArrayList<>();
+        List<TransportRow> transports = new ArrayList<>();
+        for (int i = 0; i < itineraries.size(); i++) {
+            Long dayId = dayIds.get(i);
+            List<AiItineraryActivityResponse> activities = itineraries.get(i).activities();
             if (activities == null) {
                 continue;
             }
@@ -97,18 +121,17 @@ public class AiItineraryProcessor {
                 }
                 // 이동(route)은 이동 이벤트, 나머지는 장소 이벤트로 처리
                 if (isRoute(activity.type())) {
-                    transportRepository.save(new ItineraryItemTransport(
-                        day,
+                    transports.add(new TransportRow(
+                        dayId,
                         activity.transport() != null ? activity.transport() : "UNKNOWN",
                         activity.type(),
                         activity.eventOrder() != null ? activity.eventOrder() : 0,
                         resolveStartTime(activity.startTime()),
                         resolveDuration(activity.duration())
                     ));
-                    log.debug("[AI_PROCESS] transport saved dayId={}, order={}", day.getId(), activity.eventOrder());
                 } else {
-                    placeRepository.save(new ItineraryItemPlace(
-                        day,
+                    places.add(new PlaceRow(
+                        dayId,
                         null,
                         activity.placeName(),
                         activity.type(),
@@ -119,10 +142,13 @@ public class AiItineraryProcessor {
                         activity.memo(),
                         activity.googleMapUrl()
                     ));
-                    log.debug("[AI_PROCESS] place saved dayId={}, name={}", day.getId(), activity.placeName());
                 }
             }
         }
+        itineraryJdbcRepository.insertPlaces(places);
+        itineraryJdbcRepository.insertTransports(transports);
+        log.info("[AI_PROCESS] itinerary saved tripId={}, days={}, places={}, transports={}",
+                tripId, dayIds.size(), places.size(), transports.size());
     }
 
     private boolean isRoute(String type) {
@@ -0,0 +1,50 @@
+package com.planit.domain.trip.service;
+
+import com.planit.domain.trip.dto.ItineraryDayResponse;
+import com.planit.domain.trip.dto.ItineraryProgressResponse;
+import com.planit.domain.trip.service.redisAccessor.ItineraryJobStatus;
+import com.planit.global.websocket.TopicPublisher;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 생성 진행 상황을 /topic/trips/{tripId}/itinerary 로 보낸다.
+ * 클라이언트는 구독 후 itinerary-job 을 한 번 조회해 현재 상태를 맞추고, 이후로는 push 만 받는다.
+ * push 실패는 저장/작업 상태에 영향을 주지 않도록 로그만 남긴다(재접속 시 조회로 복구).
+ */
+@Component
+@RequiredArgsConstructor
+public class ItineraryProgressPublisher {
+    private static final Logger log = LoggerFactory.getLogger(ItineraryProgressPublisher.class);
+
+    private final TopicPublisher topicPublisher;
+    private final ItineraryQueryService itineraryQueryService;
+
+    public void dayReady(Long tripId, int dayIndex, int daysDone, Integer totalDays) {
+        ItineraryDayResponse day = null;
+        try {
+            day = itineraryQueryService.findDay(tripId, dayIndex).orElse(null);
+        } catch (Exception ex) {
+            log.warn("[RESULT] day load for push failed tripId={}, day={}: {}", tripId, dayIndex, ex.toString());
+        }
+        publish(new ItineraryProgressResponse(tripId, ItineraryJobStatus.DAY.name(), daysDone, totalDays, day, null));
+    }
+
+    public void completed(Long tripId, int daysDone) {
+        publish(new ItineraryProgressResponse(tripId, ItineraryJobStatus.SUCCESS.name(), daysDone, daysDone, null, null));
+    }
+
+    public void failed(Long tripId, String errorMessage) {
+        publish(new ItineraryProgressResponse(tripId, ItineraryJobStatus.FAIL.name(), null, null, null, errorMessage));
+    }
+
+    private void publish(ItineraryProgressResponse progress) {
+        try {
+            topicPublisher.publish("/topic/trips/" + progress.tripId() + "/itinerary", progress);
+        } catch (Exception ex) {
+            log.warn("[RESULT] progress push failed tripId={}, status={}: {}", progress.tripId(), progress.status(), ex.toString());
+        }
+    }
+}
@@ -53,53 +53,19 @@ public class ItineraryQueryService {
         return Optional.of(buildItineraries(trip, accessInfo.isOwner(), accessInfo.isMember()));
     }
 
+    /** 생성 진행 push 용 하루치 일정. 권한 확인은 topic 구독 시점에 끝났으므로 하지 않는다. */
+    public Optional<ItineraryDayResponse> findDay(Long tripId, int dayIndex) {
+        return itineraryDayRepository.findFirstByTripIdAndDayIndexOrderByIdDesc(tripId, dayIndex)
+                .map(day -> toDayResponse(day.getTrip(), day));
+    }
+
     private ItineraryResponse buildItineraries(Trip trip, boolean isOwner, boolean isMember) {
         Long tripId = trip.getId();
         List<ItineraryDay> itineraryDays = itineraryDayRepository.findByTripIdOrderByDayIndex(tripId);
         List<ItineraryDayResponse> dayResponses = new ArrayList<>();
 
         for (ItineraryDay day : itineraryDays) {
-            List<ItineraryActivityResponse> activities = new ArrayList<>();
-
-            List<ItineraryItemPlace> places =
-                    placeRepository.findByItineraryDayIdOrderByEventOrder(day.getId());
-            for (ItineraryItemPlace place : places) {
-                activities.add(new ItineraryActivityResponse(
-                        place.getId(),
-                        place.getPlaceName(),
-                        null,
-                        place.getType(),
-                        place.getEventOrder(),
-                        place.getStartTime(),
-                        resolveDurationMinutes(place.getDurationTime()),
-                        place.getCost(),
-                        place.getMemo(),
-                        place.getGoogleMapUrl()
-                ));
-            }
-
-            List<ItineraryItemTransport> transports =
-                    transportRepository.findByItineraryDayIdOrderByEventOrder(day.getId());
-            for (ItineraryItemTransport transport : transports) {
-                activities.add(new ItineraryActivityResponse(
-                        transport.getId(),
-                        null,
-                        transport.getTransport(),
-                        transport.getType(),
-                        transport.getEventOrder(),
-                        transport.getStartTime(),
-                        resolveDurationMinutes(transport.getDurationTime()),
-                        null,
-                        null,
-                        null
-                ));
-            }
-
-            activities.sort(Comparator.comparing(ItineraryActivityResponse::eventOrder, Comparator.nullsLast(Integer::compareTo)));
-
-            LocalDate date = day.getDate() != null ? day.getDate().toLocalDate()
-                    : (trip.getArrivalDate() != null ? trip.getArrivalDate().plusDays(day.getDayIndex() - 1) : null);
-            dayResponses.add(new ItineraryDayResponse(day.getId(), day.getDayIndex(), date, activities));
+            dayResponses.add(toDayResponse(trip, day));
         }
 
         return new ItineraryResponse(
@@ -113,6 +79,50 @@ public class ItineraryQueryService {
         );
     }
 
+    private ItineraryDayResponse toDayResponse(Trip trip, ItineraryDay day) {
+        List<ItineraryActivityResponse> activities = new ArrayList<>();
+
+        List<ItineraryItemPlace> places =
+                placeRepository.findByItineraryDayIdOrderByEventOrder(day.getId());
+        for (ItineraryItemPlace place : places) {
+            activities.add(new ItineraryActivityResponse(
+                    place.getId(),
+                    place.getPlaceName(),
+                    null,
+                    place.getType(),
+                    place.getEventOrder(),
+                    place.getStartTime(),
+                    resolveDurationMinutes(place.getDurationTime()),
+                    place.getCost(),
+                    place.getMemo(),
+                    place.getGoogleMapUrl()
+            ));
+        }
+
+        List<ItineraryItemTransport> transports =
+                transportRepository.findByItineraryDayIdOrderByEventOrder(day.getId());
+        for (ItineraryItemTransport transport : transports) {
+            activities.add(new ItineraryActivityResponse(
+                    transport.getId(),
+                    null,
+                    transport.getTransport(),
+                    transport.getType(),
+                    transport.getEventOrder(),
+                    transport.getStartTime(),
+                    resolveDurationMinutes(transport.getDurationTime()),
+                    null,
+                    null,
+                    null
+            ));
+        }
+
+        activities.sort(Comparator.comparing(ItineraryActivityResponse::eventOrder, Comparator.nullsLast(Integer::compareTo)));
+
+        LocalDate date = day.getDate() != null ? day.getDate().toLocalDate()
+                : (trip.getArrivalDate() != null ? trip.getArrivalDate().plusDays(day.getDayIndex() - 1) : null);
+        return new ItineraryDayResponse(day.getId(), day.getDayIndex(), date, activities);
+    }
+
     private Integer resolveDurationMinutes(LocalTime durationTime) {
         if (durationTime == null) {
             return null;
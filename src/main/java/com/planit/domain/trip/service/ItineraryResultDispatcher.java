@@ -0,0 +1,157 @@
+package com.planit.domain.trip.service;
+
+import com.planit.global.stream.StreamInFlightRecords;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * itinerary-results 병렬 소비.
+ * poll 스레드는 레코드를 tripId 해시로 파티션에 나눠 넘기기만 하고, 파티션마다 스레드 하나가 순서대로 ItineraryResultListener 를 실행한다.
+ * 그래서 같은 여행의 결과는 도착 순서대로 처리되고 서로 다른 여행은 동시에 처리된다.
+ * 파티션 대기열이 queue-capacity 에 닿으면 poll 스레드가 기다려 다음 XREADGROUP 이 늦춰진다(backpressure).
+ * 파티션별 처리 시간/적재 후 대기 시간(lag)/대기열 길이를 itinerary.results.* 로 기록한다.
+ * 대기열에 있거나 처리 중인 레코드 id 는 StreamInFlightRecords 로 알려, 오래 기다리는 동안 다른 인스턴스가 reclaim 하지 않게 한다.
+ */
+public class ItineraryResultDispatcher
+        implements StreamListener<String, MapRecord<String, String, String>>, StreamInFlightRecords {
+    private static final Logger log = LoggerFactory.getLogger(ItineraryResultDispatcher.class);
+
+    private final ItineraryResultListener listener;
+    private final List<Partition> partitions;
+    private final Set<RecordId> inFlightIds = ConcurrentHashMap.newKeySet();
+
+    public ItineraryResultDispatcher(
+            ItineraryResultListener listener,
+            MeterRegistry meterRegistry,
+            int partitionCount,
+            int queueCapacity,
+            boolean virtualThreads
+    ) {
+        this.listener = listener;
+        int count = Math.max(1, partitionCount);
+        this.partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add(new Partition(i, Math.max(1, queueCapacity), virtualThreads, meterRegistry));
+        }
+        log.info("[RESULT] dispatcher partitions={}, queueCapacity={}, virtualThreads={}", count, queueCapacity, virtualThreads);
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> message) {
+        partitionOf(message.getValue().get("tripId")).submit(message);
+    }
+
+    @Override
+    public Collection<RecordId> inFlightIds() {
+        return Set.copyOf(inFlightIds);
+    }
+
+    public void shutdown() {
+        partitions.forEach(Partition::shutdown);
+    }
+
+    int partitionIndexOf(String tripIdRaw) {
+        // tripId 가 없는 잘못된 메시지는 listener 가 ack 만 하므로 어느 파티션이어도 된다.
+        int hash = StringUtils.hasText(tripIdRaw) ? tripIdRaw.trim().hashCode() : 0;
+        return Math.floorMod(hash, partitions.size());
+    }
+
+    private Partition partitionOf(String tripIdRaw) {
+        return partitions.get(partitionIndexOf(tripIdRaw));
+    }
+
+    private final class Partition {
+        private final int index;
+        private final ExecutorService executor;
+        private final Semaphore capacity;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Timer processingTimer;
+        private final Timer lagTimer;
+
+        private Partition(int index, int queueCapacity, boolean virtualThreads, MeterRegistry meterRegistry) {
+            this.index = index;
+            ThreadFactory threadFactory = virtualThreads
+                    ? Thread.ofVirtual().name("itinerary-result-" + index + "-", 0).factory()
+                    : Thread.ofPlatform().name("itinerary-result-" + index + "-", 0).daemon(true).factory();
+            this.executor = Executors.newSingleThreadExecutor(threadFactory);
+            this.capacity = new Semaphore(queueCapacity);
+            String partition = String.valueOf(index);
+            this.processingTimer = Timer.builder("itinerary.results.processing")
+                    .description("itinerary-results 레코드 하나를 처리(DB 반영 + ack)하는 데 걸린 시간")
+                    .tag("partition", partition)
+                    .register(meterRegistry);
+            this.lagTimer = Timer.builder("itinerary.results.lag")
+                    .description("itinerary-results 에 적재된 시점부터 처리 시작까지 걸린 시간")
+                    .tag("partition", partition)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            Gauge.builder("itinerary.results.queued", queued, AtomicInteger::get)
+                    .description("파티션에서 처리를 기다리는 레코드 수")
+                    .tag("partition", partition)
+                    .register(meterRegistry);
+        }
+
+        private void submit(MapRecord<String, String, String> message) {
+            inFlightIds.add(message.getId());
+            capacity.acquireUninterruptibly();
+            queued.incrementAndGet();
+            try {
+                executor.execute(() -> run(message));
+            } catch (RuntimeException ex) {
+                // 종료 중이라 거절되면 ack 하지 않은 채 pending 으로 남긴다.
+                queued.decrementAndGet();
+                capacity.release();
+                inFlightIds.remove(message.getId());
+                log.warn("[RESULT] partition={} rejected id={}: {}", index, message.getId(), ex.toString());
+            }
+        }
+
+        private void run(MapRecord<String, String, String> message) {
+            queued.decrementAndGet();
+            long startedAt = System.nanoTime();
+            try {
+                long enqueuedAt = message.getId().getTimestamp();
+                if (enqueuedAt > 0) {
+                    lagTimer.record(Math.max(0L, System.currentTimeMillis() - enqueuedAt), TimeUnit.MILLISECONDS);
+                }
+                listener.onMessage(message);
+            } catch (Exception ex) {
+                log.error("[RESULT] partition={} failed id={}", index, message.getId(), ex);
+            } finally {
+                processingTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                capacity.release();
+                inFlightIds.remove(message.getId());
+            }
+        }
+
+        private void shutdown() {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
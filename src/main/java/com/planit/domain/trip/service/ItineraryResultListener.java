@@ -3,6 +3,7 @@ package com.planit.domain.trip.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planit.domain.trip.config.ItineraryJobProperties;
 import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.domain.trip.dto.AiItineraryDayResponse;
 import com.planit.domain.trip.dto.AiItineraryResponse;
 import com.planit.domain.trip.entity.Trip;
 import com.planit.domain.trip.entity.TripStatus;
@@ -14,6 +15,7 @@ import com.planit.domain.trip.service.redisAccessor.ItineraryJobStatus;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
@@ -32,6 +34,7 @@ public class ItineraryResultListener implements StreamListener<String, MapRecord
     private final RedisStreamProperties streamProperties;
     private final ItineraryJobProperties jobProperties;
     private final TripRepository tripRepository;
+    private final ItineraryProgressPublisher progressPublisher;
 
     @Override
     public void onMessage(MapRecord<String, String, String> message) {
@@ -47,8 +50,15 @@ public class ItineraryResultListener implements StreamListener<String, MapRecord
         }
         Long tripId = Long.parseLong(tripIdRaw);
 
-        if (ItineraryJobStatus.SUCCESS.name().equalsIgnoreCase(status)) {
-            // 6) 성공 메시지면 payload를 파싱해 일정 반영 + 상태 갱신
+        if (ItineraryJobStatus.DAY.name().equalsIgnoreCase(status)) {
+            // 6) 하루치 결과면 그 날만 바로 저장하고 진행률을 push (나머지 날은 계속 생성 중)
+            handleDay(tripId, fields);
+        } else if (ItineraryJobStatus.SUCCESS.name().equalsIgnoreCase(status)
+                && (jobService.isFinished(tripId) || isCanceled(tripId))) {
+            // 일자 처리 실패 등으로 이미 끝난 작업에 뒤늦게 온(또는 재전달된) SUCCESS 는 반영하지 않는다.
+            log.info("[RESULT] skip SUCCESS for finished job tripId={}", tripId);
+        } else if (ItineraryJobStatus.SUCCESS.name().equalsIgnoreCase(status)) {
+            // 7) 성공 메시지면 payload를 파싱해 일정 반영 + 상태 갱신
             jobService.markProcessing(tripId);
             String payload = fields.getOrDefault("payload", "");
             if (StringUtils.hasText(payload)) {
@@ -58,30 +68,89 @@ public class ItineraryResultListener implements StreamListener<String, MapRecord
                     log.info("ai결과 가져옴: "+response);
                     processor.processResponse(response);
                     log.info("프로세서 메서드 실행완료");
-                    updateTripStatus(tripId, TripStatus.DONE);
-                    jobService.markSuccess(tripId);
+                    complete(tripId);
                     log.info("여행상태 셋 & 잡 성공마킹 완료");
                 } catch (Exception ex) {
                     log.error("일정 결과큐 프로세싱 중 예외 발생", ex);
-                    updateTripStatus(tripId, TripStatus.CANCELED);
-                    jobService.markFail(tripId, "RESULT_PROCESSING_FAILED");
+                    fail(tripId, "RESULT_PROCESSING_FAILED");
                 }
+            } else if (processor.countSavedDays(tripId) > 0) {
+                // 일자별로 이미 모두 받은 경우 SUCCESS 는 완료 표시만 한다.
+                complete(tripId);
             } else {
-                updateTripStatus(tripId, TripStatus.CANCELED);
-                jobService.markFail(tripId, "EMPTY_RESULT_PAYLOAD");
+                fail(tripId, "EMPTY_RESULT_PAYLOAD");
             }
         } else if (ItineraryJobStatus.FAIL.name().equalsIgnoreCase(status)) {
-            // 7) 실패 메시지면 실패 사유와 trip 상태를 반영
-            String errorMessage = fields.get("errorMessage");
-            updateTripStatus(tripId, TripStatus.CANCELED);
-            jobService.markFail(tripId, errorMessage);
+            // 8) 실패 메시지면 실패 사유와 trip 상태를 반영
+            fail(tripId, fields.get("errorMessage"));
         } else {
             log.warn("Unknown status: {}, fields={}", status, fields);
         }
-        // 8) 마지막에 XACK으로 "해당 group에서 처리 완료"를 확정한다.
+        // 9) 마지막에 XACK으로 "해당 group에서 처리 완료"를 확정한다.
         ack(message);
     }
 
+    /**
+     * 스트리밍 결과 프로토콜: AI 서버는 하루치가 완성될 때마다 status=DAY, day, totalDays, payload(AiItineraryDayResponse JSON)를 보내고,
+     * 마지막에 status=SUCCESS 를 보낸다. SUCCESS 의 payload 는 비워도 되며, 전체 결과를 실으면 아직 저장되지 않은 날만 저장한다.
+     */
+    private void handleDay(Long tripId, Map<String, String> fields) {
+        String payload = fields.getOrDefault("payload", "");
+        if (!StringUtils.hasText(payload)) {
+            log.warn("[RESULT] empty day payload tripId={}, day={}", tripId, fields.get("day"));
+            return;
+        }
+        // 이미 끝난 작업(실패/취소 포함)에 늦게 도착하거나 재전달된 일자는 저장하지 않는다.
+        if (jobService.isFinished(tripId) || isCanceled(tripId)) {
+            log.info("[RESULT] skip day for finished job tripId={}, day={}", tripId, fields.get("day"));
+            return;
+        }
+        try {
+            AiItineraryDayResponse day = objectMapper.readValue(payload, AiItineraryDayResponse.class);
+            Integer totalDays = parseCount(fields.get("totalDays"));
+            int daysDone;
+            try {
+                daysDone = processor.processDay(tripId, day);
+            } catch (DuplicateKeyException ex) {
+                // 같은 일자가 동시에 재전달돼 다른 쪽이 먼저 저장했다.
+                log.info("[RESULT] day already saved tripId={}, day={}", tripId, day.day());
+                daysDone = processor.countSavedDays(tripId);
+            }
+            if (!jobService.markDayDone(tripId, daysDone, totalDays == null ? 0 : totalDays)) {
+                return;
+            }
+            progressPublisher.dayReady(tripId, day.day(), daysDone, totalDays);
+        } catch (Exception ex) {
+            log.error("[RESULT] day processing failed tripId={}, day={}", tripId, fields.get("day"), ex);
+            fail(tripId, "RESULT_PROCESSING_FAILED");
+        }
+    }
+
+    private void complete(Long tripId) {
+        if (!jobService.markSuccess(tripId)) {
+            return;
+        }
+        updateTripStatus(tripId, TripStatus.DONE);
+        progressPublisher.completed(tripId, processor.countSavedDays(tripId));
+    }
+
+    private void fail(Long tripId, String errorMessage) {
+        updateTripStatus(tripId, TripStatus.CANCELED);
+        jobService.markFail(tripId, errorMessage);
+        progressPublisher.failed(tripId, errorMessage);
+    }
+
+    private Integer parseCount(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
     private void ack(MapRecord<String, String, String> message) {
         try {
             redisTemplate.opsForStream().acknowledge(streamProperties.getAiResultsKey(), jobProperties.getConsumerGroup(), message.getId());
@@ -91,6 +160,12 @@ public class ItineraryResultListener implements StreamListener<String, MapRecord
         }
     }
 
+    private boolean isCanceled(Long tripId) {
+        return tripRepository.findById(tripId)
+                .map(trip -> trip.getStatus() == TripStatus.CANCELED)
+                .orElse(false);
+    }
+
     private void updateTripStatus(Long tripId, TripStatus status) {
         Trip trip = tripRepository.findById(tripId).orElse(null);
         if (trip == null) {
@@ -2,10 +2,12 @@ package com.planit.domain.trip.service;
 
 import com.planit.domain.trip.entity.Trip;
 import com.planit.domain.trip.repository.TripGroupMemberRepository;
+import com.planit.domain.trip.repository.TripRepository;
 import com.planit.domain.user.entity.User;
 import com.planit.domain.user.repository.UserRepository;
 import com.planit.global.common.exception.BusinessException;
 import com.planit.global.common.exception.ErrorCode;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +17,7 @@ public class TripAccessService {
 
     private final UserRepository userRepository;
     private final TripGroupMemberRepository groupMemberRepository;
+    private final TripRepository tripRepository;
 
     public AccessInfo getAccessInfo(Trip trip, String loginId) {
         User user = userRepository.findByLoginIdAndDeletedFalse(loginId)
@@ -38,6 +41,11 @@ public class TripAccessService {
         return info;
     }
 
+    /** 사용자가 읽을 수 있는(소유 또는 그룹 멤버) 여행 id 전체. requireReadable 과 같은 기준이다. */
+    public Set<Long> getReadableTripIds(Long userId) {
+        return Set.copyOf(tripRepository.findReadableTripIdsByUserId(userId));
+    }
+
     public record AccessInfo(User user, boolean isOwner, boolean isMember) {
     }
 }
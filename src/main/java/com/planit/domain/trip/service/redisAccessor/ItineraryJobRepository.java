@@ -1,12 +1,15 @@
 package com.planit.domain.trip.service.redisAccessor;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +21,25 @@ public class ItineraryJobRepository {
     private static final String FIELD_CREATED_AT = "createdAt";
     private static final String FIELD_UPDATED_AT = "updatedAt";
 
+    /** 이미 SUCCESS/FAIL 로 끝난 작업은 늦게 도착한(또는 재전달된) 일자 결과로 PROCESSING 으로 되돌리지 않는다. */
+    private static final RedisScript<Long> PROGRESS_SCRIPT = new DefaultRedisScript<>("""
+            local status = redis.call('HGET', KEYS[1], 'status')
+            if status == ARGV[1] or status == ARGV[2] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', ARGV[3], 'daysDone', ARGV[4], 'totalDays', ARGV[5], 'updatedAt', ARGV[6])
+            return 1
+            """, Long.class);
+
+    /** 이미 FAIL 로 끝난 작업은 뒤늦게 도착한 SUCCESS 로 성공 처리하지 않는다. */
+    private static final RedisScript<Long> SUCCESS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') == ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', ARGV[2], 'errorMessage', '', 'updatedAt', ARGV[3])
+            return 1
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     public void initPending(Long tripId) {
@@ -39,6 +61,33 @@ public class ItineraryJobRepository {
         ops.put(key, FIELD_UPDATED_AT, now);
     }
 
+    /** 진행률을 기록한다. 작업이 이미 끝난 상태(SUCCESS/FAIL)면 건드리지 않고 false 를 돌려준다. */
+    public boolean updateProgress(Long tripId, int daysDone, int totalDays) {
+        Long updated = redisTemplate.execute(
+                PROGRESS_SCRIPT,
+                List.of(buildKey(tripId)),
+                ItineraryJobStatus.SUCCESS.name(),
+                ItineraryJobStatus.FAIL.name(),
+                ItineraryJobStatus.PROCESSING.name(),
+                String.valueOf(daysDone),
+                String.valueOf(totalDays),
+                Instant.now().toString()
+        );
+        return updated != null && updated == 1L;
+    }
+
+    /** SUCCESS 로 기록한다. 작업이 이미 FAIL 이면 건드리지 않고 false 를 돌려준다. */
+    public boolean updateSuccess(Long tripId) {
+        Long updated = redisTemplate.execute(
+                SUCCESS_SCRIPT,
+                List.of(buildKey(tripId)),
+                ItineraryJobStatus.FAIL.name(),
+                ItineraryJobStatus.SUCCESS.name(),
+                Instant.now().toString()
+        );
+        return updated != null && updated == 1L;
+    }
+
     public Optional<Map<String, String>> findStatus(Long tripId) {
         String key = buildKey(tripId);
         HashOperations<String, String, String> ops = redisTemplate.opsForHash();
@@ -35,10 +35,35 @@ public class ItineraryJobService {
         jobRepository.expire(tripId, jobProperties.getJobTtlSeconds());
     }
 
-    public void markSuccess(Long tripId) {
+    /** 진행률 반영. 작업이 이미 SUCCESS/FAIL 이면 반영하지 않고 false. */
+    public boolean markDayDone(Long tripId, int daysDone, int totalDays) {
+        log.info("[JOB] mark day done tripId={}, progress={}/{}", tripId, daysDone, totalDays);
+        if (!jobRepository.updateProgress(tripId, daysDone, totalDays)) {
+            log.info("[JOB] skip progress for finished job tripId={}", tripId);
+            return false;
+        }
+        jobRepository.expire(tripId, jobProperties.getJobTtlSeconds());
+        return true;
+    }
+
+    /** 작업이 SUCCESS/FAIL 로 끝났는지. */
+    public boolean isFinished(Long tripId) {
+        return jobRepository.findStatus(tripId)
+                .map(status -> status.get("status"))
+                .filter(status -> ItineraryJobStatus.SUCCESS.name().equals(status)
+                        || ItineraryJobStatus.FAIL.name().equals(status))
+                .isPresent();
+    }
+
+    /** 성공 반영. 작업이 이미 FAIL 이면 반영하지 않고 false. */
+    public boolean markSuccess(Long tripId) {
         log.info("[JOB] mark SUCCESS tripId={}", tripId);
-        jobRepository.updateStatus(tripId, ItineraryJobStatus.SUCCESS, null);
+        if (!jobRepository.updateSuccess(tripId)) {
+            log.warn("[JOB] skip SUCCESS for failed job tripId={}", tripId);
+            return false;
+        }
         jobRepository.expire(tripId, jobProperties.getJobTtlSeconds());
+        return true;
     }
 
     public void markFail(Long tripId, String errorMessage) {
@@ -64,10 +89,23 @@ public class ItineraryJobService {
                 tripId,
                 status.getOrDefault("status", ItineraryJobStatus.PENDING.name()),
                 emptyToNull(status.get("errorMessage")),
-                status.get("updatedAt")
+                status.get("updatedAt"),
+                parseCount(status.get("daysDone")),
+                parseCount(status.get("totalDays"))
         ));
     }
 
+    private Integer parseCount(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
     private String emptyToNull(String value) {
         if (value == null || value.isBlank()) {
             return null;
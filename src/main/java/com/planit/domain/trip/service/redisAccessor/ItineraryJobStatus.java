@@ -4,5 +4,7 @@ public enum ItineraryJobStatus {
     PENDING,
     PROCESSING,
     SUCCESS,
-    FAIL
+    FAIL,
+    /** 결과 stream 전용: 하루치 일정이 완성됨 (작업 상태 hash 에는 PROCESSING + 진행률로 남는다) */
+    DAY
 }
@@ -5,23 +5,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planit.domain.trip.config.RedisStreamProperties;
 import com.planit.domain.trip.dto.AiItineraryRequest;
 import com.planit.domain.trip.dto.AiItineraryResponse;
+import com.planit.global.stream.StreamAppender;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class ItineraryJobStreamService {
     private static final Logger log = LoggerFactory.getLogger(ItineraryJobStreamService.class);
-    private final StringRedisTemplate redisTemplate;
+    private final StreamAppender streamAppender;
     private final ObjectMapper objectMapper;
     private final RedisStreamProperties streamProperties;
 
@@ -30,8 +28,7 @@ public class ItineraryJobStreamService {
         fields.put("tripId", String.valueOf(tripId));
         fields.put("payload", toJson(request));
         fields.put("createdAt", Instant.now().toString());
-        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
-        RecordId id = ops.add(MapRecord.create(streamProperties.getAiJobsKey(), fields));
+        RecordId id = streamAppender.add(streamProperties.getAiJobsKey(), fields);
         log.info("[STREAM] jobs XADD tripId={}, recordId={}", tripId, id == null ? "null" : id.getValue());
         return id;
     }
@@ -43,8 +40,7 @@ public class ItineraryJobStreamService {
         fields.put("payload", response != null ? toJson(response) : "");
         fields.put("errorMessage", errorMessage == null ? "" : errorMessage);
         fields.put("finishedAt", Instant.now().toString());
-        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
-        RecordId id = ops.add(MapRecord.create(streamProperties.getAiResultsKey(), fields));
+        RecordId id = streamAppender.add(streamProperties.getAiResultsKey(), fields);
         log.info("[STREAM] results XADD tripId={}, status={}, recordId={}", tripId, status, id == null ? "null" : id.getValue());
         return id;
     }
@@ -0,0 +1,103 @@
+package com.planit.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planit.domain.user.entity.User;
+import com.planit.domain.user.repository.UserRepository;
+import com.planit.infrastructure.storage.S3ImageUrlResolver;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * userId -> 닉네임 + 변환된 프로필 이미지 URL 스냅샷 (인스턴스 로컬 Caffeine).
+ * 채팅 목록/푸시 렌더링에서 사용자 조회와 URL 변환을 반복하지 않기 위해 쓴다.
+ * UserService 의 프로필 변경 시 invalidate 하며, 다른 인스턴스의 사본은 ttl 안에 갱신된다.
+ */
+@Component
+public class UserProfileSnapshotCache {
+
+    private final Cache<Long, UserProfileSnapshot> cache;
+    private final UserRepository userRepository;
+    private final S3ImageUrlResolver imageUrlResolver;
+
+    public UserProfileSnapshotCache(
+            UserRepository userRepository,
+            S3ImageUrlResolver imageUrlResolver,
+            @Value("${app.user-profile-cache.max-size:10000}") long maxSize,
+            @Value("${app.user-profile-cache.ttl:PT10M}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.imageUrlResolver = imageUrlResolver;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public UserProfileSnapshot get(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    /** 캐시에 없는 사용자만 한 번의 IN 조회로 채운다. 존재하지 않는 사용자는 결과에서 빠진다. */
+    public Map<Long, UserProfileSnapshot> getAll(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, UserProfileSnapshot> result = new HashMap<>(cache.getAllPresent(ids));
+        if (result.size() == ids.size()) {
+            return result;
+        }
+        Set<Long> missing = ids.stream()
+                .filter(id -> !result.containsKey(id))
+                .collect(Collectors.toSet());
+        for (User user : userRepository.findAllById(missing)) {
+            UserProfileSnapshot snapshot = toSnapshot(user);
+            cache.put(user.getId(), snapshot);
+            result.put(user.getId(), snapshot);
+        }
+        return result;
+    }
+
+    /** 진행 중인 트랜잭션이 있으면 커밋 후에 비워, 커밋 전 값이 다시 적재되지 않게 한다. */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private UserProfileSnapshot toSnapshot(User user) {
+        return new UserProfileSnapshot(
+                user.getId(),
+                user.getNickname(),
+                imageUrlResolver.resolve(user.getProfileImageKey())
+        );
+    }
+
+    public record UserProfileSnapshot(Long userId, String nickname, String profileImageUrl) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.planit.domain.user.security;
 
 import com.planit.domain.user.config.JwtProperties;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,6 +11,7 @@ import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -66,6 +68,24 @@ public class JwtProvider {
             .getSubject();
     }
 
+    /** 서명/만료 검증과 subject 추출을 한 번의 파싱으로 처리한다. 유효하지 않으면 empty. */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+            Instant expiresAt = claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
+            return Optional.of(new VerifiedToken(claims.getSubject(), expiresAt));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    public record VerifiedToken(String subject, Instant expiresAt) {
+    }
+
     private byte[] decodeSecret(String secret) {
         if (!StringUtils.hasText(secret)) {
             throw new IllegalStateException("JWT secret must be provided");
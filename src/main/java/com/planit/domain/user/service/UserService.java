@@ -1,6 +1,7 @@
 package com.planit.domain.user.service; // 사용자 도메인 비즈니스 로직을 담은 패키지입니다.
 
 import com.planit.domain.post.repository.PostRepository;
+import com.planit.domain.user.cache.UserProfileSnapshotCache;
 import com.planit.domain.user.dto.MyPageResponse;
 import com.planit.domain.user.dto.PlanPreview;
 import com.planit.domain.user.dto.SignUpRequest;
@@ -62,6 +63,7 @@ public class UserService {
     private final ObjectProvider<UploadUrlProvider> uploadUrlProvider;
     private final S3ImageUrlResolver imageUrlResolver;
     private final UserConstraintMetadata constraintMetadata;
+    private final UserProfileSnapshotCache userProfileSnapshotCache;
 
     public UserSignupResponse signup(SignUpRequest request) {
         validateLoginId(request.getLoginId());
@@ -197,6 +199,7 @@ public class UserService {
         user.setProfileImageKey(key);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userProfileSnapshotCache.invalidate(user.getId());
         // 기존 이미지 삭제
         UploadUrlProvider provider = uploadUrlProvider.getIfAvailable();
         if (provider != null && StringUtils.hasText(oldKey) && !oldKey.equals(key)) {
@@ -214,6 +217,7 @@ public class UserService {
         user.setProfileImageKey(null);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userProfileSnapshotCache.invalidate(user.getId());
         UploadUrlProvider provider = uploadUrlProvider.getIfAvailable();
         if (provider != null && StringUtils.hasText(oldKey)) {
             provider.deleteByKey(oldKey);
@@ -238,6 +242,7 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
         }
         user.setUpdatedAt(LocalDateTime.now());
+        userProfileSnapshotCache.invalidate(user.getId());
         return buildUserProfileResponse(user);
     }
 
@@ -298,6 +303,7 @@ public class UserService {
         User user = userRepository.findByLoginIdAndDeletedFalse(loginId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 사용자입니다."));
         userRepository.softDelete(user.getId(), LocalDateTime.now());
+        userProfileSnapshotCache.invalidate(user.getId());
     }
 
     private UserProfileResponse buildUserProfileResponse(User user) {
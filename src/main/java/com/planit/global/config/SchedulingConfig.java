@@ -0,0 +1,40 @@
+package com.planit.global.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * {@code @Scheduled} 작업 전용 스케줄러.
+ * 지정하지 않으면 STOMP broker 의 스케줄러나 단일 스레드 기본 스케줄러를 같이 쓰게 되어, 한 작업이 오래 걸리면
+ * 읽음/조회수 flush, presence 갱신, stream 정리 같은 다른 주기 작업이 함께 밀린다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    public SchedulingConfig(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+        this.taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(Math.max(1, poolSize));
+        taskScheduler.setThreadNamePrefix("scheduled-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        taskScheduler.setAwaitTerminationSeconds(10);
+        taskScheduler.initialize();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+}
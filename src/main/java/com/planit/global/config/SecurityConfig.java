@@ -8,11 +8,16 @@ import com.planit.global.security.PlanMineAuthenticationFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -21,7 +26,10 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -47,13 +55,17 @@ public class SecurityConfig {
     );
     private static final List<String> ALLOWED_METHODS = List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
     private static final List<String> ALLOWED_HEADERS = List.of("Authorization", "Content-Type");
+    private static final List<String> FORWARDED_HEADERS = List.of("Forwarded", "X-Forwarded-For", "X-Real-IP");
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final PlanMineAuthenticationFilter planMineAuthenticationFilter;
 
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${app.management.monitoring-networks:127.0.0.1/32,::1/128}") List<String> monitoringNetworks
+    ) throws Exception {
         // 로컬 테스트용: CSRF 비활성화 및 전체 요청 허용
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -70,6 +82,11 @@ public class SecurityConfig {
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/health").permitAll()
                         .requestMatchers("/ws/**").permitAll()
+                        // 내부 지표는 인증된 요청 중 모니터링 네트워크에서 직접 들어온 것만 허용한다.
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**")
+                        .access(AuthorizationManagers.allOf(
+                                AuthenticatedAuthorizationManager.authenticated(),
+                                fromNetworks(monitoringNetworks)))
                         .requestMatchers("/users/signup").permitAll()
                         .requestMatchers("/users/signup/profile-image/presigned-url").permitAll()
                         .requestMatchers("/users/signup/profile-image").permitAll()
@@ -118,6 +135,23 @@ public class SecurityConfig {
 
 
 
+    /**
+     * remoteAddr 가 허용 대역이고 프록시를 거치지 않은 요청만 통과시킨다.
+     * 같은 호스트의 리버스 프록시를 거친 외부 요청도 remoteAddr 는 loopback 이므로, 전달 헤더가 있으면 대역 밖으로 본다.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> fromNetworks(List<String> networks) {
+        List<IpAddressMatcher> matchers = networks.stream()
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(IpAddressMatcher::new)
+                .toList();
+        return (authentication, context) -> {
+            HttpServletRequest request = context.getRequest();
+            boolean proxied = FORWARDED_HEADERS.stream().anyMatch(header -> request.getHeader(header) != null);
+            return new AuthorizationDecision(!proxied && matchers.stream().anyMatch(matcher -> matcher.matches(request)));
+        };
+    }
+
     private void handleUnauthenticated(HttpServletRequest request,
                                        HttpServletResponse response,
                                        AuthenticationException exception) throws IOException {
@@ -0,0 +1,32 @@
+package com.planit.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP broker 구성.
+ * simple: JVM 내 simple broker (단일 인스턴스/로컬 기본값)
+ * redis: 로컬 simple broker + Redis pub/sub 로 모든 인스턴스에 /topic 메시지를 재발행
+ * relay: 외부 STOMP broker(RabbitMQ/ActiveMQ 등)로 relay
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.websocket.broker")
+public class WebSocketBrokerProperties {
+    private Mode mode = Mode.SIMPLE;
+    private String fanoutChannel = "ws:topic-fanout";
+    private String relayHost = "localhost";
+    private int relayPort = 61613;
+    private String relayLogin = "guest";
+    private String relayPasscode = "guest";
+    private String relayVirtualHost;
+
+    public enum Mode {
+        SIMPLE,
+        REDIS,
+        RELAY
+    }
+}
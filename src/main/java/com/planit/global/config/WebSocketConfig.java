@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -15,6 +16,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketJwtChannelInterceptor webSocketJwtChannelInterceptor;
+    private final WebSocketBrokerProperties brokerProperties;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -25,7 +27,24 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");
-        registry.enableSimpleBroker("/topic");
+        // /user/queue/** : 요청한 세션에만 보내는 응답(재연결 catch-up 등)
+        registry.setUserDestinationPrefix("/user");
+        if (brokerProperties.getMode() == WebSocketBrokerProperties.Mode.RELAY) {
+            // 외부 broker 가 모든 인스턴스의 구독을 관리하므로 어느 인스턴스에서 보내도 전체에 전달된다.
+            StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(brokerProperties.getRelayHost())
+                    .setRelayPort(brokerProperties.getRelayPort())
+                    .setClientLogin(brokerProperties.getRelayLogin())
+                    .setClientPasscode(brokerProperties.getRelayPasscode())
+                    .setSystemLogin(brokerProperties.getRelayLogin())
+                    .setSystemPasscode(brokerProperties.getRelayPasscode());
+            if (brokerProperties.getRelayVirtualHost() != null) {
+                relay.setVirtualHost(brokerProperties.getRelayVirtualHost());
+            }
+            return;
+        }
+        // simple, redis 모드: 로컬 세션은 simple broker 가 맡고 redis 모드의 인스턴스 간 전달은 TopicPublisher 가 맡는다.
+        registry.enableSimpleBroker("/topic", "/queue");
     }
 
     @Override
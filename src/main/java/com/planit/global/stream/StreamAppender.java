@@ -0,0 +1,41 @@
+package com.planit.global.stream;
+
+import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.domain.trip.config.RedisStreamProperties.Retention;
+import java.util.Map;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * stream XADD. RedisStreamProperties 의 stream 별 max-len 을 MAXLEN ~ 로 함께 걸어, consumer 가 멈춰도 길이가 무한히 늘지 않게 한다.
+ * 평소 정리는 ack 된 항목만 지우는 StreamRetentionCompactor 가 맡는다.
+ */
+@Component
+public class StreamAppender {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisStreamProperties streamProperties;
+
+    public StreamAppender(StringRedisTemplate redisTemplate, RedisStreamProperties streamProperties) {
+        this.redisTemplate = redisTemplate;
+        this.streamProperties = streamProperties;
+    }
+
+    public RecordId add(String streamKey, Map<String, String> fields) {
+        MapRecord<String, String, String> record = MapRecord.create(streamKey, fields);
+        Retention retention = streamProperties.retentionOf(streamKey);
+        if (retention == null || retention.getMaxLen() <= 0) {
+            return redisTemplate.opsForStream().add(record);
+        }
+        ByteRecord bytes = record.serialize(RedisSerializer.string(), RedisSerializer.string(), RedisSerializer.string());
+        XAddOptions options = XAddOptions.maxlen(retention.getMaxLen()).approximateTrimming(true);
+        return redisTemplate.execute((RedisCallback<RecordId>) connection ->
+                connection.streamCommands().xAdd(bytes, options));
+    }
+}
@@ -0,0 +1,14 @@
+package com.planit.global.stream;
+
+import java.util.Collection;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+/**
+ * 전달받았지만 아직 ack/실패 처리를 끝내지 않은(대기열이나 동시 처리 한도 뒤에서 기다리는 것 포함) 레코드 id 를 알려주는 listener.
+ * {@link StreamPendingReclaimer} 는 이 id 들의 idle 시간을 주기마다 초기화해, 이 인스턴스가 들고 있는 레코드를
+ * 다른 인스턴스가 min-idle 이 지났다고 가져가 중복 처리하지 않게 한다.
+ */
+public interface StreamInFlightRecords {
+
+    Collection<RecordId> inFlightIds();
+}
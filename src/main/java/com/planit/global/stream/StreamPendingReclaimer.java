@@ -0,0 +1,272 @@
+package com.planit.global.stream;
+
+import com.planit.domain.trip.config.RedisStreamProperties;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * consumer group 의 pending 항목(PEL) 정리.
+ * XREADGROUP 후 XACK 전에 pod 가 죽으면 항목이 pending 으로 남으므로, 주기적으로 XPENDING 으로 오래된 항목을 찾아
+ * 이 인스턴스의 consumer 로 XCLAIM 해 원래 listener 에 다시 넘긴다. 전달 횟수가 max-deliveries 에 닿은 항목은
+ * dead-letter stream 에 옮기고 ack 한다. pending 이 없고 오래 활동이 없는 consumer(재시작 전 이름)는 group 에서 지운다.
+ * XCLAIM 은 min-idle 조건으로 원자적으로 소유권을 옮기므로 여러 인스턴스가 동시에 돌아도 한 곳만 가져간다.
+ * 가져온 레코드는 스케줄러 스레드가 아닌 별도 executor 에서 listener 에 넘긴다. listener 의 동시 처리 한도(semaphore)에
+ * 막혀 기다리더라도 다른 @Scheduled 작업이 밀리지 않게 하기 위해서다.
+ * 이 인스턴스가 아직 처리 중이거나 한도 뒤에서 기다리는 레코드는 주기마다 XCLAIM JUSTID 로 idle 시간을 초기화해,
+ * 대기 시간이 min-idle 을 넘어도 다른 인스턴스가 가져가 중복 처리하지 않게 한다.
+ */
+@Component
+public class StreamPendingReclaimer {
+    private static final Logger log = LoggerFactory.getLogger(StreamPendingReclaimer.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisStreamProperties streamProperties;
+    private final StreamAppender streamAppender;
+    private final Executor redeliveryExecutor;
+    private final List<Target> targets = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public StreamPendingReclaimer(
+            StringRedisTemplate redisTemplate,
+            RedisStreamProperties streamProperties,
+            StreamAppender streamAppender
+    ) {
+        this(redisTemplate, streamProperties, streamAppender,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stream-reclaim-", 0).factory()));
+    }
+
+    StreamPendingReclaimer(
+            StringRedisTemplate redisTemplate,
+            RedisStreamProperties streamProperties,
+            StreamAppender streamAppender,
+            Executor redeliveryExecutor
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.streamProperties = streamProperties;
+        this.streamAppender = streamAppender;
+        this.redeliveryExecutor = redeliveryExecutor;
+    }
+
+    /** 구독을 만든 쪽에서 stream/group/이 인스턴스 consumer 이름과 재처리할 listener 를 등록한다. */
+    public void register(
+            String streamKey,
+            String group,
+            String consumerName,
+            String deadLetterKey,
+            StreamListener<String, MapRecord<String, String, String>> listener
+    ) {
+        targets.add(new Target(streamKey, group, consumerName, deadLetterKey, listener));
+        log.info("[STREAM_RECLAIM] register stream={}, group={}, consumer={}, deadLetter={}",
+                streamKey, group, consumerName, deadLetterKey);
+    }
+
+    @Scheduled(fixedDelayString = "${app.redis.stream.reclaim-interval-ms:30000}",
+            initialDelayString = "${app.redis.stream.reclaim-interval-ms:30000}")
+    public void reclaim() {
+        if (!streamProperties.isReclaimEnabled()) {
+            return;
+        }
+        for (Target target : targets) {
+            try {
+                reclaim(target);
+                removeStaleConsumers(target);
+            } catch (Exception ex) {
+                log.warn("[STREAM_RECLAIM] failed stream={}, group={}: {}", target.streamKey(), target.group(), ex.toString());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (redeliveryExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    void reclaim(Target target) {
+        Set<RecordId> held = touchInFlight(target);
+        Duration minIdle = streamProperties.getReclaimMinIdle();
+        PendingMessages pending = redisTemplate.opsForStream().pending(
+                target.streamKey(), target.group(), Range.unbounded(), streamProperties.getReclaimBatchSize());
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        List<RecordId> retryIds = new ArrayList<>();
+        Map<RecordId, Long> exhausted = new HashMap<>();
+        for (PendingMessage message : pending) {
+            if (held.contains(message.getId())
+                    || message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (message.getTotalDeliveryCount() >= streamProperties.getReclaimMaxDeliveries()) {
+                exhausted.put(message.getId(), message.getTotalDeliveryCount());
+            } else {
+                retryIds.add(message.getId());
+            }
+        }
+
+        if (!exhausted.isEmpty()) {
+            for (MapRecord<String, String, String> record : claim(target, List.copyOf(exhausted.keySet()))) {
+                deadLetter(target, record, exhausted.get(record.getId()));
+            }
+        }
+        if (!retryIds.isEmpty()) {
+            for (MapRecord<String, String, String> record : claim(target, retryIds)) {
+                log.info("[STREAM_RECLAIM] retry stream={}, id={}", target.streamKey(), record.getId());
+                redeliver(target, record);
+            }
+        }
+    }
+
+    /**
+     * 이 인스턴스가 들고 있는 레코드(재전달을 넘겼지만 listener 가 아직 받지 않은 것 + listener 가 처리 중인 것)의 idle 시간을
+     * min-idle 0 의 XCLAIM JUSTID 로 초기화한다. JUSTID 는 전달 횟수를 올리지 않는다. 이미 ack 된 id 는 Redis 가 무시한다.
+     */
+    Set<RecordId> touchInFlight(Target target) {
+        Set<RecordId> held = new HashSet<>(target.handedOff());
+        if (target.listener() instanceof StreamInFlightRecords inFlight) {
+            held.addAll(inFlight.inFlightIds());
+        }
+        if (held.isEmpty()) {
+            return held;
+        }
+        XClaimOptions options = XClaimOptions.minIdle(Duration.ZERO).ids(held.toArray(RecordId[]::new));
+        byte[] key = target.streamKey().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<List<RecordId>>) connection ->
+                connection.streamCommands().xClaimJustId(key, target.group(), target.consumerName(), options));
+        return held;
+    }
+
+    /** listener 가 처리 후 직접 ack 한다. 실패하면 pending 으로 남아 다음 주기에 전달 횟수가 올라간다. */
+    private void redeliver(Target target, MapRecord<String, String, String> record) {
+        target.handedOff().add(record.getId());
+        try {
+            redeliveryExecutor.execute(() -> {
+                try {
+                    target.listener().onMessage(record);
+                } catch (Exception ex) {
+                    log.warn("[STREAM_RECLAIM] redelivery failed stream={}, id={}: {}", target.streamKey(), record.getId(), ex.toString());
+                } finally {
+                    target.handedOff().remove(record.getId());
+                }
+            });
+        } catch (RuntimeException ex) {
+            // 종료 중이라 거절되면 pending 으로 남겨 다른 인스턴스가 가져가게 한다.
+            target.handedOff().remove(record.getId());
+            log.warn("[STREAM_RECLAIM] redelivery rejected stream={}, id={}: {}", target.streamKey(), record.getId(), ex.toString());
+        }
+    }
+
+    /**
+     * min-idle 조건으로 이 인스턴스 consumer 에 가져온다. 다른 인스턴스가 먼저 가져간 항목은 빠진다.
+     * stream 에서 이미 지워진(trim) 항목은 내용이 없으므로 ack 해서 PEL 에서 치운다.
+     */
+    private List<MapRecord<String, String, String>> claim(Target target, List<RecordId> ids) {
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                target.streamKey(),
+                target.group(),
+                target.consumerName(),
+                streamProperties.getReclaimMinIdle(),
+                ids.toArray(RecordId[]::new));
+        List<MapRecord<String, String, String>> records = new ArrayList<>();
+        List<RecordId> deleted = new ArrayList<>();
+        if (claimed != null) {
+            for (MapRecord<String, Object, Object> record : claimed) {
+                if (record.getValue() == null || record.getValue().isEmpty()) {
+                    deleted.add(record.getId());
+                    continue;
+                }
+                Map<String, String> fields = new HashMap<>();
+                record.getValue().forEach((key, value) -> fields.put(String.valueOf(key), value == null ? null : String.valueOf(value)));
+                records.add(MapRecord.create(target.streamKey(), fields).withId(record.getId()));
+            }
+        }
+        if (!deleted.isEmpty()) {
+            redisTemplate.opsForStream().acknowledge(target.streamKey(), target.group(), deleted.toArray(RecordId[]::new));
+            log.warn("[STREAM_RECLAIM] acked deleted entries stream={}, ids={}", target.streamKey(), deleted);
+        }
+        return records;
+    }
+
+    private void deadLetter(Target target, MapRecord<String, String, String> record, Long deliveryCount) {
+        Map<String, String> fields = new HashMap<>(record.getValue());
+        fields.remove("userJwt");
+        fields.put("sourceStream", target.streamKey());
+        fields.put("sourceId", record.getId().getValue());
+        fields.put("deliveryCount", String.valueOf(deliveryCount));
+        fields.put("errorMessage", "MAX_DELIVERIES_EXCEEDED");
+        fields.put("failedAt", Instant.now().toString());
+        RecordId id = streamAppender.add(target.deadLetterKey(), fields);
+        redisTemplate.opsForStream().acknowledge(target.streamKey(), target.group(), record.getId());
+        log.warn("[STREAM_RECLAIM] dead-letter stream={}, sourceId={}, deliveries={}, recordId={}",
+                target.streamKey(), record.getId(), deliveryCount, id == null ? "null" : id.getValue());
+    }
+
+    void removeStaleConsumers(Target target) {
+        StreamInfo.XInfoConsumers consumers = redisTemplate.opsForStream().consumers(target.streamKey(), target.group());
+        if (consumers == null) {
+            return;
+        }
+        long staleMs = streamProperties.getStaleConsumerIdle().toMillis();
+        consumers.forEach(consumer -> {
+            if (consumer.consumerName().equals(target.consumerName())
+                    || consumer.pendingCount() > 0
+                    || consumer.idleTimeMs() < staleMs) {
+                return;
+            }
+            redisTemplate.opsForStream().deleteConsumer(target.streamKey(), Consumer.from(target.group(), consumer.consumerName()));
+            log.info("[STREAM_RECLAIM] removed stale consumer stream={}, group={}, consumer={}, idleMs={}",
+                    target.streamKey(), target.group(), consumer.consumerName(), consumer.idleTimeMs());
+        });
+    }
+
+    record Target(
+            String streamKey,
+            String group,
+            String consumerName,
+            String deadLetterKey,
+            StreamListener<String, MapRecord<String, String, String>> listener,
+            Set<RecordId> handedOff
+    ) {
+
+        Target(
+                String streamKey,
+                String group,
+                String consumerName,
+                String deadLetterKey,
+                StreamListener<String, MapRecord<String, String, String>> listener
+        ) {
+            this(streamKey, group, consumerName, deadLetterKey, listener, ConcurrentHashMap.newKeySet());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.planit.global.stream;
+
+import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.domain.trip.config.RedisStreamProperties.Retention;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업/결과 stream 정리.
+ * group 마다 "여기보다 앞은 모두 ack 됨" 위치(pending 이 있으면 가장 오래된 pending id, 없으면 last-delivered-id)를 구해
+ * 그중 가장 앞선 위치와 min-age 기준 시각 중 더 앞선 곳을 XTRIM MINID ~ 로 잘라낸다.
+ * 그래서 어느 group 이든 아직 처리하지 않은 항목은 지우지 않고, 지속적으로 여행이 생성돼도 stream 길이가 처리 속도에 맞춰 유지된다.
+ * group 이 하나도 없는 stream 은 누가 읽을지 알 수 없으므로 건드리지 않는다(XADD 의 MAXLEN 상한만 적용).
+ */
+@Component
+public class StreamRetentionCompactor {
+    private static final Logger log = LoggerFactory.getLogger(StreamRetentionCompactor.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisStreamProperties streamProperties;
+
+    public StreamRetentionCompactor(StringRedisTemplate redisTemplate, RedisStreamProperties streamProperties) {
+        this.redisTemplate = redisTemplate;
+        this.streamProperties = streamProperties;
+    }
+
+    @Scheduled(fixedDelayString = "${app.redis.stream.compact-interval-ms:60000}",
+            initialDelayString = "${app.redis.stream.compact-interval-ms:60000}")
+    public void compact() {
+        if (!streamProperties.isCompactEnabled()) {
+            return;
+        }
+        List<String> streamKeys = List.of(
+                streamProperties.getAiJobsKey(),
+                streamProperties.getAiResultsKey(),
+                streamProperties.getChatJobsKey(),
+                streamProperties.getChatResultsKey()
+        );
+        for (String streamKey : streamKeys) {
+            try {
+                compact(streamKey);
+            } catch (Exception ex) {
+                log.warn("[STREAM_COMPACT] failed stream={}: {}", streamKey, ex.toString());
+            }
+        }
+    }
+
+    long compact(String streamKey) {
+        RecordId cutoff = trimCutoff(streamKey);
+        if (cutoff == null) {
+            return 0L;
+        }
+        byte[][] args = {
+                streamKey.getBytes(StandardCharsets.UTF_8),
+                "MINID".getBytes(StandardCharsets.UTF_8),
+                "~".getBytes(StandardCharsets.UTF_8),
+                cutoff.getValue().getBytes(StandardCharsets.UTF_8)
+        };
+        Object result = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("XTRIM", args));
+        long trimmed = result instanceof Number number ? number.longValue() : 0L;
+        if (trimmed > 0) {
+            log.info("[STREAM_COMPACT] trimmed stream={}, minId={}, entries={}", streamKey, cutoff.getValue(), trimmed);
+        }
+        return trimmed;
+    }
+
+    /** 지워도 되는 경계(MINID). 이 id 보다 작은 항목은 모든 group 이 ack 했고 min-age 보다 오래됐다. */
+    RecordId trimCutoff(String streamKey) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+            return null;
+        }
+        StreamInfo.XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+        if (groups == null || groups.isEmpty()) {
+            return null;
+        }
+        RecordId cutoff = null;
+        for (StreamInfo.XInfoGroup group : groups.stream().toList()) {
+            RecordId acked = ackedUpTo(streamKey, group);
+            cutoff = cutoff == null || compare(acked, cutoff) < 0 ? acked : cutoff;
+        }
+        Retention retention = streamProperties.retentionOf(streamKey);
+        if (retention != null && retention.getMinAge() != null) {
+            RecordId ageBound = RecordId.of(System.currentTimeMillis() - retention.getMinAge().toMillis(), 0L);
+            cutoff = compare(ageBound, cutoff) < 0 ? ageBound : cutoff;
+        }
+        return cutoff.getTimestamp() > 0 ? cutoff : null;
+    }
+
+    private RecordId ackedUpTo(String streamKey, StreamInfo.XInfoGroup group) {
+        if (group.pendingCount() > 0) {
+            PendingMessagesSummary summary = redisTemplate.opsForStream().pending(streamKey, group.groupName());
+            if (summary != null && summary.minMessageId() != null) {
+                return RecordId.of(summary.minMessageId());
+            }
+        }
+        // pending 이 없으면 last-delivered-id 까지는 모두 ack 됐다. MINID 는 경계 id 자체를 남기므로 그대로 쓴다.
+        return RecordId.of(group.lastDeliveredId());
+    }
+
+    private static int compare(RecordId left, RecordId right) {
+        int byTimestamp = Long.compare(left.getTimestamp(), right.getTimestamp());
+        return byTimestamp != 0 ? byTimestamp : Long.compare(left.getSequence(), right.getSequence());
+    }
+}
@@ -0,0 +1,53 @@
+package com.planit.global.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planit.global.config.WebSocketBrokerProperties;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * redis 모드 전용. fanout 채널을 구독해 받은 /topic 메시지를 이 인스턴스의 simple broker 로 다시 보낸다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.websocket.broker", name = "mode", havingValue = "redis")
+public class RedisTopicFanoutConfig {
+    private static final Logger log = LoggerFactory.getLogger(RedisTopicFanoutConfig.class);
+
+    @Bean
+    public RedisMessageListenerContainer topicFanoutListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            WebSocketBrokerProperties brokerProperties,
+            SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper
+    ) {
+        MessageListener listener = (message, pattern) -> {
+            try {
+                JsonNode envelope = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+                String destination = envelope.path(TopicPublisher.DESTINATION_FIELD).asText(null);
+                if (destination == null || !destination.startsWith("/topic/")) {
+                    log.warn("[WS_FANOUT] invalid destination: {}", destination);
+                    return;
+                }
+                messagingTemplate.convertAndSend(destination, envelope.path(TopicPublisher.PAYLOAD_FIELD));
+            } catch (Exception ex) {
+                log.warn("[WS_FANOUT] relay failed: {}", ex.getMessage());
+            }
+        };
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(listener, new ChannelTopic(brokerProperties.getFanoutChannel()));
+        log.info("[WS_FANOUT] subscribe channel={}", brokerProperties.getFanoutChannel());
+        return container;
+    }
+}
@@ -0,0 +1,59 @@
+package com.planit.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.planit.global.config.WebSocketBrokerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * /topic 발행 진입점. 서버 코드에서 구독자에게 보내는 메시지는 SimpMessagingTemplate 대신 여기로 보낸다.
+ * redis 모드면 Redis 채널로 발행하고 각 인스턴스의 RedisTopicFanoutConfig 가 자기 로컬 세션에 전달한다(발행한 인스턴스 포함).
+ * simple/relay 모드는 broker 가 이미 전체 구독자를 책임지므로 바로 보낸다.
+ */
+@Component
+public class TopicPublisher {
+    private static final Logger log = LoggerFactory.getLogger(TopicPublisher.class);
+
+    static final String DESTINATION_FIELD = "destination";
+    static final String PAYLOAD_FIELD = "payload";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+    private final WebSocketBrokerProperties brokerProperties;
+
+    public TopicPublisher(
+            SimpMessagingTemplate messagingTemplate,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectMapper objectMapper,
+            WebSocketBrokerProperties brokerProperties
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.objectMapper = objectMapper;
+        this.brokerProperties = brokerProperties;
+    }
+
+    public void publish(String destination, Object payload) {
+        if (brokerProperties.getMode() != WebSocketBrokerProperties.Mode.REDIS) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+        try {
+            ObjectNode envelope = objectMapper.createObjectNode();
+            envelope.put(DESTINATION_FIELD, destination);
+            envelope.set(PAYLOAD_FIELD, objectMapper.valueToTree(payload));
+            redisTemplateProvider.getObject()
+                    .convertAndSend(brokerProperties.getFanoutChannel(), objectMapper.writeValueAsString(envelope));
+        } catch (Exception ex) {
+            // Redis 장애 시 최소한 같은 인스턴스 구독자에게는 전달한다.
+            log.warn("[WS_FANOUT] publish failed, local delivery only destination={}: {}", destination, ex.getMessage());
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- 게시글 검색용 FULLTEXT 인덱스 (한글 검색을 위해 ngram parser 사용, ngram_token_size 기본값 2)
+-- LIKE '%keyword%' 전체 스캔 대신 MATCH ... AGAINST 로 제목/본문/추천 장소명을 검색합니다.
+ALTER TABLE posts
+  ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram;
+
+ALTER TABLE places
+  ADD FULLTEXT INDEX ft_places_name (name) WITH PARSER ngram;
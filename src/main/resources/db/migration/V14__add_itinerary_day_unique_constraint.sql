@@ -0,0 +1,15 @@
+-- 일정 결과가 재전달되면 같은 (trip_id, day_index) 가 두 번 저장될 수 있었다.
+-- 먼저 저장된 일자만 남기고 나중 중복 일자와 그 장소/이동을 지운 뒤 유니크 제약을 건다.
+DELETE p FROM itinerary_item_places p
+  JOIN itinerary_days d ON d.id = p.itinerary_day_id
+  JOIN itinerary_days keep ON keep.trip_id = d.trip_id AND keep.day_index = d.day_index AND keep.id < d.id;
+
+DELETE t FROM itinerary_item_transports t
+  JOIN itinerary_days d ON d.id = t.itinerary_day_id
+  JOIN itinerary_days keep ON keep.trip_id = d.trip_id AND keep.day_index = d.day_index AND keep.id < d.id;
+
+DELETE d FROM itinerary_days d
+  JOIN itinerary_days keep ON keep.trip_id = d.trip_id AND keep.day_index = d.day_index AND keep.id < d.id;
+
+ALTER TABLE itinerary_days
+  ADD CONSTRAINT uk_itinerary_days_trip_day UNIQUE (trip_id, day_index);
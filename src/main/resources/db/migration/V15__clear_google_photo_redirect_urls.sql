@@ -0,0 +1,11 @@
+-- 장소 사진은 Google Places photo media 의 redirect URL 이라 시간이 지나면 만료된다.
+-- 이미 저장된 값은 더 이상 쓰지 않고 비워서, 목록 조회 시 다시 해석하도록 한다.
+UPDATE places
+   SET photo_url = NULL
+ WHERE photo_url LIKE 'https://%.googleusercontent.com/%'
+    OR photo_url LIKE 'https://places.googleapis.com/%';
+
+UPDATE post_summary
+   SET place_image_url = NULL
+ WHERE place_image_url LIKE 'https://%.googleusercontent.com/%'
+    OR place_image_url LIKE 'https://places.googleapis.com/%';
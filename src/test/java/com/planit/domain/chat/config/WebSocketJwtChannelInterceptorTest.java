@@ -2,13 +2,22 @@ package com.planit.domain.chat.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.planit.domain.trip.service.TripAccessService;
 import com.planit.domain.user.entity.User;
 import com.planit.domain.user.repository.UserRepository;
 import com.planit.domain.user.security.JwtProvider;
+import com.planit.domain.user.security.JwtProvider.VerifiedToken;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -22,11 +31,15 @@ import org.springframework.security.access.AccessDeniedException;
 
 class WebSocketJwtChannelInterceptorTest {
 
+    private static final String TOKEN = "valid-token";
+
     @Mock
     private JwtProvider jwtProvider;
     @Mock
     private UserRepository userRepository;
     @Mock
+    private TripAccessService tripAccessService;
+    @Mock
     private MessageChannel channel;
 
     private WebSocketJwtChannelInterceptor interceptor;
@@ -34,7 +47,16 @@ class WebSocketJwtChannelInterceptorTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        interceptor = new WebSocketJwtChannelInterceptor(jwtProvider, userRepository);
+        StompAuthorizationCache authorizationCache = new StompAuthorizationCache(
+                jwtProvider,
+                userRepository,
+                tripAccessService,
+                Duration.ofMinutes(5),
+                100,
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(1)
+        );
+        interceptor = new WebSocketJwtChannelInterceptor(authorizationCache);
     }
 
     @Test
@@ -48,15 +70,47 @@ class WebSocketJwtChannelInterceptorTest {
 
     @Test
     void connectWithValidToken_setsPrincipal() {
-        String token = "valid-token";
+        stubValidUser();
 
-        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
-        accessor.setNativeHeader("Authorization", "Bearer " + token);
-        accessor.setLeaveMutable(true);
-        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        Message<?> result = interceptor.preSend(connectMessage(new HashMap<>()), channel);
+        StompHeaderAccessor resultAccessor = StompHeaderAccessor.wrap(result);
+
+        assertThat(resultAccessor.getUser()).isNotNull();
+        assertThat(resultAccessor.getUser().getName()).isEqualTo("user1");
+    }
+
+    @Test
+    void reconnectWithSameToken_skipsTokenParsingAndUserLookup() {
+        stubValidUser();
+
+        interceptor.preSend(connectMessage(new HashMap<>()), channel);
+        interceptor.preSend(connectMessage(new HashMap<>()), channel);
+
+        verify(jwtProvider, times(1)).verify(TOKEN);
+        verify(userRepository, times(1)).findByLoginIdAndDeletedFalse("user1");
+    }
 
-        when(jwtProvider.validateToken(token)).thenReturn(true);
-        when(jwtProvider.getSubject(token)).thenReturn("user1");
+    @Test
+    void subscribeToReadableTrip_isAllowed_andOtherTrip_isDenied() {
+        stubValidUser();
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        Message<?> connected = interceptor.preSend(connectMessage(sessionAttributes), channel);
+        StompHeaderAccessor connectedAccessor = StompHeaderAccessor.wrap(connected);
+
+        Message<byte[]> allowed = subscribeMessage("/topic/trips/10/chat", connectedAccessor, sessionAttributes);
+        assertThat(interceptor.preSend(allowed, channel)).isSameAs(allowed);
+
+        Message<byte[]> denied = subscribeMessage("/topic/trips/20/chat", connectedAccessor, sessionAttributes);
+        assertThatThrownBy(() -> interceptor.preSend(denied, channel))
+                .isInstanceOf(AccessDeniedException.class);
+
+        Message<byte[]> userQueue = subscribeMessage("/user/queue/chat.resume", connectedAccessor, sessionAttributes);
+        assertThat(interceptor.preSend(userQueue, channel)).isSameAs(userQueue);
+    }
+
+    private void stubValidUser() {
+        when(jwtProvider.verify(TOKEN)).thenReturn(Optional.of(
+                new VerifiedToken("user1", Instant.now().plus(Duration.ofHours(1)))));
         when(userRepository.findByLoginIdAndDeletedFalse("user1")).thenReturn(Optional.of(User.builder()
                 .id(1L)
                 .loginId("user1")
@@ -66,11 +120,27 @@ class WebSocketJwtChannelInterceptorTest {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build()));
+        when(tripAccessService.getReadableTripIds(1L)).thenReturn(Set.of(10L));
+    }
 
-        Message<?> result = interceptor.preSend(message, channel);
-        StompHeaderAccessor resultAccessor = StompHeaderAccessor.wrap(result);
+    private Message<byte[]> connectMessage(Map<String, Object> sessionAttributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer " + TOKEN);
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
 
-        assertThat(resultAccessor.getUser()).isNotNull();
-        assertThat(resultAccessor.getUser().getName()).isEqualTo("user1");
+    private Message<byte[]> subscribeMessage(
+            String destination,
+            StompHeaderAccessor connected,
+            Map<String, Object> sessionAttributes
+    ) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(connected.getUser());
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
     }
 }
@@ -0,0 +1,60 @@
+package com.planit.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.chat.config.ChatAiJobProperties;
+import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.global.stream.StreamAppender;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class ChatAiJobStreamServiceTest {
+
+    private StreamAppender streamAppender;
+    private ValueOperations<String, String> valueOperations;
+    private ChatAiJobStreamService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        streamAppender = mock(StreamAppender.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        service = new ChatAiJobStreamService(streamAppender, new RedisStreamProperties(), redisTemplate, new ChatAiJobProperties());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueueJob_keepsUserTokenOutOfStream() {
+        service.enqueueJob(1L, 10L, "request-1", "내일 일정 추천해줘", "jwt-token");
+
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(streamAppender).add(eq("stream:chat-jobs"), fields.capture());
+        assertThat(fields.getValue())
+                .containsEntry("requestMessageId", "request-1")
+                .doesNotContainKey("userJwt")
+                .doesNotContainValue("jwt-token");
+        verify(valueOperations).set("chat:ai-token:request-1", "jwt-token", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void enqueueJob_withoutToken_storesNothingExtra() {
+        service.enqueueJob(1L, 10L, "request-1", "질문", null);
+
+        verify(streamAppender).add(eq("stream:chat-jobs"), anyMap());
+        verify(valueOperations, never()).set(anyString(), anyString(), eq(Duration.ofMinutes(5)));
+    }
+}
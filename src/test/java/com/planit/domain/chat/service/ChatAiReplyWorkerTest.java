@@ -0,0 +1,177 @@
+package com.planit.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.ai.client.AiApiClient;
+import com.planit.ai.dto.AiRequest;
+import com.planit.domain.chat.config.ChatAiJobProperties;
+import com.planit.domain.chat.document.ChatMessageDocument;
+import com.planit.domain.chat.dto.ChatMessageDeltaResponse;
+import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.global.websocket.TopicPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class ChatAiReplyWorkerTest {
+
+    private static final String JOBS = "stream:chat-jobs";
+
+    private AiApiClient aiApiClient;
+    private ChatService chatService;
+    private ChatAiJobStreamService jobStreamService;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private TopicPublisher topicPublisher;
+    private ChatAiJobProperties jobProperties;
+    private ChatAiReplyWorker worker;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        aiApiClient = mock(AiApiClient.class);
+        chatService = mock(ChatService.class);
+        jobStreamService = mock(ChatAiJobStreamService.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        topicPublisher = mock(TopicPublisher.class);
+        jobProperties = new ChatAiJobProperties();
+
+        worker = new ChatAiReplyWorker(
+                aiApiClient,
+                chatService,
+                jobStreamService,
+                redisTemplate,
+                new RedisStreamProperties(),
+                jobProperties,
+                topicPublisher,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void replyId_isDerivedFromRequestMessage() {
+        String first = ChatAiReplyWorker.replyId(job("1-0", "665f1c2e9b1e8a3d4c5b6a70"));
+        String redelivered = ChatAiReplyWorker.replyId(job("9-0", "665f1c2e9b1e8a3d4c5b6a70"));
+        String other = ChatAiReplyWorker.replyId(job("1-0", "665f1c2e9b1e8a3d4c5b6a71"));
+
+        assertThat(first).matches("[0-9a-f]{24}").isEqualTo(redelivered).isNotEqualTo(other);
+    }
+
+    @Test
+    void newJob_savesReplyUnderDerivedId_andAcks() {
+        MapRecord<String, String, String> job = job("1-0", "request-1");
+        String replyId = ChatAiReplyWorker.replyId(job);
+        ChatMessageDocument saved = reply(replyId, "추천 일정이에요");
+        when(chatService.findAiReply(replyId)).thenReturn(Optional.empty());
+        when(jobStreamService.findUserJwt("request-1")).thenReturn("jwt-token");
+        when(aiApiClient.requestAiReply(any(), any(), anyInt(), any())).thenReturn(Mono.just("추천 일정이에요"));
+        when(chatService.saveAiReply(7L, replyId, "추천 일정이에요")).thenReturn(saved);
+
+        worker.onMessage(job);
+
+        ArgumentCaptor<AiRequest> request = ArgumentCaptor.forClass(AiRequest.class);
+        verify(aiApiClient).requestAiReply(request.capture(), any(), anyInt(), any());
+        assertThat(request.getValue().getUserJWT()).isEqualTo("jwt-token");
+        verify(jobStreamService).publishResult(saved);
+        verify(streamOperations).acknowledge(JOBS, "chat-ai-workers", job.getId());
+        verify(jobStreamService).discardUserJwt("request-1");
+    }
+
+    @Test
+    void redeliveredJob_withSavedReply_republishesWithoutCallingAi() {
+        MapRecord<String, String, String> job = job("1-0", "request-1");
+        String replyId = ChatAiReplyWorker.replyId(job);
+        ChatMessageDocument saved = reply(replyId, "추천 일정이에요");
+        when(chatService.findAiReply(replyId)).thenReturn(Optional.of(saved));
+
+        worker.onMessage(job);
+
+        verify(aiApiClient, never()).requestAiReply(any(), any(), anyInt(), any());
+        verify(chatService, never()).saveAiReply(any(), any(), any());
+        verify(jobStreamService).publishResult(saved);
+        verify(streamOperations).acknowledge(JOBS, "chat-ai-workers", job.getId());
+    }
+
+    @Test
+    void streamingJob_sendsDeltasAndSavesReplyUnderDerivedId() {
+        jobProperties.setStreamingEnabled(true);
+        MapRecord<String, String, String> job = job("1-0", "request-1");
+        String replyId = ChatAiReplyWorker.replyId(job);
+        ChatMessageDocument saved = reply(replyId, "추천 일정");
+        when(chatService.findAiReply(replyId)).thenReturn(Optional.empty());
+        when(aiApiClient.streamAiReply(any(), any(), anyInt(), any())).thenReturn(Flux.just("추천 ", "일정"));
+        when(chatService.saveAiReply(7L, replyId, "추천 일정")).thenReturn(saved);
+
+        worker.onMessage(job);
+
+        ArgumentCaptor<ChatMessageDeltaResponse> deltas = ArgumentCaptor.forClass(ChatMessageDeltaResponse.class);
+        verify(topicPublisher, times(2)).publish(eq("/topic/trips/7/chat"), deltas.capture());
+        assertThat(deltas.getAllValues()).extracting(ChatMessageDeltaResponse::messageId).containsOnly(replyId);
+        verify(jobStreamService).publishResult(saved);
+    }
+
+    @Test
+    void jobBeingProcessed_isReportedInFlight_untilReplyArrives() {
+        MapRecord<String, String, String> job = job("1-0", "request-1");
+        String replyId = ChatAiReplyWorker.replyId(job);
+        Sinks.One<String> pendingReply = Sinks.one();
+        when(chatService.findAiReply(replyId)).thenReturn(Optional.empty());
+        when(aiApiClient.requestAiReply(any(), any(), anyInt(), any())).thenReturn(pendingReply.asMono());
+        when(chatService.saveAiReply(7L, replyId, "답변")).thenReturn(reply(replyId, "답변"));
+
+        worker.onMessage(job);
+        assertThat(worker.inFlightIds()).containsExactly(job.getId());
+
+        pendingReply.tryEmitValue("답변");
+        assertThat(worker.inFlightIds()).isEmpty();
+        verify(streamOperations).acknowledge(JOBS, "chat-ai-workers", job.getId());
+    }
+
+    @Test
+    void publishFailure_leavesJobPending() {
+        MapRecord<String, String, String> job = job("1-0", "request-1");
+        String replyId = ChatAiReplyWorker.replyId(job);
+        ChatMessageDocument saved = reply(replyId, "답변");
+        when(chatService.findAiReply(replyId)).thenReturn(Optional.empty());
+        when(aiApiClient.requestAiReply(any(), any(), anyInt(), any())).thenReturn(Mono.just("답변"));
+        when(chatService.saveAiReply(7L, replyId, "답변")).thenReturn(saved);
+        when(jobStreamService.publishResult(saved)).thenThrow(new IllegalStateException("redis down"));
+
+        worker.onMessage(job);
+
+        verify(streamOperations, never()).acknowledge(any(String.class), any(String.class), any(RecordId[].class));
+    }
+
+    private static MapRecord<String, String, String> job(String recordId, String requestMessageId) {
+        return MapRecord.<String, String, String>create(JOBS, Map.of(
+                "tripId", "7",
+                "requestedBy", "10",
+                "requestMessageId", requestMessageId,
+                "question", "내일 일정 추천해줘"
+        )).withId(RecordId.of(recordId));
+    }
+
+    private static ChatMessageDocument reply(String id, String content) {
+        return new ChatMessageDocument(id, 7L, null, "AI", null, "BOT", content, Instant.now(), 3L);
+    }
+}
@@ -0,0 +1,195 @@
+package com.planit.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.chat.config.WebSocketJwtChannelInterceptor;
+import com.planit.domain.chat.dto.ChatPresenceResponse;
+import com.planit.domain.user.cache.UserProfileSnapshotCache;
+import com.planit.global.websocket.TopicPublisher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+class ChatPresenceServiceTest {
+
+    private static final Long TRIP_ID = 1L;
+    private static final String PRESENCE_KEY = "chat:presence:1";
+
+    /** 두 인스턴스가 공유하는 Redis ZSET 대역 (key -> member -> score) */
+    private final Map<String, Map<String, Double>> zsets = new ConcurrentHashMap<>();
+    private final List<ChatPresenceResponse> frames = new ArrayList<>();
+
+    private ChatPresenceService podA;
+    private ChatPresenceService podB;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenAnswer(invocation -> {
+            zset(invocation.getArgument(0)).put(invocation.getArgument(1), invocation.getArgument(2));
+            return true;
+        });
+        when(zSetOperations.remove(anyString(), any())).thenAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            long removed = 0;
+            for (int i = 1; i < arguments.length; i++) {
+                removed += zset((String) arguments[0]).remove(arguments[i]) == null ? 0 : 1;
+            }
+            return removed;
+        });
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            double min = invocation.getArgument(1);
+            double max = invocation.getArgument(2);
+            Set<String> members = new LinkedHashSet<>();
+            zset(invocation.getArgument(0)).forEach((member, score) -> {
+                if (score >= min && score <= max) {
+                    members.add(member);
+                }
+            });
+            return members;
+        });
+
+        TopicPublisher topicPublisher = mock(TopicPublisher.class);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(1) instanceof ChatPresenceResponse frame) {
+                frames.add(frame);
+            }
+            return null;
+        }).when(topicPublisher).publish(anyString(), any());
+
+        UserProfileSnapshotCache profiles = mock(UserProfileSnapshotCache.class);
+        podA = new ChatPresenceService(redisTemplate, topicPublisher, profiles, Duration.ofSeconds(60), Duration.ofSeconds(2));
+        podB = new ChatPresenceService(redisTemplate, topicPublisher, profiles, Duration.ofSeconds(60), Duration.ofSeconds(2));
+    }
+
+    @Test
+    void subscribe_joinsRoomAndPublishesOnlineUsers() {
+        podA.onSubscribe(subscribe("s1", "sub-1", 10L));
+        podA.onSubscribe(subscribe("s2", "sub-1", 11L));
+
+        assertThat(podA.onlineUserIds(TRIP_ID)).containsExactly(10L, 11L);
+        ChatPresenceResponse last = frames.get(frames.size() - 1);
+        assertThat(last.type()).isEqualTo(ChatPresenceResponse.JOIN);
+        assertThat(last.userId()).isEqualTo(11L);
+        assertThat(last.onlineUserIds()).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void disconnect_lastLocalSession_publishesLeave() {
+        podA.onSubscribe(subscribe("s1", "sub-1", 10L));
+
+        podA.onDisconnect(disconnect("s1"));
+
+        assertThat(podA.onlineUserIds(TRIP_ID)).isEmpty();
+        assertThat(lastFrame().type()).isEqualTo(ChatPresenceResponse.LEAVE);
+        assertThat(lastFrame().userId()).isEqualTo(10L);
+    }
+
+    @Test
+    void disconnect_withAnotherLocalTab_staysOnline() {
+        podA.onSubscribe(subscribe("s1", "sub-1", 10L));
+        podA.onSubscribe(subscribe("s2", "sub-1", 10L));
+
+        podA.onDisconnect(disconnect("s1"));
+
+        assertThat(podA.onlineUserIds(TRIP_ID)).containsExactly(10L);
+        assertThat(frames).noneMatch(frame -> ChatPresenceResponse.LEAVE.equals(frame.type()));
+    }
+
+    @Test
+    void disconnect_withSessionOnOtherInstance_staysOnline() {
+        podA.onSubscribe(subscribe("s1", "sub-1", 10L));
+        podB.onSubscribe(subscribe("s2", "sub-1", 10L));
+
+        podA.onDisconnect(disconnect("s1"));
+
+        assertThat(podB.onlineUserIds(TRIP_ID)).containsExactly(10L);
+        assertThat(frames).noneMatch(frame -> ChatPresenceResponse.LEAVE.equals(frame.type()));
+
+        podB.onDisconnect(disconnect("s2"));
+
+        assertThat(lastFrame().type()).isEqualTo(ChatPresenceResponse.LEAVE);
+        assertThat(lastFrame().onlineUserIds()).isEmpty();
+    }
+
+    @Test
+    void refresh_evictsMembersOfDeadInstanceAndPublishesLeave() {
+        podA.onSubscribe(subscribe("s1", "sub-1", 11L));
+        podB.onSubscribe(subscribe("s2", "sub-1", 10L));
+        // podB 가 죽어 만료 시각이 갱신되지 않은 상황
+        zset(PRESENCE_KEY).replaceAll((member, score) -> member.startsWith("10:") ? 0d : score);
+
+        podA.refresh();
+
+        assertThat(podA.onlineUserIds(TRIP_ID)).containsExactly(11L);
+        assertThat(lastFrame().type()).isEqualTo(ChatPresenceResponse.LEAVE);
+        assertThat(lastFrame().userId()).isEqualTo(10L);
+    }
+
+    @Test
+    void refresh_expiredMemberOfUserStillOnlineElsewhere_doesNotPublishLeave() {
+        podB.onSubscribe(subscribe("s2", "sub-1", 10L));
+        String podBMember = zset(PRESENCE_KEY).keySet().iterator().next();
+        podA.onSubscribe(subscribe("s1", "sub-1", 10L));
+        frames.clear();
+        zset(PRESENCE_KEY).replaceAll((member, score) -> member.equals(podBMember) ? 0d : score);
+
+        podA.refresh();
+
+        assertThat(zset(PRESENCE_KEY)).doesNotContainKey(podBMember);
+        assertThat(podA.onlineUserIds(TRIP_ID)).containsExactly(10L);
+        assertThat(frames).isEmpty();
+    }
+
+    private Map<String, Double> zset(String key) {
+        return zsets.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>());
+    }
+
+    private ChatPresenceResponse lastFrame() {
+        return frames.get(frames.size() - 1);
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, Long userId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination("/topic/trips/" + TRIP_ID + "/chat");
+        accessor.setSessionAttributes(new HashMap<>(Map.of(WebSocketJwtChannelInterceptor.SESSION_USER_ID, userId)));
+        return new SessionSubscribeEvent(new Object(), MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(
+                new Object(),
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+                sessionId,
+                CloseStatus.NORMAL
+        );
+    }
+}
@@ -0,0 +1,160 @@
+package com.planit.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.chat.repository.ChatReadReceiptJdbcRepository;
+import com.planit.domain.chat.repository.ChatReadReceiptJdbcRepository.ReadReceiptKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ChatReadReceiptStoreTest {
+
+    private ChatReadReceiptJdbcRepository jdbcRepository;
+    private TransactionTemplate transactionTemplate;
+    private ChatReadReceiptStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcRepository = mock(ChatReadReceiptJdbcRepository.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        store = new ChatReadReceiptStore(
+                mock(ObjectProvider.class),
+                jdbcRepository,
+                transactionTemplate,
+                false,
+                Duration.ofHours(1),
+                500
+        );
+    }
+
+    @Test
+    void record_keepsOnlyMaxSeqPerParticipant_andFlushesOneBatch() {
+        store.record(100L, 10L, 3L);
+        store.record(100L, 10L, 7L);
+        store.record(100L, 10L, 5L);
+        store.record(100L, 11L, 2L);
+
+        assertThat(store.lastRead(100L, 10L, 1L)).isEqualTo(7L);
+        assertThat(store.lastRead(100L, 10L, 9L)).isEqualTo(9L);
+
+        store.flush();
+
+        ArgumentCaptor<Map<ReadReceiptKey, Long>> batch = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcRepository, times(1)).raiseLastReadCounts(batch.capture());
+        assertThat(batch.getValue()).containsEntry(new ReadReceiptKey(100L, 10L), 7L)
+                .containsEntry(new ReadReceiptKey(100L, 11L), 2L)
+                .hasSize(2);
+
+        store.flush();
+        verify(jdbcRepository, times(1)).raiseLastReadCounts(any());
+    }
+
+    @Test
+    void flushFailure_keepsReceiptsForNextFlush() {
+        Map<ReadReceiptKey, Long> written = new HashMap<>();
+        doThrow(new IllegalStateException("db down"))
+                .doAnswer(invocation -> {
+                    written.putAll(invocation.getArgument(0));
+                    return null;
+                })
+                .when(jdbcRepository).raiseLastReadCounts(any());
+        store.record(100L, 10L, 4L);
+
+        store.flush();
+        store.flush();
+
+        assertThat(written).containsEntry(new ReadReceiptKey(100L, 10L), 4L);
+    }
+
+    @Test
+    void redisFlushFailure_returnsPoppedMembersToDirtySet() {
+        RedisFixture redis = redisStore();
+        String member = new ReadReceiptKey(100L, 10L).encode();
+        when(redis.setOperations.pop("chat:read:dirty", 500)).thenReturn(List.of(member));
+        when(redis.hashOperations.get("chat:read:100", "10")).thenReturn("6");
+        doThrow(new IllegalStateException("db down")).when(jdbcRepository).raiseLastReadCounts(any());
+
+        redis.store.flush();
+
+        verify(redis.setOperations).add("chat:read:dirty", member);
+    }
+
+    @Test
+    void redisReadFailure_returnsPoppedMembersWithoutWriting() {
+        RedisFixture redis = redisStore();
+        String member = new ReadReceiptKey(100L, 10L).encode();
+        when(redis.setOperations.pop("chat:read:dirty", 500)).thenReturn(List.of(member));
+        when(redis.hashOperations.get("chat:read:100", "10")).thenThrow(new IllegalStateException("redis timeout"));
+
+        redis.store.flush();
+
+        verify(redis.setOperations).add("chat:read:dirty", member);
+        verify(jdbcRepository, never()).raiseLastReadCounts(any());
+    }
+
+    @Test
+    void redisFlushSuccess_doesNotRestoreMembers() {
+        RedisFixture redis = redisStore();
+        String member = new ReadReceiptKey(100L, 10L).encode();
+        when(redis.setOperations.pop("chat:read:dirty", 500)).thenReturn(List.of(member));
+        when(redis.hashOperations.get("chat:read:100", "10")).thenReturn("6");
+
+        redis.store.flush();
+
+        verify(jdbcRepository).raiseLastReadCounts(Map.of(new ReadReceiptKey(100L, 10L), 6L));
+        verify(redis.setOperations, never()).add(any(), any(String[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisFixture redisStore() {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(provider.getObject()).thenReturn(redisTemplate);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        ChatReadReceiptStore redisStore = new ChatReadReceiptStore(
+                provider,
+                jdbcRepository,
+                transactionTemplate,
+                true,
+                Duration.ofHours(1),
+                500
+        );
+        return new RedisFixture(redisStore, setOperations, hashOperations);
+    }
+
+    private record RedisFixture(
+            ChatReadReceiptStore store,
+            SetOperations<String, String> setOperations,
+            HashOperations<String, Object, Object> hashOperations
+    ) {
+    }
+}
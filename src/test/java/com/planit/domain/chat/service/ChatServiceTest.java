@@ -1,11 +1,18 @@
 package com.planit.domain.chat.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.planit.domain.chat.document.ChatMessageDocument;
 import com.planit.domain.chat.dto.ChatMessageResponse;
+import com.planit.domain.chat.dto.ChatResumeResponse;
 import com.planit.domain.chat.dto.ChatSummaryResponse;
 import com.planit.domain.chat.entity.ChatRoom;
 import com.planit.domain.chat.entity.ChatRoomParticipant;
@@ -15,10 +22,12 @@ import com.planit.domain.chat.repository.ChatRoomRepository;
 import com.planit.domain.trip.entity.Trip;
 import com.planit.domain.trip.service.TripAccessService;
 import com.planit.domain.trip.repository.TripRepository;
+import com.planit.domain.user.cache.UserProfileSnapshotCache;
 import com.planit.domain.user.entity.User;
 import com.planit.domain.user.repository.UserRepository;
-import com.planit.ai.client.AiApiClient;
+import com.planit.global.common.exception.BusinessException;
 import com.planit.infrastructure.storage.S3ImageUrlResolver;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,7 +38,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 class ChatServiceTest {
@@ -49,9 +58,13 @@ class ChatServiceTest {
     @Mock
     private S3ImageUrlResolver imageUrlResolver;
     @Mock
-    private AiApiClient aiApiClient;
+    private ChatSequenceAllocator chatSequenceAllocator;
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private ChatRoomCountSyncer chatRoomCountSyncer;
+    @Mock
+    private ChatAiJobStreamService chatAiJobStreamService;
+    @Mock
+    private ChatReadReceiptStore chatReadReceiptStore;
 
     private ChatService chatService;
 
@@ -64,10 +77,15 @@ class ChatServiceTest {
                 chatMessageMongoRepository,
                 tripRepository,
                 tripAccessService,
-                userRepository,
+                new ChatMessageRenderer(
+                        new UserProfileSnapshotCache(userRepository, imageUrlResolver, 100, Duration.ofMinutes(1)),
+                        imageUrlResolver
+                ),
                 imageUrlResolver,
-                aiApiClient,
-                messagingTemplate
+                chatSequenceAllocator,
+                chatRoomCountSyncer,
+                chatAiJobStreamService,
+                chatReadReceiptStore
         );
     }
 
@@ -102,7 +120,8 @@ class ChatServiceTest {
         when(tripRepository.findById(1L)).thenReturn(Optional.of(trip));
         when(tripAccessService.requireReadable(trip, "user1"))
                 .thenReturn(new TripAccessService.AccessInfo(user, true, true));
-        when(chatRoomRepository.findByTripIdForUpdate(1L)).thenReturn(Optional.of(room));
+        when(chatRoomRepository.findByTripId(1L)).thenReturn(Optional.of(room));
+        when(chatSequenceAllocator.next(1L, 0L)).thenReturn(1L);
         when(participantRepository.findByChatRoomIdAndUserId(100L, 10L)).thenReturn(Optional.of(participant));
         when(chatMessageMongoRepository.save(any(ChatMessageDocument.class))).thenAnswer(invocation -> {
             ChatMessageDocument doc = invocation.getArgument(0);
@@ -117,7 +136,59 @@ class ChatServiceTest {
         assertThat(response.senderUserId()).isEqualTo(10L);
         assertThat(response.senderNickname()).isEqualTo("nick");
         assertThat(response.senderProfileImageUrl()).isEqualTo("https://default-profile.png");
-        assertThat(participant.getLastReadCount()).isEqualTo(1L);
+        verify(chatReadReceiptStore).record(100L, 10L, 1L);
+        verify(participantRepository, never()).save(participant);
+        verify(chatRoomCountSyncer).record(1L, 1L);
+        verify(chatAiJobStreamService, never()).enqueueJob(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void sendUserMessage_aiMention_enqueuesJobWithoutWaitingForReply() {
+        User user = User.builder()
+                .id(10L)
+                .loginId("user1")
+                .password("hashed")
+                .nickname("nick")
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        Trip trip = new Trip(
+                user,
+                "title",
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 2),
+                LocalTime.of(9, 0),
+                LocalTime.of(18, 0),
+                "Seoul",
+                10000
+        );
+        ReflectionTestUtils.setField(trip, "id", 1L);
+
+        ChatRoom room = new ChatRoom(1L);
+        ReflectionTestUtils.setField(room, "id", 100L);
+        ChatRoomParticipant participant = new ChatRoomParticipant(room, user);
+
+        when(tripRepository.findById(1L)).thenReturn(Optional.of(trip));
+        when(tripAccessService.requireReadable(trip, "user1"))
+                .thenReturn(new TripAccessService.AccessInfo(user, true, true));
+        when(chatRoomRepository.findByTripId(1L)).thenReturn(Optional.of(room));
+        when(chatSequenceAllocator.next(1L, 0L)).thenReturn(1L);
+        when(participantRepository.findByChatRoomIdAndUserId(100L, 10L)).thenReturn(Optional.of(participant));
+        when(chatMessageMongoRepository.save(any(ChatMessageDocument.class))).thenAnswer(invocation -> {
+            ChatMessageDocument doc = invocation.getArgument(0);
+            ReflectionTestUtils.setField(doc, "id", "mongo-id-1");
+            return doc;
+        });
+
+        ChatMessageResponse response = chatService.sendUserMessage(1L, "@AI 내일 일정 추천해줘", "user1", "jwt-token");
+
+        assertThat(response.seq()).isEqualTo(1L);
+        verify(chatReadReceiptStore).record(100L, 10L, 1L);
+        verify(participantRepository, never()).save(participant);
+        verify(chatAiJobStreamService).enqueueJob(1L, 10L, "mongo-id-1", "내일 일정 추천해줘", "jwt-token");
+        verify(chatMessageMongoRepository, times(1)).save(any(ChatMessageDocument.class));
     }
 
     @Test
@@ -149,14 +220,16 @@ class ChatServiceTest {
         ReflectionTestUtils.setField(room, "totalMessageCount", 8L);
 
         ChatRoomParticipant participant = new ChatRoomParticipant(room, user);
-        participant.markRead(3L);
+        ReflectionTestUtils.setField(participant, "lastReadCount", 3L);
 
         when(tripRepository.findById(1L)).thenReturn(Optional.of(trip));
         when(tripAccessService.requireReadable(trip, "user1"))
                 .thenReturn(new TripAccessService.AccessInfo(user, true, true));
         when(chatRoomRepository.findByTripId(1L)).thenReturn(Optional.of(room));
+        when(chatSequenceAllocator.current(eq(1L), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(chatReadReceiptStore.lastRead(eq(100L), eq(10L), anyLong())).thenAnswer(invocation -> invocation.getArgument(2));
         when(participantRepository.findByChatRoomIdAndUserId(100L, 10L)).thenReturn(Optional.of(participant));
-        when(chatMessageMongoRepository.findByTripIdOrderByCreatedAtDesc(any(), any())).thenReturn(List.of(
+        when(chatMessageMongoRepository.findLatestBySeq(any(), any())).thenReturn(List.of(
                 new ChatMessageDocument(
                         1L,
                         10L,
@@ -172,11 +245,111 @@ class ChatServiceTest {
         when(imageUrlResolver.resolve(null)).thenReturn("https://default-profile.png");
 
         ChatSummaryResponse response = chatService.getSummary(1L, "user1");
-        ChatMessageResponse messageResponse = chatService.getMessages(1L, "user1", 20, null).get(0);
+        ChatMessageResponse messageResponse = chatService.getMessages(1L, "user1", 20, null, null, null).get(0);
 
         assertThat(response.totalMessageCount()).isEqualTo(8L);
         assertThat(response.unreadCount()).isEqualTo(5L);
         assertThat(messageResponse.senderNickname()).isEqualTo("nick");
         assertThat(messageResponse.senderProfileImageUrl()).isEqualTo("https://default-profile.png");
     }
+
+    @Test
+    void getMessages_rejectsBothSeqCursors() {
+        assertThatThrownBy(() -> chatService.getMessages(1L, "user1", 20, null, 10L, 5L))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void resume_returnsOnlyMessagesAfterLastSeq_andSkipsMongoWhenUpToDate() {
+        User user = User.builder()
+                .id(10L)
+                .loginId("user1")
+                .password("hashed")
+                .nickname("nick")
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        Trip trip = new Trip(
+                user,
+                "title",
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 2),
+                LocalTime.of(9, 0),
+                LocalTime.of(18, 0),
+                "Seoul",
+                10000
+        );
+        ReflectionTestUtils.setField(trip, "id", 1L);
+
+        ChatRoom room = new ChatRoom(1L);
+        ReflectionTestUtils.setField(room, "id", 100L);
+        ChatRoomParticipant participant = new ChatRoomParticipant(room, user);
+
+        when(tripRepository.findById(1L)).thenReturn(Optional.of(trip));
+        when(tripAccessService.requireReadable(trip, "user1"))
+                .thenReturn(new TripAccessService.AccessInfo(user, true, true));
+        when(chatRoomRepository.findByTripId(1L)).thenReturn(Optional.of(room));
+        when(chatSequenceAllocator.current(eq(1L), anyLong())).thenReturn(7L);
+        when(participantRepository.findByChatRoomIdAndUserId(100L, 10L)).thenReturn(Optional.of(participant));
+        when(chatMessageMongoRepository.findAfterSeq(eq(1L), eq(5L), any())).thenReturn(List.of(
+                new ChatMessageDocument(1L, 10L, "nick", null, "USER", "six", Instant.now(), 6L),
+                new ChatMessageDocument(1L, 10L, "nick", null, "USER", "seven", Instant.now(), 7L)
+        ));
+
+        ChatResumeResponse missed = chatService.resume(1L, "user1", 5L);
+        ChatResumeResponse upToDate = chatService.resume(1L, "user1", 7L);
+
+        assertThat(missed.messages()).extracting(ChatMessageResponse::seq).containsExactly(6L, 7L);
+        assertThat(missed.latestSeq()).isEqualTo(7L);
+        assertThat(missed.hasMore()).isFalse();
+        assertThat(upToDate.messages()).isEmpty();
+        verify(chatMessageMongoRepository, times(1)).findAfterSeq(any(), any(), any());
+    }
+
+    @Test
+    void saveAiReply_newReply_allocatesSeqAndInserts() {
+        when(chatMessageMongoRepository.findById("reply-1")).thenReturn(Optional.empty());
+        when(chatRoomRepository.findByTripId(1L)).thenReturn(Optional.empty());
+        when(chatSequenceAllocator.next(1L, 0L)).thenReturn(4L);
+        when(chatMessageMongoRepository.insert(any(ChatMessageDocument.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ChatMessageDocument saved = chatService.saveAiReply(1L, "reply-1", "answer");
+
+        assertThat(saved.getId()).isEqualTo("reply-1");
+        assertThat(saved.getSeq()).isEqualTo(4L);
+        verify(chatRoomCountSyncer).record(1L, 4L);
+    }
+
+    @Test
+    void saveAiReply_alreadySaved_returnsExistingWithoutNewSeq() {
+        ChatMessageDocument existing = new ChatMessageDocument(
+                "reply-1", 1L, null, "AI", null, "BOT", "answer", Instant.now(), 4L);
+        when(chatMessageMongoRepository.findById("reply-1")).thenReturn(Optional.of(existing));
+
+        ChatMessageDocument saved = chatService.saveAiReply(1L, "reply-1", "answer again");
+
+        assertThat(saved).isSameAs(existing);
+        verify(chatSequenceAllocator, never()).next(any(), anyLong());
+        verify(chatMessageMongoRepository, never()).insert(any(ChatMessageDocument.class));
+    }
+
+    @Test
+    void saveAiReply_concurrentInsert_returnsWinner() {
+        ChatMessageDocument winner = new ChatMessageDocument(
+                "reply-1", 1L, null, "AI", null, "BOT", "answer", Instant.now(), 4L);
+        when(chatMessageMongoRepository.findById("reply-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(chatRoomRepository.findByTripId(1L)).thenReturn(Optional.empty());
+        when(chatSequenceAllocator.next(1L, 0L)).thenReturn(5L);
+        when(chatMessageMongoRepository.insert(any(ChatMessageDocument.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        ChatMessageDocument saved = chatService.saveAiReply(1L, "reply-1", "answer");
+
+        assertThat(saved).isSameAs(winner);
+    }
 }
@@ -0,0 +1,55 @@
+package com.planit.domain.place.gazetteer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.place.dto.PlaceSearchItem;
+import com.planit.domain.place.entity.Place;
+import com.planit.domain.place.model.DestinationCode;
+import com.planit.domain.place.repository.PlaceRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PlaceGazetteerTest {
+
+    private PlaceRepository placeRepository;
+    private PlaceGazetteer gazetteer;
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        gazetteer = new PlaceGazetteer(placeRepository, true, 1000);
+    }
+
+    @Test
+    void search_matchesNamePrefixAndWordPrefixWithinDestination() {
+        when(placeRepository.findAllWithCoordinates()).thenReturn(List.of(
+                new Place("긴자 스시 오노", "tokyo-1", "Tokyo", "Japan", 35.6717, 139.7650),
+                new Place("Osaka Ramen", "osaka-1", "Osaka", "Japan", 34.6937, 135.5023)
+        ));
+        gazetteer.reload();
+
+        List<PlaceSearchItem> byWord = gazetteer.search(DestinationCode.TOKYO_JP, "스시", 10);
+        List<PlaceSearchItem> byName = gazetteer.search(DestinationCode.TOKYO_JP, "긴자 스", 10);
+
+        assertEquals("tokyo-1", byWord.get(0).googlePlaceId());
+        assertEquals("tokyo-1", byName.get(0).googlePlaceId());
+        assertTrue(gazetteer.search(DestinationCode.TOKYO_JP, "osaka", 10).isEmpty());
+        assertEquals("osaka-1", gazetteer.search(DestinationCode.OSAKA_JP, "osaka", 10).get(0).googlePlaceId());
+    }
+
+    @Test
+    void learn_addsGoogleResultsInsideDestination() {
+        when(placeRepository.findAllWithCoordinates()).thenReturn(List.of());
+        gazetteer.reload();
+
+        gazetteer.learn(List.of(new PlaceSearchItem(
+                "paris-1", null, "Café de Flore", "Paris", new PlaceSearchItem.Marker(48.8541, 2.3326))));
+
+        assertEquals(1, gazetteer.search(DestinationCode.PARIS_FR, "café", 10).size());
+        assertTrue(gazetteer.search(DestinationCode.LONDON_GB, "café", 10).isEmpty());
+    }
+}
@@ -0,0 +1,46 @@
+package com.planit.domain.place.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.planit.domain.place.dto.PlaceSearchItem;
+import com.planit.domain.place.dto.PlaceSearchResponse;
+import com.planit.domain.place.model.DestinationCode;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PlaceSearchCacheTest {
+
+    private final PlaceSearchCache cache = new PlaceSearchCache(Duration.ofMinutes(10), 100, 2);
+    private final DestinationCode destination = DestinationCode.values()[0];
+    private final DestinationCode otherDestination = DestinationCode.values()[1];
+
+    @Test
+    void normalize_collapsesWhitespaceAndCase() {
+        assertEquals("스시 맛집 tokyo", PlaceSearchCache.normalize("  스시\t  맛집  TOKYO "));
+        assertEquals("abc", PlaceSearchCache.normalize("ＡＢＣ"));
+    }
+
+    @Test
+    void find_reusesLongerCachedQueryForPrefix() {
+        PlaceSearchResponse response = response("p1");
+        cache.put(destination, PlaceSearchCache.normalize("스시 맛집"), response);
+
+        assertEquals(response, cache.find(destination, PlaceSearchCache.normalize("스시 맛")).orElseThrow());
+        assertTrue(cache.find(otherDestination, PlaceSearchCache.normalize("스시 맛")).isEmpty());
+    }
+
+    @Test
+    void find_ignoresEmptyResultsForPrefixReuse() {
+        cache.put(destination, "라멘 집", new PlaceSearchResponse(List.of()));
+
+        assertTrue(cache.find(destination, "라멘").isEmpty());
+        assertTrue(cache.find(destination, "라멘 집").isPresent());
+    }
+
+    private PlaceSearchResponse response(String placeId) {
+        return new PlaceSearchResponse(List.of(
+                new PlaceSearchItem(placeId, null, "name", "address", new PlaceSearchItem.Marker(0, 0))));
+    }
+}
@@ -0,0 +1,164 @@
+package com.planit.domain.placeRecommendation.cache;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planit.domain.place.client.GooglePlacesClient;
+import com.planit.domain.place.exception.PlaceSearchException;
+import com.planit.domain.placeRecommendation.client.GooglePlaceDetailsClient;
+import com.planit.domain.placeRecommendation.client.GooglePlacePhotoResolver;
+import com.planit.domain.placeRecommendation.dto.PlaceRecommendationDetailResponse;
+import com.planit.domain.placeRecommendation.service.PlaceRecommendationService;
+import com.planit.global.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class PlaceDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlaceDetailCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PlaceDetailCache(
+                mock(ObjectProvider.class),
+                new ObjectMapper(),
+                meterRegistry,
+                100,
+                Duration.ofMinutes(10),
+                false,
+                Duration.ofHours(1),
+                Duration.ofMinutes(1)
+        );
+    }
+
+    @Test
+    void get_cachesFoundPlaceLocally() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<PlaceRecommendationDetailResponse> loader = () -> {
+            calls.incrementAndGet();
+            return detail("p1");
+        };
+
+        cache.get("p1", loader);
+        PlaceRecommendationDetailResponse second = cache.get("p1", loader);
+
+        assertEquals(1, calls.get());
+        assertEquals("p1", second.getPlaceId());
+        assertEquals(1.0, meterRegistry.get("place.detail.cache").tag("tier", "local").tag("result", "hit")
+                .counter().count());
+    }
+
+    @Test
+    void get_cachesNotFoundAsNegativeEntry() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<PlaceRecommendationDetailResponse> loader = () -> {
+            calls.incrementAndGet();
+            throw new PlaceSearchException(ErrorCode.PLACE_003, HttpStatus.NOT_FOUND, "place not found");
+        };
+
+        assertThrows(PlaceSearchException.class, () -> cache.get("missing", loader));
+        assertThrows(PlaceSearchException.class, () -> cache.get("missing", loader));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void get_concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<PlaceRecommendationDetailResponse> loader = () -> {
+            calls.incrementAndGet();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return detail("p2");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> cache.get("p2", loader));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void googleNotFound_throughRealClient_isCachedAsNegativeEntry() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://places.googleapis.com");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        server.expect(once(), requestTo(containsString("/v1/places/missing")))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":{\"code\":404,\"status\":\"NOT_FOUND\"}}"));
+        PlaceRecommendationService service = new PlaceRecommendationService(
+                mock(GooglePlacesClient.class),
+                new GooglePlaceDetailsClient(builder.build(), "test-key"),
+                cache,
+                mock(GooglePlacePhotoResolver.class),
+                "test-key"
+        );
+
+        PlaceSearchException first = assertThrows(PlaceSearchException.class, () -> service.getPlaceDetail("missing"));
+        PlaceSearchException second = assertThrows(PlaceSearchException.class, () -> service.getPlaceDetail("missing"));
+
+        server.verify();
+        assertEquals(HttpStatus.NOT_FOUND, first.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND, second.getHttpStatus());
+        assertEquals(1.0, meterRegistry.get("place.detail.load").tag("result", "not_found").counter().count());
+    }
+
+    @Test
+    void failedLoad_isNotCached_andReachesCaller() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<PlaceRecommendationDetailResponse> loader = () -> {
+            calls.incrementAndGet();
+            throw new PlaceSearchException(ErrorCode.PLACE_003, HttpStatus.BAD_GATEWAY, "Google Places details error");
+        };
+
+        PlaceSearchException ex = assertThrows(PlaceSearchException.class, () -> cache.get("p3", loader));
+        assertThrows(PlaceSearchException.class, () -> cache.get("p3", loader));
+
+        assertEquals(HttpStatus.BAD_GATEWAY, ex.getHttpStatus());
+        assertEquals(2, calls.get());
+    }
+
+    private PlaceRecommendationDetailResponse detail(String placeId) {
+        return new PlaceRecommendationDetailResponse(
+                placeId, "name", "Seoul", "KR", 37.5, 127.0, null,
+                "https://www.google.com/maps/place/?q=place_id:" + placeId);
+    }
+}
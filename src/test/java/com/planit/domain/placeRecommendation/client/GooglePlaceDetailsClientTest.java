@@ -0,0 +1,62 @@
+package com.planit.domain.placeRecommendation.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+import com.planit.domain.place.exception.PlaceSearchException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class GooglePlaceDetailsClientTest {
+
+    private MockRestServiceServer server;
+    private GooglePlaceDetailsClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://places.googleapis.com");
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new GooglePlaceDetailsClient(builder.build(), "test-key");
+    }
+
+    @Test
+    void unknownPlace_isNotFound() {
+        server.expect(requestTo(containsString("/v1/places/missing")))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":{\"code\":404,\"status\":\"NOT_FOUND\"}}"));
+
+        assertThat(statusOf("missing")).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void malformedPlaceId_isNotFound() {
+        server.expect(requestTo(containsString("/v1/places/bad-id")))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":{\"code\":400,\"message\":\"Not a valid Place ID\",\"status\":\"INVALID_ARGUMENT\"}}"));
+
+        assertThat(statusOf("bad-id")).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void serverError_isBadGateway() {
+        server.expect(requestTo(containsString("/v1/places/p1")))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        assertThat(statusOf("p1")).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    private HttpStatus statusOf(String placeId) {
+        PlaceSearchException ex = catchThrowableOfType(() -> client.getPlaceDetails(placeId), PlaceSearchException.class);
+        server.verify();
+        return ex.getHttpStatus();
+    }
+}
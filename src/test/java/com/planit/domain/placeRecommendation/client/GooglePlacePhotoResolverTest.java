@@ -0,0 +1,133 @@
+package com.planit.domain.placeRecommendation.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GooglePlacePhotoResolverTest {
+
+    private static final String PHOTO_1 = "places/p1/photos/a";
+    private static final String PHOTO_2 = "places/p2/photos/b";
+
+    @Mock
+    private HttpClient httpClient;
+
+    private GooglePlacePhotoResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new GooglePlacePhotoResolver(httpClient, "test-key", Duration.ofHours(1), 100, 1, 100);
+    }
+
+    @Test
+    void resolveAsync_samePhoto_sharesOneRequest() {
+        CompletableFuture<HttpResponse<Void>> response = new CompletableFuture<>();
+        doReturn(response).when(httpClient).sendAsync(any(), any());
+
+        CompletableFuture<String> first = resolver.resolveAsync(PHOTO_1);
+        CompletableFuture<String> second = resolver.resolveAsync(PHOTO_1);
+
+        assertThat(second).isSameAs(first);
+        verify(httpClient, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void redirect_isCachedForNextLookup() {
+        HttpResponse<Void> response = redirect("https://img/1");
+        doReturn(CompletableFuture.completedFuture(response))
+                .when(httpClient).sendAsync(any(), any());
+
+        assertThat(resolver.resolve(PHOTO_1)).isEqualTo("https://img/1");
+        assertThat(resolver.resolve(PHOTO_1)).isEqualTo("https://img/1");
+
+        verify(httpClient, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void completedRequest_releasesPermitForQueuedPhoto() {
+        CompletableFuture<HttpResponse<Void>> firstResponse = new CompletableFuture<>();
+        HttpResponse<Void> first302 = redirect("https://img/1");
+        HttpResponse<Void> second302 = redirect("https://img/2");
+        doReturn(firstResponse).when(httpClient).sendAsync(argThat(request -> isFor(request, PHOTO_1)), any());
+        doReturn(CompletableFuture.completedFuture(second302))
+                .when(httpClient).sendAsync(argThat(request -> isFor(request, PHOTO_2)), any());
+
+        CompletableFuture<String> first = resolver.resolveAsync(PHOTO_1);
+        CompletableFuture<String> second = resolver.resolveAsync(PHOTO_2);
+        verify(httpClient, never()).sendAsync(argThat(request -> isFor(request, PHOTO_2)), any());
+
+        firstResponse.complete(first302);
+
+        assertThat(first.join()).isEqualTo("https://img/1");
+        assertThat(second.join()).isEqualTo("https://img/2");
+    }
+
+    @Test
+    void failedRequest_completesWithNullAndReleasesPermit() {
+        HttpResponse<Void> response = redirect("https://img/2");
+        doReturn(CompletableFuture.failedFuture(new IOException("connection reset")))
+                .doReturn(CompletableFuture.completedFuture(response))
+                .when(httpClient).sendAsync(any(), any());
+
+        assertThat(resolver.resolveAsync(PHOTO_1).join()).isNull();
+        assertThat(resolver.resolveAsync(PHOTO_2).join()).isEqualTo("https://img/2");
+    }
+
+    @Test
+    void synchronousSendFailure_doesNotLeakPermitOrInFlightEntry() {
+        HttpResponse<Void> response = redirect("https://img/1");
+        doThrow(new IllegalArgumentException("closed client"))
+                .doReturn(CompletableFuture.completedFuture(response))
+                .when(httpClient).sendAsync(any(), any());
+
+        CompletableFuture<String> failed = resolver.resolveAsync(PHOTO_1);
+
+        assertThat(failed).isCompletedWithValue(null);
+        // 같은 사진을 다시 요청하면 남은 future 를 공유하지 않고 새로 조회하며, permit 도 반환되어 있어야 한다.
+        assertThat(resolver.resolveAsync(PHOTO_1).join()).isEqualTo("https://img/1");
+    }
+
+    @Test
+    void resolveAll_pendingBeyondAwait_isOmitted() {
+        doReturn(new CompletableFuture<HttpResponse<Void>>()).when(httpClient).sendAsync(any(), any());
+
+        Map<String, String> resolved = resolver.resolveAll(List.of(PHOTO_1));
+
+        assertThat(resolved).isEmpty();
+    }
+
+    private static boolean isFor(HttpRequest request, String photoName) {
+        return request != null && request.uri().getPath().equals("/v1/" + photoName + "/media");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<Void> redirect(String location) {
+        HttpResponse<Void> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(302);
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Location", List.of(location)), (name, value) -> true));
+        return response;
+    }
+}
@@ -0,0 +1,97 @@
+package com.planit.domain.post.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.place.exception.PlaceSearchException;
+import com.planit.domain.placeRecommendation.dto.PlaceRecommendationDetailResponse;
+import com.planit.domain.placeRecommendation.service.PlaceRecommendationService;
+import com.planit.global.common.exception.ErrorCode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceListImageResolverTest {
+
+    @Mock
+    private PlaceRecommendationService placeRecommendationService;
+
+    private PlaceListImageResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new PlaceListImageResolver(placeRecommendationService, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resolver.shutdown();
+    }
+
+    @Test
+    void resolveAll_fetchesEachPlaceOnce() {
+        when(placeRecommendationService.getPlaceDetail("place-1")).thenReturn(detail("place-1", "https://img/1"));
+
+        Map<String, String> resolved = resolver.resolveAll(List.of("place-1", "place-1", ""));
+
+        assertThat(resolved).containsExactly(Map.entry("place-1", "https://img/1"));
+        verify(placeRecommendationService, times(1)).getPlaceDetail("place-1");
+    }
+
+    @Test
+    void resolveAll_lookupCompletingImmediately_isCleanedUpWithoutRecursiveUpdate() {
+        // 거절된 조회는 등록 직후 같은 스레드에서 완료되어 정리 콜백이 바로 실행된다.
+        resolver.shutdown();
+
+        assertThat(resolver.resolveAll(List.of("place-1", "place-2"))).isEmpty();
+        assertThat(resolver.resolveAll(List.of("place-1"))).isEmpty();
+    }
+
+    @Test
+    void resolveAll_placeWithoutPhoto_isOmitted() {
+        when(placeRecommendationService.getPlaceDetail("place-1")).thenReturn(detail("place-1", null));
+
+        assertThat(resolver.resolveAll(List.of("place-1"))).isEmpty();
+    }
+
+    @Test
+    void resolveAll_lookupFailure_isOmitted() {
+        when(placeRecommendationService.getPlaceDetail("place-1"))
+                .thenThrow(new PlaceSearchException(ErrorCode.PLACE_003, HttpStatus.NOT_FOUND, "place not found"));
+        when(placeRecommendationService.getPlaceDetail("place-2")).thenReturn(detail("place-2", "https://img/2"));
+
+        Map<String, String> resolved = resolver.resolveAll(List.of("place-1", "place-2"));
+
+        assertThat(resolved).containsExactly(Map.entry("place-2", "https://img/2"));
+    }
+
+    @Test
+    void resolveAll_slowLookup_returnsWithoutPhotoAfterDeadline() throws Exception {
+        PlaceListImageResolver shortDeadline = new PlaceListImageResolver(placeRecommendationService, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        when(placeRecommendationService.getPlaceDetail("place-1")).thenAnswer(invocation -> {
+            release.await();
+            return detail("place-1", "https://img/1");
+        });
+        try {
+            assertThat(shortDeadline.resolveAll(List.of("place-1"))).isEmpty();
+        } finally {
+            release.countDown();
+            shortDeadline.shutdown();
+        }
+    }
+
+    private PlaceRecommendationDetailResponse detail(String placeId, String photoUrl) {
+        return new PlaceRecommendationDetailResponse(placeId, "name", "city", "country", 0.0, 0.0, photoUrl, null);
+    }
+}
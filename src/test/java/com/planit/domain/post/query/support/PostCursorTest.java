@@ -0,0 +1,33 @@
+package com.planit.domain.post.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class PostCursorTest {
+
+    @Test
+    void encode_decode_roundTrip() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_blankCursor_returnsNull() {
+        assertThat(PostCursor.decode(null)).isNull();
+        assertThat(PostCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void decode_malformedCursor_throwsBadRequest() {
+        assertThatThrownBy(() -> PostCursor.decode("not-a-cursor"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("유효하지 않은 커서");
+    }
+}
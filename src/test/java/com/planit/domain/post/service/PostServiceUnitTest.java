@@ -20,6 +20,7 @@ import com.planit.domain.post.repository.PostRepository;
 import com.planit.domain.post.repository.PostedImageRepository;
 import com.planit.domain.post.repository.PostedPlanRepository;
 import com.planit.domain.post.service.ImageStorageService;
+import com.planit.domain.post.summary.service.PostSummaryService;
 import com.planit.domain.trip.entity.Trip;
 import com.planit.domain.trip.repository.TripRepository;
 import com.planit.domain.user.entity.User;
@@ -72,6 +73,8 @@ class PostServiceUnitTest {
     private PlaceRecommendationService placeRecommendationService;
     @Mock // PlaceRepository 목
     private PlaceRepository placeRepository;
+    @Mock // PostSummaryService 목
+    private PostSummaryService postSummaryService;
 
     @InjectMocks // 위 목들을 조합하여 PostService 생성
     private PostService postService;
@@ -0,0 +1,121 @@
+package com.planit.domain.post.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.post.stats.dto.PostStatsDelta;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class PostStatsCacheServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private StringRedisConnection connection;
+
+    private PostStatsCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new PostStatsCacheService(redisTemplate);
+    }
+
+    @Test
+    void addDeltas_incrementsNonZeroCountersAndMarksDirty() {
+        pipelineReturns(List.of());
+
+        cacheService.addDeltas(Map.of(1L, new PostStatsDelta(1L, 0L, 3L)));
+
+        verify(connection).incrBy("post:stats:like:1", 1L);
+        verify(connection).incrBy("post:stats:view:1", 3L);
+        verify(connection, never()).incrBy("post:stats:comment:1", 0L);
+        verify(connection).sAdd("post:stats:dirty", "1");
+    }
+
+    @Test
+    void addDeltas_zeroDelta_isSkipped() {
+        pipelineReturns(List.of());
+
+        cacheService.addDeltas(Map.of(1L, PostStatsDelta.ZERO));
+
+        verify(connection, never()).sAdd(anyString(), any(String[].class));
+    }
+
+    @Test
+    void getPendingDeltas_sumsCountersPerPostAndOmitsZero() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of(
+                "post:stats:like:1", "post:stats:comment:1", "post:stats:view:1",
+                "post:stats:like:2", "post:stats:comment:2", "post:stats:view:2"
+        ))).thenReturn(Arrays.asList("2", null, "-1", null, null, null));
+
+        Map<Long, PostStatsDelta> deltas = cacheService.getPendingDeltas(List.of(1L, 2L));
+
+        assertThat(deltas).containsExactly(Map.entry(1L, new PostStatsDelta(2L, 0L, -1L)));
+    }
+
+    @Test
+    void drainDirty_popsMembersAndReadsDeltasWithGetDel() {
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.pop("post:stats:dirty", 10)).thenReturn(List.of("1", "2"));
+        pipelineReturns(Arrays.asList(bytes("4"), null, null, null, null, null));
+
+        Map<Long, PostStatsDelta> drained = cacheService.drainDirty(10);
+
+        assertThat(drained).containsExactly(Map.entry(1L, new PostStatsDelta(4L, 0L, 0L)));
+        verify(stringCommands).getDel(bytes("post:stats:like:1"));
+        verify(stringCommands).getDel(bytes("post:stats:view:2"));
+    }
+
+    @Test
+    void drainDirty_emptyDirtySet_skipsPipeline() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.pop("post:stats:dirty", 10)).thenReturn(List.of());
+
+        assertThat(cacheService.drainDirty(10)).isEmpty();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pipelineReturns(List<Object> results) {
+        doAnswer(invocation -> {
+            RedisCallback<Object> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return results;
+        }).when(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
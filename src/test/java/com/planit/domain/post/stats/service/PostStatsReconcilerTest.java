@@ -0,0 +1,101 @@
+package com.planit.domain.post.stats.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.post.stats.dto.PostStatsDelta;
+import com.planit.domain.post.stats.repository.PostStatsJdbcRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PostStatsReconcilerTest {
+
+    @Mock
+    private ObjectProvider<PostStatsCacheService> cacheProvider;
+
+    @Mock
+    private PostStatsCacheService cache;
+
+    @Mock
+    private PostStatsAggregationService postStatsAggregationService;
+
+    @Mock
+    private PostStatsJdbcRepository postStatsJdbcRepository;
+
+    private PostStatsReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheProvider.getIfAvailable()).thenReturn(cache);
+        reconciler = new PostStatsReconciler(
+                cacheProvider,
+                postStatsAggregationService,
+                postStatsJdbcRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                100
+        );
+    }
+
+    @Test
+    void flush_appliesDrainedDeltasAndQueuesReconcile() {
+        Map<Long, PostStatsDelta> deltas = Map.of(1L, new PostStatsDelta(1L, 2L, 3L));
+        when(cache.drainDirty(100)).thenReturn(deltas).thenReturn(Map.of());
+
+        reconciler.flush();
+
+        verify(postStatsAggregationService).applyDeltas(deltas);
+        verify(cache).markForReconcile(deltas.keySet());
+    }
+
+    @Test
+    void flush_failure_pushesDeltasBackToRedis() {
+        Map<Long, PostStatsDelta> deltas = Map.of(1L, new PostStatsDelta(1L, 0L, 0L));
+        when(cache.drainDirty(100)).thenReturn(deltas);
+        doThrow(new RuntimeException("db down")).when(postStatsAggregationService).applyDeltas(deltas);
+
+        reconciler.flush();
+
+        verify(cache).addDeltas(deltas);
+        verify(cache, never()).markForReconcile(any());
+    }
+
+    @Test
+    void reconcile_overwritesDriftedCountsFromSourceTables() {
+        when(cache.popReconcileCandidates(100)).thenReturn(List.of(1L));
+        when(cache.getPendingDeltas(List.of(1L))).thenReturn(Map.of());
+        when(postStatsJdbcRepository.recount(List.of(1L)))
+                .thenReturn(List.of(new PostStatsJdbcRepository.PostStatsCount(1L, 5L, 2L, 40L)));
+
+        reconciler.reconcile();
+
+        verify(postStatsAggregationService).replaceCounts(1L, 5L, 2L, 40L);
+    }
+
+    @Test
+    void reconcile_postWithUnflushedDeltas_isDeferred() {
+        when(cache.popReconcileCandidates(100)).thenReturn(List.of(1L, 2L));
+        when(cache.getPendingDeltas(List.of(1L, 2L)))
+                .thenReturn(Map.of(2L, new PostStatsDelta(1L, 0L, 0L)));
+        when(postStatsJdbcRepository.recount(List.of(1L))).thenReturn(List.of());
+
+        reconciler.reconcile();
+
+        verify(cache).markForReconcile(Set.of(2L));
+        verify(postStatsAggregationService, never()).replaceCounts(any(), anyLong(), anyLong(), anyLong());
+    }
+}
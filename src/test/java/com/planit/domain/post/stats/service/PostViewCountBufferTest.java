@@ -0,0 +1,118 @@
+package com.planit.domain.post.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCountBufferTest {
+
+    @Mock
+    private PostStatsAggregationService postStatsAggregationService;
+
+    private PostViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PostViewCountBuffer(postStatsAggregationService, 500);
+    }
+
+    @Test
+    void flush_aggregatesDeltasPerPost() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        buffer.flush();
+
+        verify(postStatsAggregationService).addViewCounts(Map.of(1L, 2L, 2L, 1L));
+    }
+
+    @Test
+    void flush_withoutViews_doesNotWrite() {
+        buffer.flush();
+
+        verify(postStatsAggregationService, never()).addViewCounts(anyMap());
+    }
+
+    @Test
+    void flush_failure_keepsDeltasForNextFlush() {
+        buffer.increment(1L);
+        doThrow(new RuntimeException("db down"))
+                .doNothing()
+                .when(postStatsAggregationService).addViewCounts(anyMap());
+
+        buffer.flush();
+        buffer.increment(1L);
+        buffer.flush();
+
+        verify(postStatsAggregationService, times(1)).addViewCounts(Map.of(1L, 2L));
+    }
+
+    @Test
+    void idlePost_isCountedAgainAfterEviction() {
+        buffer.increment(1L);
+        buffer.flush();
+        buffer.flush();
+        buffer.flush();
+
+        buffer.increment(1L);
+        buffer.flush();
+
+        verify(postStatsAggregationService, times(2)).addViewCounts(Map.of(1L, 1L));
+    }
+
+    @Test
+    void concurrentIncrementsDuringFlush_areNotLost() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        doAnswer(invocation -> {
+            Map<Long, Long> batch = invocation.getArgument(0);
+            batch.values().forEach(flushed::addAndGet);
+            return null;
+        }).when(postStatsAggregationService).addViewCounts(anyMap());
+
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    buffer.increment(1L);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            buffer.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        buffer.flush();
+
+        assertThat(flushed.get()).isEqualTo((long) threads * perThread);
+    }
+}
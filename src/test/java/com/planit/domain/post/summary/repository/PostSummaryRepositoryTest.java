@@ -0,0 +1,94 @@
+package com.planit.domain.post.summary.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planit.domain.post.entity.BoardType;
+import com.planit.domain.post.summary.entity.PostSummary;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PostSummaryRepositoryTest {
+
+    private static final Long POST_ID = 9_001L;
+
+    @Autowired
+    private PostSummaryRepository postSummaryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        PostSummary summary = new PostSummary(POST_ID);
+        summary.apply(new PostSummary.PostSummarySource(
+                BoardType.FREE,
+                1L,
+                "summary",
+                LocalDateTime.now(),
+                null,
+                null,
+                null,
+                "place",
+                "google-place-1",
+                3L,
+                2L,
+                10L
+        ));
+        postSummaryRepository.saveAndFlush(summary);
+        entityManager.clear();
+    }
+
+    @Test
+    void adjustCounts_appliesDeltas() {
+        postSummaryRepository.adjustLikeCount(POST_ID, 2L);
+        postSummaryRepository.adjustCommentCount(POST_ID, -1L);
+        postSummaryRepository.adjustViewCount(POST_ID, 5L);
+
+        PostSummary summary = reload();
+        assertThat(summary.getLikeCount()).isEqualTo(5L);
+        assertThat(summary.getCommentCount()).isEqualTo(1L);
+        assertThat(summary.getViewCount()).isEqualTo(15L);
+    }
+
+    @Test
+    void adjustCounts_neverGoBelowZero() {
+        postSummaryRepository.adjustLikeCount(POST_ID, -10L);
+        postSummaryRepository.adjustCommentCount(POST_ID, -10L);
+
+        PostSummary summary = reload();
+        assertThat(summary.getLikeCount()).isZero();
+        assertThat(summary.getCommentCount()).isZero();
+    }
+
+    @Test
+    void replaceCounts_overwritesAllCounters() {
+        postSummaryRepository.replaceCounts(POST_ID, 7L, 8L, 9L);
+
+        PostSummary summary = reload();
+        assertThat(summary.getLikeCount()).isEqualTo(7L);
+        assertThat(summary.getCommentCount()).isEqualTo(8L);
+        assertThat(summary.getViewCount()).isEqualTo(9L);
+    }
+
+    @Test
+    void adjustCounts_unknownPost_isNoop() {
+        postSummaryRepository.adjustLikeCount(POST_ID + 1, 1L);
+
+        assertThat(postSummaryRepository.findById(POST_ID + 1)).isEmpty();
+        assertThat(reload().getLikeCount()).isEqualTo(3L);
+    }
+
+    private PostSummary reload() {
+        entityManager.clear();
+        return postSummaryRepository.findById(POST_ID).orElseThrow();
+    }
+}
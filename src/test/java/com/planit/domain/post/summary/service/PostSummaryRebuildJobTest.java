@@ -0,0 +1,100 @@
+package com.planit.domain.post.summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.post.summary.repository.PostSummaryRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PostSummaryRebuildJobTest {
+
+    @Mock
+    private PostSummaryRepository postSummaryRepository;
+
+    @Mock
+    private PostSummaryService postSummaryService;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void rebuild_walksPostIdsInBatches() {
+        PostSummaryRebuildJob job = job(false, 2);
+        when(postSummaryRepository.findPostIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(postSummaryRepository.findPostIdsAfter(2L, 2)).thenReturn(List.of(5L));
+        when(postSummaryRepository.findPostIdsAfter(5L, 2)).thenReturn(List.of());
+        when(postSummaryRepository.deleteRemovedPosts()).thenReturn(1);
+
+        long processed = job.rebuild();
+
+        assertThat(processed).isEqualTo(3L);
+        verify(postSummaryService).refreshAll(List.of(1L, 2L));
+        verify(postSummaryService).refreshAll(List.of(5L));
+        verify(postSummaryRepository).deleteRemovedPosts();
+    }
+
+    @Test
+    void backfillOnStartup_rebuildsWhenSummaryIsBehind() {
+        PostSummaryRebuildJob job = job(false, 500);
+        when(postSummaryRepository.count()).thenReturn(1L);
+        when(postSummaryRepository.countActivePosts()).thenReturn(2L);
+        when(postSummaryRepository.findPostIdsAfter(0L, 500)).thenReturn(List.of());
+
+        job.backfillOnStartup();
+
+        verify(postSummaryRepository).findPostIdsAfter(0L, 500);
+        verify(postSummaryService).markReadable();
+    }
+
+    @Test
+    void backfillOnStartup_upToDate_skipsRebuild() {
+        PostSummaryRebuildJob job = job(false, 500);
+        when(postSummaryRepository.count()).thenReturn(2L);
+        when(postSummaryRepository.countActivePosts()).thenReturn(2L);
+
+        job.backfillOnStartup();
+
+        verify(postSummaryRepository, never()).findPostIdsAfter(anyLong(), anyInt());
+        verify(postSummaryService).markReadable();
+    }
+
+    @Test
+    void backfillOnStartup_failure_keepsSourceTables() {
+        PostSummaryRebuildJob job = job(true, 500);
+        when(postSummaryRepository.count()).thenReturn(0L);
+        when(postSummaryRepository.countActivePosts()).thenReturn(0L);
+        when(postSummaryRepository.findPostIdsAfter(0L, 500)).thenThrow(new RuntimeException("db down"));
+
+        job.backfillOnStartup();
+
+        verify(postSummaryService, never()).markReadable();
+    }
+
+    private PostSummaryRebuildJob job(boolean rebuildOnStartup, int batchSize) {
+        return new PostSummaryRebuildJob(
+                postSummaryRepository,
+                postSummaryService,
+                transactionTemplate,
+                true,
+                rebuildOnStartup,
+                batchSize
+        );
+    }
+}
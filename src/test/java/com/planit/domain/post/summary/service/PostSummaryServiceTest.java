@@ -0,0 +1,91 @@
+package com.planit.domain.post.summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.post.summary.entity.PostSummary;
+import com.planit.domain.post.summary.repository.PostSummaryRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PostSummaryServiceTest {
+
+    @Mock
+    private PostSummaryRepository postSummaryRepository;
+
+    private PostSummaryService postSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        postSummaryService = new PostSummaryService(postSummaryRepository);
+    }
+
+    @Test
+    void refreshAll_createsMissingSummaryFromSource() {
+        PostSummaryRepository.SourceProjection source = source(1L, 4L, 2L, 30L);
+        when(postSummaryRepository.findSources(List.of(1L))).thenReturn(List.of(source));
+        when(postSummaryRepository.findAllById(List.of(1L))).thenReturn(List.of());
+
+        postSummaryService.refreshAll(List.of(1L));
+
+        ArgumentCaptor<PostSummary> captor = ArgumentCaptor.forClass(PostSummary.class);
+        verify(postSummaryRepository).save(captor.capture());
+        PostSummary saved = captor.getValue();
+        assertThat(saved.getPostId()).isEqualTo(1L);
+        assertThat(saved.getLikeCount()).isEqualTo(4L);
+        assertThat(saved.getCommentCount()).isEqualTo(2L);
+        assertThat(saved.getViewCount()).isEqualTo(30L);
+    }
+
+    @Test
+    void refreshAll_overwritesExistingCountsWithSourceTotals() {
+        PostSummary existing = new PostSummary(1L);
+        PostSummaryRepository.SourceProjection source = source(1L, 9L, 0L, 100L);
+        when(postSummaryRepository.findSources(List.of(1L))).thenReturn(List.of(source));
+        when(postSummaryRepository.findAllById(List.of(1L))).thenReturn(List.of(existing));
+
+        postSummaryService.refreshAll(List.of(1L));
+
+        verify(postSummaryRepository).save(existing);
+        assertThat(existing.getLikeCount()).isEqualTo(9L);
+        assertThat(existing.getViewCount()).isEqualTo(100L);
+    }
+
+    @Test
+    void refreshAll_deletesSummaryOfRemovedPost() {
+        PostSummary existing = new PostSummary(2L);
+        when(postSummaryRepository.findSources(List.of(2L))).thenReturn(List.of());
+        when(postSummaryRepository.findAllById(List.of(2L))).thenReturn(List.of(existing));
+
+        postSummaryService.refreshAll(List.of(2L));
+
+        verify(postSummaryRepository).delete(existing);
+        verify(postSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    void refreshAll_emptyIds_doesNotQuery() {
+        postSummaryService.refreshAll(List.of());
+
+        verify(postSummaryRepository, never()).findSources(any());
+    }
+
+    private PostSummaryRepository.SourceProjection source(Long postId, Long likes, Long comments, Long views) {
+        PostSummaryRepository.SourceProjection source = mock(PostSummaryRepository.SourceProjection.class);
+        when(source.getPostId()).thenReturn(postId);
+        when(source.getLikeCount()).thenReturn(likes);
+        when(source.getCommentCount()).thenReturn(comments);
+        when(source.getViewCount()).thenReturn(views);
+        return source;
+    }
+}
@@ -0,0 +1,148 @@
+package com.planit.domain.trip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planit.domain.trip.dto.AiItineraryActivityResponse;
+import com.planit.domain.trip.dto.AiItineraryDayResponse;
+import com.planit.domain.trip.dto.AiItineraryResponse;
+import com.planit.domain.trip.entity.ItineraryDay;
+import com.planit.domain.trip.entity.ItineraryItemPlace;
+import com.planit.domain.trip.entity.ItineraryItemTransport;
+import com.planit.domain.trip.entity.Trip;
+import com.planit.domain.trip.repository.ItineraryDayRepository;
+import com.planit.domain.trip.repository.ItineraryItemPlaceRepository;
+import com.planit.domain.trip.repository.ItineraryItemTransportRepository;
+import com.planit.domain.trip.repository.TripRepository;
+import com.planit.domain.trip.service.AiItineraryProcessor;
+import com.planit.domain.user.entity.User;
+import com.planit.domain.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AiItineraryProcessorTest {
+
+    @Autowired
+    private AiItineraryProcessor processor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private ItineraryDayRepository itineraryDayRepository;
+
+    @Autowired
+    private ItineraryItemPlaceRepository placeRepository;
+
+    @Autowired
+    private ItineraryItemTransportRepository transportRepository;
+
+    @Test
+    void processResponse_savesDaysPlacesAndTransportsInBatches() {
+        User user = userRepository.save(User.builder()
+                .loginId("user1")
+                .password("hashed")
+                .nickname("nick1")
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        Trip trip = tripRepository.save(new Trip(
+                user,
+                "부산 1박 2일",
+                LocalDate.of(2024, 8, 15),
+                LocalDate.of(2024, 8, 16),
+                LocalTime.of(9, 0),
+                LocalTime.of(18, 0),
+                "부산",
+                120000
+        ));
+
+        processor.processResponse(new AiItineraryResponse("ok", trip.getId(), List.of(
+                new AiItineraryDayResponse(1, LocalDate.of(2024, 8, 15), List.of(
+                        new AiItineraryActivityResponse("해운대", null, "attraction", 1,
+                                LocalTime.of(10, 0), 90, 0, "바다", "https://maps.example/1"),
+                        new AiItineraryActivityResponse(null, "WALK", "route", 2,
+                                LocalTime.of(11, 30), 15, null, null, null),
+                        new AiItineraryActivityResponse("광안리", null, "attraction", 3,
+                                null, null, 5000, null, null)
+                )),
+                new AiItineraryDayResponse(2, LocalDate.of(2024, 8, 16), List.of(
+                        new AiItineraryActivityResponse("자갈치시장", null, "food", 1,
+                                LocalTime.of(12, 0), 60, 20000, null, null)
+                ))
+        )));
+
+        List<ItineraryDay> days = itineraryDayRepository.findByTripIdOrderByDayIndex(trip.getId());
+        assertThat(days).extracting(ItineraryDay::getDayIndex).containsExactly(1, 2);
+        assertThat(days.get(0).getDate()).isEqualTo(LocalDate.of(2024, 8, 15).atStartOfDay());
+
+        List<ItineraryItemPlace> firstDayPlaces = placeRepository.findByItineraryDayIdOrderByEventOrder(days.get(0).getId());
+        assertThat(firstDayPlaces).extracting(ItineraryItemPlace::getPlaceName).containsExactly("해운대", "광안리");
+        assertThat(firstDayPlaces.get(0).getStartTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(firstDayPlaces.get(0).getDurationTime()).isEqualTo(LocalTime.of(1, 30));
+        assertThat(firstDayPlaces.get(1).getCost()).isEqualByComparingTo(BigDecimal.valueOf(5000));
+
+        List<ItineraryItemTransport> transports = transportRepository.findByItineraryDayIdOrderByEventOrder(days.get(0).getId());
+        assertThat(transports).extracting(ItineraryItemTransport::getTransport).containsExactly("WALK");
+
+        assertThat(placeRepository.findByItineraryDayIdOrderByEventOrder(days.get(1).getId()))
+                .extracting(ItineraryItemPlace::getPlaceName)
+                .containsExactly("자갈치시장");
+    }
+
+    @Test
+    void processDay_savesEachDayOnce_andFullResultSkipsStreamedDays() {
+        User user = userRepository.save(User.builder()
+                .loginId("user2")
+                .password("hashed")
+                .nickname("nick2")
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        Trip trip = tripRepository.save(new Trip(
+                user,
+                "제주 1박 2일",
+                LocalDate.of(2024, 9, 1),
+                LocalDate.of(2024, 9, 2),
+                LocalTime.of(9, 0),
+                LocalTime.of(18, 0),
+                "제주",
+                200000
+        ));
+        AiItineraryDayResponse day1 = new AiItineraryDayResponse(1, LocalDate.of(2024, 9, 1), List.of(
+                new AiItineraryActivityResponse("성산일출봉", null, "attraction", 1,
+                        LocalTime.of(9, 0), 120, 5000, null, null)
+        ));
+        AiItineraryDayResponse day2 = new AiItineraryDayResponse(2, LocalDate.of(2024, 9, 2), List.of(
+                new AiItineraryActivityResponse("협재해변", null, "attraction", 1,
+                        LocalTime.of(10, 0), 60, 0, null, null)
+        ));
+
+        assertThat(processor.processDay(trip.getId(), day1)).isEqualTo(1);
+        // 같은 날이 다시 전달돼도 중복 저장하지 않는다.
+        assertThat(processor.processDay(trip.getId(), day1)).isEqualTo(1);
+        processor.processResponse(new AiItineraryResponse("ok", trip.getId(), List.of(day1, day2)));
+
+        List<ItineraryDay> days = itineraryDayRepository.findByTripIdOrderByDayIndex(trip.getId());
+        assertThat(days).extracting(ItineraryDay::getDayIndex).containsExactly(1, 2);
+        assertThat(placeRepository.findByItineraryDayIdOrderByEventOrder(days.get(0).getId()))
+                .extracting(ItineraryItemPlace::getPlaceName)
+                .containsExactly("성산일출봉");
+        assertThat(processor.countSavedDays(trip.getId())).isEqualTo(2);
+    }
+}
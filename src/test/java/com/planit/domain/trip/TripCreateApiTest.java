@@ -163,6 +163,17 @@ class TripCreateApiTest {
             return null;
         }).when(itineraryJobRepository).updateStatus(anyLong(), any(ItineraryJobStatus.class), nullable(String.class));
 
+        when(itineraryJobRepository.updateSuccess(anyLong())).thenAnswer(invocation -> {
+            Map<String, String> state = jobStateStore.computeIfAbsent(invocation.getArgument(0), key -> new HashMap<>());
+            if (ItineraryJobStatus.FAIL.name().equals(state.get("status"))) {
+                return false;
+            }
+            state.put("status", ItineraryJobStatus.SUCCESS.name());
+            state.put("errorMessage", "");
+            state.put("updatedAt", Instant.now().toString());
+            return true;
+        });
+
         when(itineraryJobRepository.findStatus(anyLong()))
                 .thenAnswer(invocation -> Optional.ofNullable(jobStateStore.get(invocation.getArgument(0))));
         doNothing().when(itineraryJobRepository).expire(anyLong(), anyLong());
@@ -0,0 +1,95 @@
+package com.planit.domain.trip.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+class ItineraryResultDispatcherTest {
+
+    @Test
+    void sameTripResults_areProcessedInArrivalOrder() {
+        ItineraryResultListener listener = mock(ItineraryResultListener.class);
+        Queue<String> processed = new ConcurrentLinkedQueue<>();
+        doAnswer(invocation -> {
+            MapRecord<String, String, String> message = invocation.getArgument(0);
+            processed.add(message.getValue().get("tripId") + ":" + message.getValue().get("order"));
+            return null;
+        }).when(listener).onMessage(any());
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ItineraryResultDispatcher dispatcher = new ItineraryResultDispatcher(listener, meterRegistry, 4, 2, false);
+        long now = System.currentTimeMillis();
+        for (int order = 0; order < 20; order++) {
+            for (String tripId : List.of("1", "2", "3")) {
+                dispatcher.onMessage(record(tripId, order, RecordId.of(now, order * 3L + Long.parseLong(tripId))));
+            }
+        }
+        dispatcher.shutdown();
+
+        assertThat(processed).hasSize(60);
+        for (String tripId : List.of("1", "2", "3")) {
+            List<String> tripOrder = processed.stream().filter(entry -> entry.startsWith(tripId + ":")).toList();
+            assertThat(tripOrder).isEqualTo(IntStream.range(0, 20).mapToObj(i -> tripId + ":" + i).toList());
+        }
+        long processedCount = meterRegistry.find("itinerary.results.processing").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+        assertThat(processedCount).isEqualTo(60L);
+    }
+
+    @Test
+    void queuedAndRunningRecords_areReportedInFlight_untilProcessed() throws Exception {
+        ItineraryResultListener listener = mock(ItineraryResultListener.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(listener).onMessage(any());
+
+        ItineraryResultDispatcher dispatcher = new ItineraryResultDispatcher(listener, new SimpleMeterRegistry(), 1, 10, false);
+        RecordId running = RecordId.of(1L, 0L);
+        RecordId queued = RecordId.of(1L, 1L);
+        dispatcher.onMessage(record("1", 0, running));
+        dispatcher.onMessage(record("1", 1, queued));
+        started.await();
+
+        assertThat(dispatcher.inFlightIds()).containsExactlyInAnyOrder(running, queued);
+
+        release.countDown();
+        dispatcher.shutdown();
+        assertThat(dispatcher.inFlightIds()).isEmpty();
+    }
+
+    @Test
+    void partitionIndex_isStablePerTrip() {
+        ItineraryResultDispatcher dispatcher = new ItineraryResultDispatcher(
+                mock(ItineraryResultListener.class), new SimpleMeterRegistry(), 4, 10, false);
+
+        assertThat(dispatcher.partitionIndexOf("42")).isEqualTo(dispatcher.partitionIndexOf("42"));
+        assertThat(dispatcher.partitionIndexOf(null)).isBetween(0, 3);
+        dispatcher.shutdown();
+    }
+
+    private static MapRecord<String, String, String> record(String tripId, int order, RecordId id) {
+        return StreamRecords.newRecord()
+                .in("stream:itinerary-results")
+                .withId(id)
+                .ofMap(Map.of("tripId", tripId, "status", "SUCCESS", "order", String.valueOf(order)));
+    }
+}
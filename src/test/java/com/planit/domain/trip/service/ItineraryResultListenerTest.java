@@ -0,0 +1,200 @@
+package com.planit.domain.trip.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planit.domain.trip.config.ItineraryJobProperties;
+import com.planit.domain.trip.config.RedisStreamProperties;
+import com.planit.domain.trip.entity.Trip;
+import com.planit.domain.trip.entity.TripStatus;
+import com.planit.domain.trip.repository.TripRepository;
+import com.planit.domain.trip.service.redisAccessor.ItineraryJobService;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class ItineraryResultListenerTest {
+
+    private static final String RESULTS = "stream:itinerary-results";
+    private static final Long TRIP_ID = 7L;
+
+    private ItineraryJobService jobService;
+    private AiItineraryProcessor processor;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private TripRepository tripRepository;
+    private ItineraryProgressPublisher progressPublisher;
+    private ItineraryResultListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jobService = mock(ItineraryJobService.class);
+        processor = mock(AiItineraryProcessor.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        tripRepository = mock(TripRepository.class);
+        progressPublisher = mock(ItineraryProgressPublisher.class);
+
+        listener = new ItineraryResultListener(
+                new ObjectMapper().findAndRegisterModules(),
+                jobService,
+                processor,
+                redisTemplate,
+                new RedisStreamProperties(),
+                new ItineraryJobProperties(),
+                tripRepository,
+                progressPublisher
+        );
+    }
+
+    @Test
+    void day_isSavedAndProgressPublished() {
+        tripWithStatus(TripStatus.GENERATING);
+        when(processor.processDay(any(), any())).thenReturn(2);
+        when(jobService.markDayDone(TRIP_ID, 2, 3)).thenReturn(true);
+        MapRecord<String, String, String> record = dayRecord("1-0");
+
+        listener.onMessage(record);
+
+        verify(progressPublisher).dayReady(TRIP_ID, 2, 2, 3);
+        verify(streamOperations).acknowledge(RESULTS, "travel-service", record.getId());
+    }
+
+    @Test
+    void dayForFinishedJob_isAckedWithoutSaving() {
+        tripWithStatus(TripStatus.DONE);
+        when(jobService.isFinished(TRIP_ID)).thenReturn(true);
+        MapRecord<String, String, String> record = dayRecord("1-0");
+
+        listener.onMessage(record);
+
+        verify(processor, never()).processDay(any(), any());
+        verify(jobService, never()).markDayDone(anyLong(), anyInt(), anyInt());
+        verify(progressPublisher, never()).dayReady(anyLong(), anyInt(), anyInt(), any());
+        verify(streamOperations).acknowledge(RESULTS, "travel-service", record.getId());
+    }
+
+    @Test
+    void dayForCanceledTrip_isAckedWithoutSaving() {
+        tripWithStatus(TripStatus.CANCELED);
+        MapRecord<String, String, String> record = dayRecord("1-0");
+
+        listener.onMessage(record);
+
+        verify(processor, never()).processDay(any(), any());
+        verify(streamOperations).acknowledge(RESULTS, "travel-service", record.getId());
+    }
+
+    @Test
+    void redeliveredDay_alreadySaved_doesNotFailJob() {
+        tripWithStatus(TripStatus.GENERATING);
+        when(processor.processDay(any(), any())).thenThrow(new DuplicateKeyException("uk_itinerary_days_trip_day"));
+        when(processor.countSavedDays(TRIP_ID)).thenReturn(2);
+        when(jobService.markDayDone(TRIP_ID, 2, 3)).thenReturn(true);
+
+        listener.onMessage(dayRecord("1-0"));
+
+        verify(jobService, never()).markFail(anyLong(), anyString());
+        verify(progressPublisher).dayReady(TRIP_ID, 2, 2, 3);
+    }
+
+    @Test
+    void dayFinishingAfterJobTurnedTerminal_doesNotPublishProgress() {
+        tripWithStatus(TripStatus.GENERATING);
+        when(processor.processDay(any(), any())).thenReturn(2);
+        when(jobService.markDayDone(TRIP_ID, 2, 3)).thenReturn(false);
+
+        listener.onMessage(dayRecord("1-0"));
+
+        verify(progressPublisher, never()).dayReady(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void successAfterDayFailure_doesNotCompleteJob() {
+        Trip trip = tripWithStatus(TripStatus.GENERATING);
+        AtomicBoolean failed = new AtomicBoolean();
+        when(jobService.isFinished(TRIP_ID)).thenAnswer(invocation -> failed.get());
+        doAnswer(invocation -> {
+            failed.set(true);
+            return null;
+        }).when(jobService).markFail(TRIP_ID, "RESULT_PROCESSING_FAILED");
+        when(processor.processDay(any(), any())).thenThrow(new IllegalStateException("db down"));
+        when(processor.countSavedDays(TRIP_ID)).thenReturn(1);
+        MapRecord<String, String, String> success = successRecord("2-0");
+
+        listener.onMessage(dayRecord("1-0"));
+        listener.onMessage(success);
+
+        verify(trip).updateStatus(TripStatus.CANCELED);
+        verify(trip, never()).updateStatus(TripStatus.DONE);
+        verify(jobService, never()).markProcessing(anyLong());
+        verify(jobService, never()).markSuccess(anyLong());
+        verify(progressPublisher, never()).completed(anyLong(), anyInt());
+        verify(streamOperations).acknowledge(RESULTS, "travel-service", success.getId());
+    }
+
+    @Test
+    void success_whenJobAlreadyFailed_leavesTripUntouched() {
+        Trip trip = tripWithStatus(TripStatus.GENERATING);
+        when(processor.countSavedDays(TRIP_ID)).thenReturn(2);
+        when(jobService.markSuccess(TRIP_ID)).thenReturn(false);
+
+        listener.onMessage(successRecord("2-0"));
+
+        verify(trip, never()).updateStatus(TripStatus.DONE);
+        verify(progressPublisher, never()).completed(anyLong(), anyInt());
+    }
+
+    @Test
+    void success_afterAllDays_completesJob() {
+        Trip trip = tripWithStatus(TripStatus.GENERATING);
+        when(processor.countSavedDays(TRIP_ID)).thenReturn(3);
+        when(jobService.markSuccess(TRIP_ID)).thenReturn(true);
+
+        listener.onMessage(successRecord("2-0"));
+
+        verify(trip).updateStatus(TripStatus.DONE);
+        verify(progressPublisher).completed(TRIP_ID, 3);
+    }
+
+    private Trip tripWithStatus(TripStatus status) {
+        Trip trip = mock(Trip.class);
+        when(trip.getStatus()).thenReturn(status);
+        when(tripRepository.findById(TRIP_ID)).thenReturn(Optional.of(trip));
+        return trip;
+    }
+
+    private static MapRecord<String, String, String> successRecord(String recordId) {
+        return MapRecord.<String, String, String>create(RESULTS, Map.of(
+                "tripId", String.valueOf(TRIP_ID),
+                "status", "SUCCESS",
+                "payload", ""
+        )).withId(RecordId.of(recordId));
+    }
+
+    private static MapRecord<String, String, String> dayRecord(String recordId) {
+        return MapRecord.<String, String, String>create(RESULTS, Map.of(
+                "tripId", String.valueOf(TRIP_ID),
+                "status", "DAY",
+                "day", "2",
+                "totalDays", "3",
+                "payload", "{\"day\":2,\"date\":\"2026-10-18\",\"activities\":[]}"
+        )).withId(RecordId.of(recordId));
+    }
+}
@@ -0,0 +1,62 @@
+package com.planit.domain.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.user.entity.User;
+import com.planit.domain.user.repository.UserRepository;
+import com.planit.infrastructure.storage.S3ImageUrlResolver;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class UserProfileSnapshotCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final S3ImageUrlResolver imageUrlResolver = mock(S3ImageUrlResolver.class);
+    private final UserProfileSnapshotCache cache =
+            new UserProfileSnapshotCache(userRepository, imageUrlResolver, 100, Duration.ofMinutes(10));
+
+    @Test
+    void getAll_loadsMissesOnceAndServesRepeatsFromMemory() {
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(1L, "alice", "profile/a.png")));
+        when(imageUrlResolver.resolve("profile/a.png")).thenReturn("https://cdn/profile/a.png");
+
+        cache.getAll(List.of(1L));
+        UserProfileSnapshotCache.UserProfileSnapshot snapshot = cache.getAll(List.of(1L)).get(1L);
+
+        assertThat(snapshot.nickname()).isEqualTo("alice");
+        assertThat(snapshot.profileImageUrl()).isEqualTo("https://cdn/profile/a.png");
+        verify(userRepository, times(1)).findAllById(anyIterable());
+    }
+
+    @Test
+    void invalidate_reloadsUpdatedProfile() {
+        when(userRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(user(1L, "alice", null)))
+                .thenReturn(List.of(user(1L, "alice2", null)));
+
+        assertThat(cache.get(1L).nickname()).isEqualTo("alice");
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L).nickname()).isEqualTo("alice2");
+    }
+
+    private User user(Long id, String nickname, String profileImageKey) {
+        return User.builder()
+                .id(id)
+                .loginId("login" + id)
+                .password("hashed")
+                .nickname(nickname)
+                .profileImageKey(profileImageKey)
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.planit.global.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorMetricsAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("모니터링 대역 밖에서는 로그인한 사용자도 metrics 를 조회할 수 없음")
+    @WithMockUser
+    void metricsFromOutsideMonitoringNetwork_isForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(request -> {
+                    request.setRemoteAddr("203.0.113.10");
+                    return request;
+                }))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("모니터링 대역이어도 토큰이 없으면 metrics 를 조회할 수 없음")
+    void metricsFromMonitoringNetwork_withoutToken_isUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(request -> {
+                    request.setRemoteAddr("127.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("같은 호스트 프록시를 거친 요청은 loopback 이어도 metrics 를 조회할 수 없음")
+    @WithMockUser
+    void metricsThroughLocalProxy_isForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("X-Forwarded-For", "203.0.113.10")
+                        .with(request -> {
+                            request.setRemoteAddr("127.0.0.1");
+                            return request;
+                        }))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("모니터링 대역에서 직접 들어온 인증 요청은 metrics 를 조회할 수 있음")
+    @WithMockUser
+    void metricsFromMonitoringNetwork_withToken_isAllowed() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(request -> {
+                    request.setRemoteAddr("127.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,77 @@
+package com.planit.global.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.trip.config.RedisStreamProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class StreamAppenderTest {
+
+    private StringRedisTemplate redisTemplate;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private RedisStreamCommands streamCommands;
+    private RedisStreamProperties properties;
+    private StreamAppender appender;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        RedisConnection connection = mock(RedisConnection.class);
+        streamCommands = mock(RedisStreamCommands.class);
+        when(connection.streamCommands()).thenReturn(streamCommands);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        properties = new RedisStreamProperties();
+        appender = new StreamAppender(redisTemplate, properties);
+    }
+
+    @Test
+    void add_capsStreamWithApproximateMaxLen() {
+        properties.getAiResultsRetention().setMaxLen(5000);
+        when(streamCommands.xAdd(any(ByteRecord.class), any(XAddOptions.class))).thenReturn(RecordId.of("1-0"));
+
+        RecordId id = appender.add("stream:itinerary-results", Map.of("tripId", "7"));
+
+        ArgumentCaptor<ByteRecord> record = ArgumentCaptor.forClass(ByteRecord.class);
+        ArgumentCaptor<XAddOptions> options = ArgumentCaptor.forClass(XAddOptions.class);
+        verify(streamCommands).xAdd(record.capture(), options.capture());
+        assertThat(id).isEqualTo(RecordId.of("1-0"));
+        assertThat(new String(record.getValue().getStream(), StandardCharsets.UTF_8)).isEqualTo("stream:itinerary-results");
+        assertThat(options.getValue().getMaxlen()).isEqualTo(5000L);
+        assertThat(options.getValue().isApproximateTrimming()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void add_withoutCap_usesPlainXadd() {
+        properties.getChatJobsRetention().setMaxLen(0);
+
+        appender.add("stream:chat-jobs", Map.of("tripId", "7"));
+        appender.add("stream:unknown", Map.of("tripId", "7"));
+
+        verify(streamOperations, times(2)).add(any(MapRecord.class));
+        verify(streamCommands, never()).xAdd(any(ByteRecord.class), any(XAddOptions.class));
+    }
+}
@@ -0,0 +1,149 @@
+package com.planit.global.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.planit.domain.trip.config.RedisStreamProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+
+class StreamPendingReclaimerTest {
+
+    private static final String STREAM = "stream:itinerary-results";
+    private static final String GROUP = "travel-service";
+    private static final String DEAD_LETTER = "stream:itinerary-results:dlq";
+
+    private StringRedisTemplate redisTemplate;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private RedisStreamProperties properties;
+    private StreamAppender streamAppender;
+    private StreamListener<String, MapRecord<String, String, String>> listener;
+    private StreamPendingReclaimer reclaimer;
+    private StreamPendingReclaimer.Target target;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        streamAppender = mock(StreamAppender.class);
+        listener = mock(StreamListener.class);
+
+        properties = new RedisStreamProperties();
+        properties.setReclaimMinIdle(Duration.ofMinutes(5));
+        properties.setReclaimMaxDeliveries(3);
+        reclaimer = new StreamPendingReclaimer(redisTemplate, properties, streamAppender, Runnable::run);
+        target = new StreamPendingReclaimer.Target(STREAM, GROUP, "pod-b", DEAD_LETTER, listener);
+    }
+
+    @Test
+    void idleEntries_areClaimedAndRedelivered_andExhaustedOnesAreDeadLettered() {
+        RecordId retry = RecordId.of("1-0");
+        RecordId poison = RecordId.of("2-0");
+        RecordId recent = RecordId.of("3-0");
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), anyLong())).thenReturn(new PendingMessages(GROUP, List.of(
+                new PendingMessage(retry, Consumer.from(GROUP, "pod-a"), Duration.ofMinutes(10), 1),
+                new PendingMessage(poison, Consumer.from(GROUP, "pod-a"), Duration.ofMinutes(10), 3),
+                new PendingMessage(recent, Consumer.from(GROUP, "pod-a"), Duration.ofSeconds(10), 1)
+        )));
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), eq("pod-b"), any(Duration.class), eq(poison)))
+                .thenReturn(List.of(record(poison)));
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), eq("pod-b"), any(Duration.class), eq(retry)))
+                .thenReturn(List.of(record(retry)));
+
+        reclaimer.reclaim(target);
+
+        verify(listener).onMessage(argThat(message -> message.getId().equals(retry)
+                && "7".equals(message.getValue().get("tripId"))));
+        verify(listener, never()).onMessage(argThat(message -> message.getId().equals(poison)));
+        verify(streamAppender).add(eq(DEAD_LETTER), ArgumentMatchers.<Map<String, String>>argThat(fields ->
+                "2-0".equals(fields.get("sourceId")) && !fields.containsKey("userJwt")));
+        verify(streamOperations).acknowledge(STREAM, GROUP, poison);
+        verify(streamOperations, never()).claim(any(), any(), any(), any(Duration.class), eq(recent));
+    }
+
+    @Test
+    void claimedEntries_areHandedToExecutor_notRunOnSchedulerThread() {
+        List<Runnable> handedOff = new ArrayList<>();
+        StreamPendingReclaimer queuedReclaimer = new StreamPendingReclaimer(redisTemplate, properties, streamAppender, handedOff::add);
+        RecordId retry = RecordId.of("1-0");
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), anyLong())).thenReturn(new PendingMessages(GROUP, List.of(
+                new PendingMessage(retry, Consumer.from(GROUP, "pod-a"), Duration.ofMinutes(10), 1)
+        )));
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), eq("pod-b"), any(Duration.class), eq(retry)))
+                .thenReturn(List.of(record(retry)));
+
+        queuedReclaimer.reclaim(target);
+
+        verify(listener, never()).onMessage(any());
+        assertThat(target.handedOff()).containsExactly(retry);
+
+        handedOff.forEach(Runnable::run);
+
+        verify(listener).onMessage(argThat(message -> message.getId().equals(retry)));
+        assertThat(target.handedOff()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void entriesHeldByListener_areTouchedWithJustId_andNotReclaimed() {
+        RecordId held = RecordId.of("1-0");
+        StreamListener<String, MapRecord<String, String, String>> inFlightListener =
+                mock(StreamListener.class, withSettings().extraInterfaces(StreamInFlightRecords.class));
+        when(((StreamInFlightRecords) inFlightListener).inFlightIds()).thenReturn(Set.of(held));
+        StreamPendingReclaimer.Target heldTarget = new StreamPendingReclaimer.Target(STREAM, GROUP, "pod-b", DEAD_LETTER, inFlightListener);
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStreamCommands streamCommands = mock(RedisStreamCommands.class);
+        when(connection.streamCommands()).thenReturn(streamCommands);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        // 한도 뒤에서 오래 기다려 idle 이 min-idle 을 넘은 상태
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), anyLong())).thenReturn(new PendingMessages(GROUP, List.of(
+                new PendingMessage(held, Consumer.from(GROUP, "pod-b"), Duration.ofMinutes(10), 1)
+        )));
+
+        reclaimer.reclaim(heldTarget);
+
+        verify(streamCommands).xClaimJustId(
+                eq(STREAM.getBytes(StandardCharsets.UTF_8)),
+                eq(GROUP),
+                eq("pod-b"),
+                argThat(options -> options.getMinIdleTime().isZero() && options.getIds().equals(List.of(held))));
+        verify(streamOperations, never()).claim(any(), any(), any(), any(Duration.class), any(RecordId[].class));
+        verify(inFlightListener, never()).onMessage(any());
+    }
+
+    private static MapRecord<String, Object, Object> record(RecordId id) {
+        return MapRecord.<String, Object, Object>create(STREAM, Map.of("tripId", "7", "status", "SUCCESS", "userJwt", "secret"))
+                .withId(id);
+    }
+}
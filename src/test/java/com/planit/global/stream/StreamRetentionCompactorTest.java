@@ -0,0 +1,129 @@
+package com.planit.global.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planit.domain.trip.config.RedisStreamProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class StreamRetentionCompactorTest {
+
+    private static final String STREAM = "stream:itinerary-results";
+
+    private StringRedisTemplate redisTemplate;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private RedisStreamProperties properties;
+    private StreamRetentionCompactor compactor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(redisTemplate.hasKey(STREAM)).thenReturn(true);
+        properties = new RedisStreamProperties();
+        compactor = new StreamRetentionCompactor(redisTemplate, properties);
+    }
+
+    @Test
+    void groupWithoutPending_isTrimmedUpToLastDeliveredId() {
+        groups(group("travel-service", 0, "500-3"));
+
+        assertThat(compactor.trimCutoff(STREAM)).isEqualTo(RecordId.of("500-3"));
+        verify(streamOperations, never()).pending(any(String.class), any(String.class));
+    }
+
+    @Test
+    void laggingConsumer_holdsCutoffAtOldestPendingId() {
+        groups(
+                group("travel-service", 0, "900-0"),
+                group("audit", 2, "800-0")
+        );
+        when(streamOperations.pending(STREAM, "audit"))
+                .thenReturn(new PendingMessagesSummary("audit", 2, Range.closed("300-1", "700-0"), Map.of("pod-a", 2L)));
+
+        assertThat(compactor.trimCutoff(STREAM)).isEqualTo(RecordId.of("300-1"));
+    }
+
+    @Test
+    void recentEntries_areKeptForMinAge() {
+        properties.getAiResultsRetention().setMinAge(Duration.ofMinutes(5));
+        long now = System.currentTimeMillis();
+        groups(group("travel-service", 0, now + "-0"));
+
+        RecordId cutoff = compactor.trimCutoff(STREAM);
+
+        assertThat(cutoff.getTimestamp()).isLessThanOrEqualTo(now - Duration.ofMinutes(5).toMillis());
+    }
+
+    @Test
+    void streamWithoutGroupOrDelivery_isNotTrimmed() {
+        groups();
+        assertThat(compactor.trimCutoff(STREAM)).isNull();
+
+        groups(group("travel-service", 0, "0-0"));
+        assertThat(compactor.trimCutoff(STREAM)).isNull();
+
+        when(redisTemplate.hasKey(STREAM)).thenReturn(false);
+        assertThat(compactor.trimCutoff(STREAM)).isNull();
+
+        assertThat(compactor.compact(STREAM)).isZero();
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    void compact_issuesApproximateMinIdTrim() {
+        groups(group("travel-service", 0, "500-3"));
+        List<String> command = new ArrayList<>();
+        RedisConnection connection = mock(RedisConnection.class, invocation -> {
+            if (!invocation.getMethod().getName().equals("execute")) {
+                return null;
+            }
+            command.add(invocation.getArgument(0));
+            for (byte[] arg : (byte[][]) invocation.getRawArguments()[1]) {
+                command.add(new String(arg, StandardCharsets.UTF_8));
+            }
+            return 4L;
+        });
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+
+        assertThat(compactor.compact(STREAM)).isEqualTo(4L);
+        assertThat(command).containsExactly("XTRIM", STREAM, "MINID", "~", "500-3");
+    }
+
+    private void groups(StreamInfo.XInfoGroup... groups) {
+        StreamInfo.XInfoGroups infoGroups = mock(StreamInfo.XInfoGroups.class);
+        when(infoGroups.isEmpty()).thenReturn(groups.length == 0);
+        when(infoGroups.stream()).thenAnswer(invocation -> Stream.of(groups));
+        when(streamOperations.groups(STREAM)).thenReturn(infoGroups);
+    }
+
+    private static StreamInfo.XInfoGroup group(String name, long pending, String lastDeliveredId) {
+        StreamInfo.XInfoGroup group = mock(StreamInfo.XInfoGroup.class);
+        when(group.groupName()).thenReturn(name);
+        when(group.pendingCount()).thenReturn(pending);
+        when(group.lastDeliveredId()).thenReturn(lastDeliveredId);
+        return group;
+    }
+}
@@ -0,0 +1,74 @@
+package com.planit.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planit.global.config.WebSocketBrokerProperties;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class TopicPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpMessagingTemplate messagingTemplate;
+    private StringRedisTemplate redisTemplate;
+    private WebSocketBrokerProperties properties;
+    private TopicPublisher publisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(redisTemplate);
+        properties = new WebSocketBrokerProperties();
+        publisher = new TopicPublisher(messagingTemplate, provider, objectMapper, properties);
+    }
+
+    @Test
+    void simpleMode_sendsToLocalBroker() {
+        publisher.publish("/topic/trips/1/chat", Map.of("content", "hi"));
+
+        verify(messagingTemplate).convertAndSend("/topic/trips/1/chat", (Object) Map.of("content", "hi"));
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void redisMode_publishesEnvelopeInsteadOfLocalSend() throws Exception {
+        properties.setMode(WebSocketBrokerProperties.Mode.REDIS);
+
+        publisher.publish("/topic/trips/1/chat", Map.of("content", "hi"));
+
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("ws:topic-fanout"), body.capture());
+        JsonNode envelope = objectMapper.readTree(body.getValue());
+        assertThat(envelope.path("destination").asText()).isEqualTo("/topic/trips/1/chat");
+        assertThat(envelope.path("payload").path("content").asText()).isEqualTo("hi");
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void redisMode_fallsBackToLocalBrokerWhenRedisFails() {
+        properties.setMode(WebSocketBrokerProperties.Mode.REDIS);
+        doThrow(new IllegalStateException("down")).when(redisTemplate).convertAndSend(anyString(), any());
+
+        publisher.publish("/topic/trips/1/chat", "hello");
+
+        verify(messagingTemplate).convertAndSend("/topic/trips/1/chat", (Object) "hello");
+    }
+}